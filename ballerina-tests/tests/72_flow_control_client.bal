@@ -0,0 +1,47 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/lang.runtime as runtime;
+import ballerina/test;
+
+@test:Config {enable: true}
+function testFlowControlOfCallerAndStreamingClient() returns error? {
+    FlowControl72Client ep = check new ("http://localhost:9172");
+    Chat72StreamingClient streamingClient = check ep->chat72();
+    string[] messages = ["Hi", "Hey", "GM"];
+    foreach string message in messages {
+        check streamingClient.awaitReady();
+        test:assertTrue(streamingClient.isReady());
+        check streamingClient->sendString(message);
+    }
+    check streamingClient->complete();
+    // No more messages can be sent once the stream is completed.
+    test:assertFalse(streamingClient.isReady());
+    test:assertTrue(streamingClient.awaitReady() is grpc:Error);
+
+    foreach string message in messages {
+        string? response = check streamingClient->receiveString();
+        test:assertEquals(response, string `${message}: true`);
+    }
+    string? response = check streamingClient->receiveString();
+    test:assertEquals(response, ());
+
+    // The caller is no longer ready once the call is completed.
+    runtime:sleep(1);
+    test:assertFalse(callerReadyAfterComplete);
+    test:assertTrue(callerAwaitReadyFailedAfterComplete);
+}
@@ -0,0 +1,128 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/protobuf.types.wrappers;
+
+const string FLOW_CONTROL_DESC = "0A1537325F666C6F775F636F6E74726F6C2E70726F746F1A1E676F6F676C652F70726F746F6275662F77726170706572732E70726F746F32590A0D466C6F77436F6E74726F6C373212480A06636861743732121C2E676F6F676C652E70726F746F6275662E537472696E6756616C75651A1C2E676F6F676C652E70726F746F6275662E537472696E6756616C756528013001620670726F746F33";
+
+public isolated client class FlowControl72Client {
+    *grpc:AbstractClientEndpoint;
+
+    private final grpc:Client grpcClient;
+
+    public isolated function init(string url, *grpc:ClientConfiguration config) returns grpc:Error? {
+        self.grpcClient = check new (url, config);
+        check self.grpcClient.initStub(self, FLOW_CONTROL_DESC);
+    }
+
+    isolated remote function chat72() returns Chat72StreamingClient|grpc:Error {
+        grpc:StreamingClient sClient = check self.grpcClient->executeBidirectionalStreaming("FlowControl72/chat72");
+        return new Chat72StreamingClient(sClient);
+    }
+}
+
+public client class Chat72StreamingClient {
+    private grpc:StreamingClient sClient;
+
+    isolated function init(grpc:StreamingClient sClient) {
+        self.sClient = sClient;
+    }
+
+    isolated remote function sendString(string message) returns grpc:Error? {
+        return self.sClient->send(message);
+    }
+
+    isolated remote function sendContextString(wrappers:ContextString message) returns grpc:Error? {
+        return self.sClient->send(message);
+    }
+
+    isolated remote function receiveString() returns string|grpc:Error? {
+        var response = check self.sClient->receive();
+        if response is () {
+            return response;
+        } else {
+            [anydata, map<string|string[]>] [payload, _] = response;
+            return payload.toString();
+        }
+    }
+
+    isolated remote function receiveContextString() returns wrappers:ContextString|grpc:Error? {
+        var response = check self.sClient->receive();
+        if response is () {
+            return response;
+        } else {
+            [anydata, map<string|string[]>] [payload, headers] = response;
+            return {content: payload.toString(), headers: headers};
+        }
+    }
+
+    isolated remote function sendError(grpc:Error response) returns grpc:Error? {
+        return self.sClient->sendError(response);
+    }
+
+    isolated remote function complete() returns grpc:Error? {
+        return self.sClient->complete();
+    }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
+}
+
+public client class FlowControl72StringCaller {
+    private grpc:Caller caller;
+
+    public isolated function init(grpc:Caller caller) {
+        self.caller = caller;
+    }
+
+    public isolated function getId() returns int {
+        return self.caller.getId();
+    }
+
+    isolated remote function sendString(string response) returns grpc:Error? {
+        return self.caller->send(response);
+    }
+
+    isolated remote function sendContextString(wrappers:ContextString response) returns grpc:Error? {
+        return self.caller->send(response);
+    }
+
+    isolated remote function sendError(grpc:Error response) returns grpc:Error? {
+        return self.caller->sendError(response);
+    }
+
+    isolated remote function complete() returns grpc:Error? {
+        return self.caller->complete();
+    }
+
+    public isolated function isCancelled() returns boolean {
+        return self.caller.isCancelled();
+    }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
+}
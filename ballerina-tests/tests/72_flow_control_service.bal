@@ -0,0 +1,37 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+
+listener grpc:Listener ep72 = new (9172);
+boolean callerReadyAfterComplete = true;
+boolean callerAwaitReadyFailedAfterComplete = false;
+
+@grpc:Descriptor {value: FLOW_CONTROL_DESC}
+service "FlowControl72" on ep72 {
+
+    remote function chat72(FlowControl72StringCaller caller, stream<string, error?> clientStream) returns error? {
+        check clientStream.forEach(function(string message) {
+            // This is the only producer of the call, so the caller stays ready until the response is sent.
+            checkpanic caller.awaitReady();
+            boolean ready = caller.isReady();
+            checkpanic caller->sendString(string `${message}: ${ready}`);
+        });
+        check caller->complete();
+        callerReadyAfterComplete = caller.isReady();
+        callerAwaitReadyFailedAfterComplete = caller.awaitReady() is grpc:Error;
+    }
+}
@@ -0,0 +1,58 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/test;
+import ballerina/time;
+
+@test:Config {enable: true}
+isolated function testCallWithinTimeout() returns grpc:Error? {
+    CallTimeout73Client timeoutClient = check new ("http://localhost:9173");
+    map<string|string[]> headers = grpc:setTimeout(10);
+    string response = check timeoutClient->callWithinTimeout({content: "WSO2", headers: headers});
+    test:assertEquals(response, "Ack");
+}
+
+@test:Config {enable: true}
+isolated function testCallExceedingTimeout() returns grpc:Error? {
+    CallTimeout73Client timeoutClient = check new ("http://localhost:9173");
+    map<string|string[]> headers = grpc:setTimeout(1);
+    decimal startedAt = time:monotonicNow();
+    string|grpc:Error response = timeoutClient->callExceedingTimeout({content: "WSO2", headers: headers});
+    test:assertTrue(response is grpc:DeadlineExceededError);
+    // The call is failed once the timeout is passed, without waiting for the response of the service.
+    test:assertTrue(time:monotonicNow() - startedAt < 4d);
+}
+
+@test:Config {enable: true}
+isolated function testCallTimeoutOfClient() returns grpc:Error? {
+    CallTimeout73Client timeoutClient = check new ("http://localhost:9173", callTimeout = 1);
+    decimal startedAt = time:monotonicNow();
+    string|grpc:Error response = timeoutClient->callExceedingTimeout("WSO2");
+    test:assertTrue(response is grpc:DeadlineExceededError);
+    test:assertTrue(time:monotonicNow() - startedAt < 4d);
+
+    // The timeout of the client is sent to the server with each call.
+    string withinTimeout = check timeoutClient->callWithinTimeout("WSO2");
+    test:assertEquals(withinTimeout, "Ack");
+}
+
+@test:Config {enable: true}
+isolated function testTimeoutHeader() {
+    test:assertEquals(grpc:setTimeout(2.5)[grpc:TIMEOUT_HEADER], "2500m");
+    test:assertEquals(grpc:setTimeout(200000)[grpc:TIMEOUT_HEADER], "200000S");
+    test:assertEquals(grpc:setTimeout(-1)[grpc:TIMEOUT_HEADER], "0m");
+}
@@ -0,0 +1,128 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/protobuf.types.wrappers;
+
+const string CALL_TIMEOUT_DESC = "0A1537335F63616C6C5F74696D656F75742E70726F746F1A1E676F6F676C652F70726F746F6275662F77726170706572732E70726F746F32B4010A0D43616C6C54696D656F75743733124F0A1163616C6C57697468696E54696D656F7574121C2E676F6F676C652E70726F746F6275662E537472696E6756616C75651A1C2E676F6F676C652E70726F746F6275662E537472696E6756616C756512520A1463616C6C457863656564696E6754696D656F7574121C2E676F6F676C652E70726F746F6275662E537472696E6756616C75651A1C2E676F6F676C652E70726F746F6275662E537472696E6756616C7565620670726F746F33";
+
+public isolated client class CallTimeout73Client {
+    *grpc:AbstractClientEndpoint;
+
+    private final grpc:Client grpcClient;
+
+    public isolated function init(string url, *grpc:ClientConfiguration config) returns grpc:Error? {
+        self.grpcClient = check new (url, config);
+        check self.grpcClient.initStub(self, CALL_TIMEOUT_DESC);
+    }
+
+    isolated remote function callWithinTimeout(string|wrappers:ContextString req) returns string|grpc:Error {
+        map<string|string[]> headers = {};
+        string message;
+        if req is wrappers:ContextString {
+            message = req.content;
+            headers = req.headers;
+        } else {
+            message = req;
+        }
+        var payload = check self.grpcClient->executeSimpleRPC("CallTimeout73/callWithinTimeout", message, headers);
+        [anydata, map<string|string[]>] [result, _] = payload;
+        return result.toString();
+    }
+
+    isolated remote function callWithinTimeoutContext(string|wrappers:ContextString req) returns wrappers:ContextString|grpc:Error {
+        map<string|string[]> headers = {};
+        string message;
+        if req is wrappers:ContextString {
+            message = req.content;
+            headers = req.headers;
+        } else {
+            message = req;
+        }
+        var payload = check self.grpcClient->executeSimpleRPC("CallTimeout73/callWithinTimeout", message, headers);
+        [anydata, map<string|string[]>] [result, respHeaders] = payload;
+        return {content: result.toString(), headers: respHeaders};
+    }
+
+    isolated remote function callExceedingTimeout(string|wrappers:ContextString req) returns string|grpc:Error {
+        map<string|string[]> headers = {};
+        string message;
+        if req is wrappers:ContextString {
+            message = req.content;
+            headers = req.headers;
+        } else {
+            message = req;
+        }
+        var payload = check self.grpcClient->executeSimpleRPC("CallTimeout73/callExceedingTimeout", message, headers);
+        [anydata, map<string|string[]>] [result, _] = payload;
+        return result.toString();
+    }
+
+    isolated remote function callExceedingTimeoutContext(string|wrappers:ContextString req) returns wrappers:ContextString|grpc:Error {
+        map<string|string[]> headers = {};
+        string message;
+        if req is wrappers:ContextString {
+            message = req.content;
+            headers = req.headers;
+        } else {
+            message = req;
+        }
+        var payload = check self.grpcClient->executeSimpleRPC("CallTimeout73/callExceedingTimeout", message, headers);
+        [anydata, map<string|string[]>] [result, respHeaders] = payload;
+        return {content: result.toString(), headers: respHeaders};
+    }
+}
+
+public client class CallTimeout73StringCaller {
+    private grpc:Caller caller;
+
+    public isolated function init(grpc:Caller caller) {
+        self.caller = caller;
+    }
+
+    public isolated function getId() returns int {
+        return self.caller.getId();
+    }
+
+    isolated remote function sendString(string response) returns grpc:Error? {
+        return self.caller->send(response);
+    }
+
+    isolated remote function sendContextString(wrappers:ContextString response) returns grpc:Error? {
+        return self.caller->send(response);
+    }
+
+    isolated remote function sendError(grpc:Error response) returns grpc:Error? {
+        return self.caller->sendError(response);
+    }
+
+    isolated remote function complete() returns grpc:Error? {
+        return self.caller->complete();
+    }
+
+    public isolated function isCancelled() returns boolean {
+        return self.caller.isCancelled();
+    }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
+}
+
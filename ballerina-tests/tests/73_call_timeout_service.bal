@@ -0,0 +1,39 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/lang.runtime as runtime;
+import ballerina/protobuf.types.wrappers;
+
+listener grpc:Listener ep73 = new (9173);
+
+@grpc:Descriptor {
+    value: CALL_TIMEOUT_DESC
+}
+service "CallTimeout73" on ep73 {
+
+    remote isolated function callWithinTimeout(wrappers:ContextString request) returns string|grpc:Error {
+        if request.headers[grpc:TIMEOUT_HEADER] is string {
+            return "Ack";
+        }
+        return error grpc:InvalidArgumentError("The timeout of the call is not received");
+    }
+
+    remote isolated function callExceedingTimeout(string request) returns string {
+        runtime:sleep(5);
+        return "Ack";
+    }
+}
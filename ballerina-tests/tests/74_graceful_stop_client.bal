@@ -0,0 +1,56 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/lang.runtime as runtime;
+import ballerina/test;
+import ballerina/time;
+
+@test:Config {enable: true}
+function testGracefulStopWithInflightCall() returns error? {
+    check ep74.attach(newGracefulStopService(), "GracefulStop74");
+    check ep74.'start();
+    GracefulStop74Client stopClient = check new ("http://localhost:9174");
+    future<string|grpc:Error> inflight = start stopClient->slowCall("WSO2");
+    // Lets the call reach the remote function before the listener is stopped.
+    runtime:sleep(1);
+
+    decimal stoppingAt = time:monotonicNow();
+    check ep74.gracefulStop();
+    // The graceful stop returns once the in-flight call is completed.
+    test:assertTrue(time:monotonicNow() - stoppingAt >= 1d);
+    string|grpc:Error response = wait inflight;
+    test:assertEquals(response, "Ack");
+
+    string|grpc:Error refused = stopClient->slowCall("WSO2");
+    test:assertTrue(refused is grpc:Error);
+}
+
+@test:Config {enable: true}
+function testGracefulStopTimeout() returns error? {
+    check ep74WithTimeout.attach(newGracefulStopService(), "GracefulStop74");
+    check ep74WithTimeout.'start();
+    GracefulStop74Client stopClient = check new ("http://localhost:9175");
+    future<string|grpc:Error> inflight = start stopClient->slowCall("WSO2");
+    runtime:sleep(1);
+
+    decimal stoppingAt = time:monotonicNow();
+    check ep74WithTimeout.gracefulStop();
+    // The in-flight call is cancelled once the graceful stop timeout is passed.
+    test:assertTrue(time:monotonicNow() - stoppingAt < 2d);
+    string|grpc:Error response = wait inflight;
+    test:assertTrue(response is grpc:Error);
+}
@@ -0,0 +1,31 @@
+// Copyright (c) 2022 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/grpc;
+import ballerina/lang.runtime as runtime;
+
+grpc:Listener ep74 = check new (9174, gracefulStopTimeout = 10);
+grpc:Listener ep74WithTimeout = check new (9175, gracefulStopTimeout = 1);
+
+isolated function newGracefulStopService() returns grpc:Service {
+    return @grpc:Descriptor {value: GRACEFUL_STOP_DESC}
+    service object {
+        remote isolated function slowCall(string value) returns string {
+            runtime:sleep(3);
+            return "Ack";
+        }
+    };
+}
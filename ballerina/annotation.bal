@@ -39,8 +39,59 @@ public annotation DescriptorData Descriptor on service;
 # Contains the configurations for a gRPC service.
 #
 # + auth - Listener authenticaton configurations
+# + concurrency - The concurrency limit shared by all the remote functions of the service
+# + methodConcurrency - The concurrency limits of the remote functions, keyed by the remote function name. A remote
+# function with its own limit is not counted against the limit of the service
+# + methodCache - The response caches of the simple remote functions, keyed by the remote function name
+# + methodCoalescing - The call coalescing of the simple remote functions, keyed by the remote function name
 public type GrpcServiceConfig record {|
     ListenerAuthConfig[] auth?;
+    ConcurrencyLimit concurrency?;
+    map<ConcurrencyLimit> methodConcurrency?;
+    map<ResponseCacheConfig> methodCache?;
+    map<CallCoalescingConfig> methodCoalescing?;
+|};
+
+# Configurations for the concurrency limit of a service or a remote function, which keeps the expensive calls from
+# starving the other calls of the listener.
+#
+# + maxConcurrentCalls - The maximum number of calls, which are started but not yet completed
+# + maxQueuedCalls - The maximum number of calls waiting for a running call to complete. The calls which cannot be
+# queued are rejected with a `grpc:ResourceExhaustedError`
+# + dedicatedWorkers - The number of worker threads dedicated to the calls. Use value 0 to run the calls in the worker
+# pool of the listener
+public type ConcurrencyLimit record {|
+    int maxConcurrentCalls;
+    int maxQueuedCalls = 0;
+    int dedicatedWorkers = 0;
+|};
+
+# Configurations for the response cache of a simple remote function. A call with the same request message and key
+# headers as a cached call is responded without running the remote function. Hence, only the remote functions which
+# return the same response for the same request, without side effects, should be cached.
+#
+# + ttl - The time (in seconds) for which a response is served from the cache
+# + maxEntries - The maximum number of cached responses. The least recently used responses are evicted once it is
+# reached
+# + maxBytes - The maximum number of bytes held by the cached requests and responses
+# + keyHeaders - The request headers, which are a part of the key of a call in addition to the request message. The
+# `authorization` header is always a part of the key. Responses sent with headers are not cached
+public type ResponseCacheConfig record {|
+    decimal ttl;
+    int maxEntries = 1000;
+    int maxBytes = 10485760;
+    string[] keyHeaders = [];
+|};
+
+# Configurations for coalescing the concurrent calls of a simple remote function. The calls with the same request
+# message and key headers as a running call do not run the remote function, and are responded with the response of the
+# running call. When the running call fails, is cancelled or responds with headers, each of them runs the remote
+# function by itself.
+#
+# + keyHeaders - The request headers, which are a part of the key of a call in addition to the request message. The
+# `authorization` header is always a part of the key
+public type CallCoalescingConfig record {|
+    string[] keyHeaders = [];
 |};
 
 # The annotation which is used to configure a gRPC service.
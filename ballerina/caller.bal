@@ -69,6 +69,27 @@ public client class Caller {
         return externIsCancelled(self);
     }
 
+    # Checks whether the caller is ready to receive more messages. This returns false while the messages which are
+    # already sent are held in the transport because the caller is slow to consume them.
+    # ```ballerina
+    # boolean result = caller.isReady();
+    # ```
+    #
+    # + return - True if more messages can be sent without queueing them or else false
+    public isolated function isReady() returns boolean {
+        return externIsReady(self);
+    }
+
+    # Waits until the caller is ready to receive more messages.
+    # ```ballerina
+    # grpc:Error? result = caller.awaitReady();
+    # ```
+    #
+    # + return - A `grpc:Error` if the connection is closed while waiting or else `()`
+    public isolated function awaitReady() returns Error? {
+        return externAwaitReady(self);
+    }
+
     # Sends a server error to the caller.
     # ```ballerina
     # grpc:Error? result = caller->sendError(error grpc:AbortedError("Operation aborted"));
@@ -96,6 +117,16 @@ isolated function externIsCancelled(Caller endpointClient) returns boolean =
     'class: "io.ballerina.stdlib.grpc.nativeimpl.caller.FunctionUtils"
 } external;
 
+isolated function externIsReady(Caller endpointClient) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.grpc.nativeimpl.caller.FunctionUtils"
+} external;
+
+isolated function externAwaitReady(Caller endpointClient) returns Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.grpc.nativeimpl.caller.FunctionUtils"
+} external;
+
 isolated function externSendError(Caller endpointClient, Error err) returns Error? =
 @java:Method {
     'class: "io.ballerina.stdlib.grpc.nativeimpl.caller.FunctionUtils"
@@ -267,6 +267,16 @@ public type RetryConfiguration record {|
 # + retryConfiguration - Configures the retry functionality
 # + auth - Configurations related to client authentication
 # + maxInboundMessageSize - The maximum message size to be permitted for inbound messages. Default value is 4 MB
+# + workerPool - The configurations of a worker pool dedicated to this client, which processes the inbound messages of
+# its calls. The worker pool shared by all the clients is used if not set
+# + callTimeout - The maximum time(in seconds) that a call is allowed to take. It is sent to the server as the
+# `grpc-timeout` header, and the call fails with a `DeadlineExceededError` once it is passed. A shorter timeout set
+# with `grpc:setTimeout`, or the remaining time of the inbound call within which the call is made, takes precedence.
+# Calls are not bounded if not set
+# + inboundBuffer - The limits of the per-call buffer holding the inbound messages of the server and bidirectional
+# streaming calls, which are not yet read from the stream. At most `maxMessages` messages are decoded ahead of the
+# reads, and the call stops reading from the server until the buffered messages are read. The buffer is unbounded if
+# not set
 public type ClientConfiguration record {|
     decimal timeout = 60;
     PoolConfiguration? poolConfig = ();
@@ -275,6 +285,9 @@ public type ClientConfiguration record {|
     RetryConfiguration? retryConfiguration = ();
     ClientAuthConfig? auth = ();
     int maxInboundMessageSize = 4194304;
+    WorkerPoolConfig? workerPool = ();
+    decimal? callTimeout = ();
+    InboundBufferConfig? inboundBuffer = ();
 |};
 
 # Configurations for facilitating secure communication with a remote gRPC endpoint.
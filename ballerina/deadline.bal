@@ -35,6 +35,31 @@ public isolated function setDeadline(time:Utc deadline, map<string|string[]> hea
     return headerMap;
 }
 
+# Represents the timeout header name.
+public const string TIMEOUT_HEADER = "grpc-timeout";
+
+# Sets the timeout of a call by adding the `grpc-timeout` header to the given headers. Unlike the `deadline` header,
+# the timeout is enforced by both the client and the server, and the call fails with a `DeadlineExceededError` once
+# it is passed.
+# ```ballerina
+# map<string|string[]> headers = grpc:setTimeout(2.5);
+# ```
+#
+# + timeout - The timeout of the call in seconds
+# + headerMap - Optional header map (if this is not specified, it creates a new header set)
+# + return - The header map that includes the timeout
+public isolated function setTimeout(decimal timeout, map<string|string[]> headerMap = {}) returns map<string|string[]> {
+    int millis = timeout > 0d ? <int>(timeout * 1000) : 0;
+    // The value of the header is limited to 8 digits.
+    if millis < 100000000 {
+        headerMap[TIMEOUT_HEADER] = millis.toString() + "m";
+    } else {
+        int seconds = int:min(<int>timeout, 99999999);
+        headerMap[TIMEOUT_HEADER] = seconds.toString() + "S";
+    }
+    return headerMap;
+}
+
 # Checks whether the deadline is already exceeded or not.
 # ```ballerina
 # boolean|time:Error isCancelled = grpc:isCancelled(map<string|string[]> headerMap);
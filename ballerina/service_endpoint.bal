@@ -34,14 +34,16 @@ public isolated class Listener {
         return externStart(self);
     }
 
-    # Stops the service listener gracefully. Already-accepted requests will be served before the connection closure.
+    # Stops the service listener gracefully. New requests are refused with a `grpc:UnavailableError`, so that the
+    # clients retry them on another server, and the already-accepted requests are served within the
+    # `gracefulStopTimeout` of the listener before they are cancelled.
     # ```ballerina
     # error? result = listenerEp.gracefulStop();
     # ```
     #
     # + return - An `error` if an error occurred during the listener stopping process or else `()`
     public isolated function gracefulStop() returns error? {
-        return;
+        return externGracefulStop(self);
     }
 
     # Stops the registered service.
@@ -149,6 +151,11 @@ isolated function externStop(Listener listenerObject) returns error? =
     'class: "io.ballerina.stdlib.grpc.nativeimpl.serviceendpoint.FunctionUtils"
 } external;
 
+isolated function externGracefulStop(Listener listenerObject) returns error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.grpc.nativeimpl.serviceendpoint.FunctionUtils"
+} external;
+
 isolated function nextResult(StreamIterator iterator) returns anydata|handle|error? =
 @java:Method {
     'class: "io.ballerina.stdlib.grpc.nativeimpl.serviceendpoint.FunctionUtils"
@@ -172,13 +179,147 @@ const decimal DEFAULT_LISTENER_TIMEOUT = 120; //2 mins
 # + timeout - Period of time in seconds that a connection waits for a read/write operation. Use value 0 to
 # disable the timeout
 # + maxInboundMessageSize - The maximum message size to be permitted for inbound messages. Default value is 4 MB
+# + outboundBuffer - The limits of the per-call buffer holding the outbound messages, which are not yet written to
+# the caller. The buffer is unbounded if not set
+# + inboundBuffer - The limits of the per-call buffer holding the inbound messages of the client and bidirectional
+# streaming calls, which are not yet read by the remote function. Once the buffer is full, the call stops reading
+# from the client until the remote function reads the buffered messages. The buffer is unbounded if not set
+# + workerPool - The configurations of the worker pool, which runs the calls accepted by the listener
+# + admission - The limits applied when admitting new calls. Calls over the limits are rejected right away. No limits
+# are applied if not set
+# + adaptiveConcurrency - The bounds of the per-method concurrency limits of the simple remote functions, which are
+# adjusted as per the observed latencies of the calls. Calls over the limits are rejected with a
+# `grpc:ResourceExhaustedError`. No limits are applied if not set
+# + gracefulStopTimeout - The maximum time(in seconds) to wait for the in-flight calls to complete when the listener is
+# stopped gracefully. The calls which are not completed by then are cancelled
 public type ListenerConfiguration record {|
     string host = "0.0.0.0";
     ListenerSecureSocket? secureSocket = ();
     decimal timeout = DEFAULT_LISTENER_TIMEOUT;
     int maxInboundMessageSize = 4194304;
+    OutboundBufferConfig? outboundBuffer = ();
+    InboundBufferConfig? inboundBuffer = ();
+    WorkerPoolConfig workerPool = {};
+    AdmissionConfig? admission = ();
+    AdaptiveConcurrencyConfig? adaptiveConcurrency = ();
+    decimal gracefulStopTimeout = 30;
+|};
+
+# Configurations for the adaptive concurrency limits of a listener. Each simple remote function gets its own limit,
+# which is raised while the latency of the calls stays close to the lowest latency seen, and lowered once the calls
+# start to queue up. The streaming remote functions are not limited, since a stream is open for much longer than a
+# call is processed.
+#
+# + initialLimit - The number of concurrent calls of a remote function allowed before any latency is observed
+# + minLimit - The lower bound of the limit
+# + maxLimit - The upper bound of the limit
+public type AdaptiveConcurrencyConfig record {|
+    int initialLimit = 20;
+    int minLimit = 1;
+    int maxLimit = 1000;
+|};
+
+# Configurations for the admission control of a listener, which sheds the calls an overloaded server cannot serve in
+# time.
+#
+# + maxInflightCalls - The maximum number of calls, which are accepted but not yet completed
+# + maxQueuedCalls - The maximum number of accepted calls, which are waiting for a free worker
+# + maxQueueTime - The maximum time in seconds an accepted call can wait for a free worker. Use value 0 to disable the
+# limit
+# + rejectionStatus - The status of the rejected calls
+# + retryPushback - The time in seconds the clients are asked to wait before retrying a rejected call. Use a negative
+# value to ask the clients not to retry
+public type AdmissionConfig record {|
+    int maxInflightCalls = 1000;
+    int maxQueuedCalls = 100;
+    decimal maxQueueTime = 0;
+    RejectionStatus rejectionStatus = REJECT_RESOURCE_EXHAUSTED;
+    decimal retryPushback = 1;
+|};
+
+# Represents the statuses of the calls rejected by the admission control.
+#
+# `RESOURCE_EXHAUSTED`: Calls are rejected with a `grpc:ResourceExhaustedError`
+# `UNAVAILABLE`: Calls are rejected with a `grpc:UnavailableError`
+public type RejectionStatus REJECT_RESOURCE_EXHAUSTED|REJECT_UNAVAILABLE;
+
+# Calls are rejected with a `grpc:ResourceExhaustedError`.
+public const REJECT_RESOURCE_EXHAUSTED = "RESOURCE_EXHAUSTED";
+
+# Calls are rejected with a `grpc:UnavailableError`.
+public const REJECT_UNAVAILABLE = "UNAVAILABLE";
+
+# Configurations for a worker pool, which processes the inbound messages of the gRPC calls.
+#
+# + poolSize - The number of worker threads, which process the inbound messages of the calls
+# + queueType - The queue which holds the calls waiting for a free worker
+# + queueCapacity - The maximum number of calls waiting for a free worker. Only applies to the `QUEUE_BOUNDED` queue
+# type
+# + virtualThreads - Runs each task of the calls on a new virtual thread instead of the worker pool. The pool size and
+# the queue settings do not apply in this mode. Falls back to the worker pool if the JDK does not support virtual
+# threads
+public type WorkerPoolConfig record {|
+    int poolSize = 10;
+    WorkerQueueType queueType = QUEUE_UNBOUNDED;
+    int queueCapacity = 1000;
+    boolean virtualThreads = false;
 |};
 
+# Represents the queues which hold the calls waiting for a free worker. The calls which cannot be queued are
+# rejected with a `grpc:ResourceExhaustedError`.
+#
+# `UNBOUNDED`: Calls wait in a queue without a limit
+# `BOUNDED`: Calls wait in a queue of a fixed capacity
+# `DIRECT`: Calls are not queued and are rejected when all the workers are busy
+public type WorkerQueueType QUEUE_UNBOUNDED|QUEUE_BOUNDED|QUEUE_DIRECT;
+
+# Calls wait in a queue without a limit.
+public const QUEUE_UNBOUNDED = "UNBOUNDED";
+
+# Calls wait in a queue of a fixed capacity.
+public const QUEUE_BOUNDED = "BOUNDED";
+
+# Calls are not queued and are rejected when all the workers are busy.
+public const QUEUE_DIRECT = "DIRECT";
+
+# Configurations for the per-call buffer holding the outbound messages of the server.
+#
+# + maxBytes - The maximum number of bytes that can be buffered for a call
+# + maxMessages - The maximum number of messages that can be buffered for a call
+# + overflowPolicy - The action taken when a message does not fit into the buffer
+public type OutboundBufferConfig record {|
+    int maxBytes = 4194304;
+    int maxMessages = 1024;
+    OverflowPolicy overflowPolicy = OVERFLOW_BLOCK;
+|};
+
+# Configurations for the per-call buffer holding the streamed inbound messages, which are not yet read. Once either
+# limit is reached, the contents received from the peer are held back until the buffered messages are read. A call
+# whose peer sends more than `maxBytes` of further contents meanwhile is failed with a `grpc:ResourceExhaustedError`.
+#
+# + maxBytes - The maximum number of bytes that can be buffered for a call
+# + maxMessages - The maximum number of messages that can be buffered for a call
+public type InboundBufferConfig record {|
+    int maxBytes = 4194304;
+    int maxMessages = 1024;
+|};
+
+# Represents the actions taken when an outbound message does not fit into the buffer.
+#
+# `BLOCK`: Suspends the producer, without blocking its thread, until the buffered messages are written to the caller
+# `FAIL`: Fails the call with a `grpc:ResourceExhaustedError`
+# `DROP_OLDEST`: Drops the oldest buffered messages to make room for the new message
+public type OverflowPolicy OVERFLOW_BLOCK|OVERFLOW_FAIL|OVERFLOW_DROP_OLDEST;
+
+# Suspends the producer until the buffered messages are written to the caller.
+public const OVERFLOW_BLOCK = "BLOCK";
+
+# Fails the call with a `grpc:ResourceExhaustedError`.
+public const OVERFLOW_FAIL = "FAIL";
+
+# Drops the oldest buffered messages to make room for the new message.
+public const OVERFLOW_DROP_OLDEST = "DROP_OLDEST";
+
 # Configurations for facilitating secure communication for the gRPC server endpoint.
 #
 # + key - Configurations associated with a `crypto:KeyStore` or combination of a certificate and private key of the server
@@ -53,6 +53,27 @@ public client class StreamingClient {
         return streamSendError(self, err);
     }
 
+    # Checks whether the server is ready to receive more messages. This returns false while the messages which are
+    # already sent are held in the transport because the server is slow to consume them.
+    # ```ballerina
+    # boolean result = sClient.isReady();
+    # ```
+    #
+    # + return - True if more messages can be sent without queueing them or else false
+    public isolated function isReady() returns boolean {
+        return streamIsReady(self);
+    }
+
+    # Waits until the server is ready to receive more messages.
+    # ```ballerina
+    # grpc:Error? result = sClient.awaitReady();
+    # ```
+    #
+    # + return - A `grpc:Error` if the stream is closed while waiting or else `()`
+    public isolated function awaitReady() returns Error? {
+        return streamAwaitReady(self);
+    }
+
     # Receives server responses in client streaming and bidirectional streaming.
     # ```ballerina
     # [anydata, map<string|string[]>]|grpc:Error? result = streamingClient->receive();
@@ -125,6 +146,16 @@ isolated function streamSendError(StreamingClient streamConnection, Error err) r
     'class: "io.ballerina.stdlib.grpc.nativeimpl.streamingclient.FunctionUtils"
 } external;
 
+isolated function streamIsReady(StreamingClient streamConnection) returns boolean =
+@java:Method {
+    'class: "io.ballerina.stdlib.grpc.nativeimpl.streamingclient.FunctionUtils"
+} external;
+
+isolated function streamAwaitReady(StreamingClient streamConnection) returns Error? =
+@java:Method {
+    'class: "io.ballerina.stdlib.grpc.nativeimpl.streamingclient.FunctionUtils"
+} external;
+
 isolated function externReceive(StreamingClient streamConnection) returns anydata|stream<anydata, Error?>|Error =
 @java:Method {
     'class: "io.ballerina.stdlib.grpc.nativeimpl.streamingclient.FunctionUtils"
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+/**
+ * Concurrency limit of a method, which is adjusted as per the latencies of the completed calls, similar to the TCP
+ * Vegas congestion control.
+ *
+ * <p>
+ * The lowest latency seen is taken as the latency of the method without load. The number of calls queued in the
+ * server is estimated as {@code limit * (1 - noLoadLatency / latency)}. The limit is increased while the estimate is
+ * small and decreased once it grows, so the limit follows the concurrency the method can handle without queueing.
+ * The lowest latency is reset from time to time, so that the limit follows the changes in the cost of the method.
+ *
+ * @since 1.4.0
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final String TAG_KEY = "method";
+    // Number of samples, as a multiple of the limit, after which the no-load latency is measured afresh.
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final String method;
+    private final int minLimit;
+    private final int maxLimit;
+    private int limit;
+    private int inflightCalls;
+    private long noLoadLatencyNanos = Long.MAX_VALUE;
+    private long samplesToProbe;
+
+    AdaptiveConcurrencyLimiter(String method, AdaptiveLimitConfig config) {
+        this.method = method;
+        this.minLimit = config.getMinLimit();
+        this.maxLimit = config.getMaxLimit();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, config.getInitialLimit()));
+        this.samplesToProbe = (long) PROBE_MULTIPLIER * limit;
+        reportLimit();
+    }
+
+    /**
+     * Tries to start a call within the current limit.
+     *
+     * @return false if the call is rejected since the limit is reached.
+     */
+    synchronized boolean tryAcquire() {
+        if (inflightCalls >= limit) {
+            GrpcMetrics.incrementCounter(GrpcMetrics.ADAPTIVE_LIMIT_REJECTIONS, "Number of calls rejected by the " +
+                    "adaptive concurrency limit of a method", TAG_KEY, method);
+            return false;
+        }
+        inflightCalls++;
+        return true;
+    }
+
+    /**
+     * Called once a call started by {@link #tryAcquire()} is done.
+     *
+     * @param latencyNanos latency of the call, or a negative value if the call failed before it was completed, in
+     *                     which case the latency is not sampled.
+     */
+    void release(long latencyNanos) {
+        int newLimit;
+        synchronized (this) {
+            int inflight = inflightCalls--;
+            if (latencyNanos < 0) {
+                return;
+            }
+            newLimit = update(Math.max(latencyNanos, 1), inflight);
+            if (newLimit == limit) {
+                return;
+            }
+            limit = newLimit;
+        }
+        reportLimit();
+    }
+
+    // Must be called while holding the lock of this limiter.
+    private int update(long latencyNanos, int inflight) {
+        if (--samplesToProbe <= 0) {
+            noLoadLatencyNanos = latencyNanos;
+            samplesToProbe = (long) PROBE_MULTIPLIER * limit;
+            return limit;
+        }
+        if (latencyNanos < noLoadLatencyNanos) {
+            noLoadLatencyNanos = latencyNanos;
+            return limit;
+        }
+        // The limit is not pushed up while the method is not using it, so that it does not run away during a lull.
+        if (inflight * 2 < limit) {
+            return limit;
+        }
+        double log = Math.max(1, Math.log10(limit));
+        double queued = limit * (1 - (double) noLoadLatencyNanos / latencyNanos);
+        double newLimit;
+        if (queued <= log) {
+            newLimit = limit + 6 * log;
+        } else if (queued < 3 * log) {
+            newLimit = limit + log;
+        } else if (queued > 6 * log) {
+            newLimit = limit - log;
+        } else {
+            return limit;
+        }
+        return (int) Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    synchronized int getInflightCalls() {
+        return inflightCalls;
+    }
+
+    private void reportLimit() {
+        GrpcMetrics.setGauge(GrpcMetrics.ADAPTIVE_LIMIT, "Adaptive concurrency limit of a method", TAG_KEY, method,
+                getLimit());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+/**
+ * Limits applied by a listener when admitting new calls.
+ *
+ * @since 1.4.0
+ */
+public final class AdmissionConfig {
+
+    private final int maxInflightCalls;
+    private final int maxQueuedCalls;
+    private final long maxQueueTimeNanos;
+    private final Status.Code rejectionCode;
+    private final long retryPushbackMillis;
+
+    public AdmissionConfig(int maxInflightCalls, int maxQueuedCalls, long maxQueueTimeNanos,
+                           Status.Code rejectionCode, long retryPushbackMillis) {
+        this.maxInflightCalls = maxInflightCalls;
+        this.maxQueuedCalls = maxQueuedCalls;
+        this.maxQueueTimeNanos = maxQueueTimeNanos;
+        this.rejectionCode = rejectionCode;
+        this.retryPushbackMillis = retryPushbackMillis;
+    }
+
+    /**
+     * @return maximum number of calls which are admitted but not yet completed.
+     */
+    public int getMaxInflightCalls() {
+        return maxInflightCalls;
+    }
+
+    /**
+     * @return maximum number of admitted calls which are waiting for a worker.
+     */
+    public int getMaxQueuedCalls() {
+        return maxQueuedCalls;
+    }
+
+    /**
+     * @return maximum time in nanoseconds an admitted call can wait for a worker, or 0 if not limited.
+     */
+    public long getMaxQueueTimeNanos() {
+        return maxQueueTimeNanos;
+    }
+
+    /**
+     * @return status code of the rejected calls.
+     */
+    public Status.Code getRejectionCode() {
+        return rejectionCode;
+    }
+
+    /**
+     * @return time in milliseconds the clients are asked to wait before retrying a rejected call, or a negative value
+     * to ask them not to retry.
+     */
+    public long getRetryPushbackMillis() {
+        return retryPushbackMillis;
+    }
+}
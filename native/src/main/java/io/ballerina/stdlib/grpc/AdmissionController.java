@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decides whether a listener admits a new call, as per the {@link AdmissionConfig} limits. Calls over the limits are
+ * shed right away, so that an overloaded server fails fast instead of queueing calls past their deadlines.
+ *
+ * @since 1.4.0
+ */
+final class AdmissionController {
+
+    /**
+     * Trailer which tells the client how long to wait before retrying the call.
+     */
+    static final String RETRY_PUSHBACK_KEY = "grpc-retry-pushback-ms";
+
+    private final AdmissionConfig config;
+    private final AtomicInteger inflightCalls = new AtomicInteger();
+    private final AtomicInteger queuedCalls = new AtomicInteger();
+
+    AdmissionController(AdmissionConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Tries to admit a new call. An admitted call is counted as queued until {@link #dequeue(long)} is called, and as
+     * in flight until {@link #release()} is called.
+     *
+     * @return null if the call is admitted, or the status the call is rejected with.
+     */
+    Status admit() {
+        if (inflightCalls.incrementAndGet() > config.getMaxInflightCalls()) {
+            inflightCalls.decrementAndGet();
+            return reject("Too many calls in flight");
+        }
+        if (queuedCalls.incrementAndGet() > config.getMaxQueuedCalls()) {
+            queuedCalls.decrementAndGet();
+            inflightCalls.decrementAndGet();
+            return reject("Too many calls waiting for a worker");
+        }
+        return null;
+    }
+
+    /**
+     * Called when a worker picks up an admitted call.
+     *
+     * @param admittedAtNanos {@link System#nanoTime()} at which the call was admitted.
+     * @return null if the call can proceed, or the status the call is rejected with if it waited for too long. The
+     * call is still in flight in both cases.
+     */
+    Status dequeue(long admittedAtNanos) {
+        queuedCalls.decrementAndGet();
+        long maxQueueTimeNanos = config.getMaxQueueTimeNanos();
+        if (maxQueueTimeNanos > 0 && System.nanoTime() - admittedAtNanos > maxQueueTimeNanos) {
+            return reject("Call waited too long for a worker");
+        }
+        return null;
+    }
+
+    /**
+     * Called once an admitted call is completed.
+     */
+    void release() {
+        inflightCalls.decrementAndGet();
+    }
+
+    /**
+     * Called when an admitted call is dropped before a worker picks it up.
+     */
+    void abandon() {
+        queuedCalls.decrementAndGet();
+        inflightCalls.decrementAndGet();
+    }
+
+    /**
+     * @return the value of the retry pushback trailer of the rejected calls.
+     */
+    String getRetryPushback() {
+        return Long.toString(config.getRetryPushbackMillis());
+    }
+
+    int getInflightCalls() {
+        return inflightCalls.get();
+    }
+
+    int getQueuedCalls() {
+        return queuedCalls.get();
+    }
+
+    private Status reject(String reason) {
+        GrpcMetrics.incrementCounter(GrpcMetrics.ADMISSION_REJECTIONS, "Number of calls rejected by admission control");
+        return config.getRejectionCode().toStatus().withDescription("Server is overloaded. " + reason);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Concurrency limit of a service or of a remote function, which keeps an expensive method from starving the other
+ * methods of the listener.
+ *
+ * <p>
+ * A call is started once it gets a permit. Calls which arrive while all the permits are taken wait in the queue of
+ * the bulkhead, and are started in arrival order as the permits are released. Calls which do not fit into the queue
+ * are rejected.
+ *
+ * @since 1.4.0
+ */
+final class Bulkhead {
+
+    private static final String TAG_KEY = "bulkhead";
+    private static final long IDLE_TIMEOUT_SECONDS = 60;
+    private static final String ACTIVE_CALLS_DESCRIPTION = "Number of calls running within a concurrency limit";
+    private static final String QUEUED_CALLS_DESCRIPTION = "Number of calls waiting for a concurrency limit";
+    private static final String REJECTIONS_DESCRIPTION = "Number of calls rejected by a concurrency limit";
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final int maxQueuedCalls;
+    private final ExecutorService executor;
+    private final Deque<Runnable> waitingCalls = new ArrayDeque<>();
+    private int activeCalls;
+
+    /**
+     * Creates a bulkhead.
+     *
+     * @param name               name of the bulkhead, used to tag its metrics.
+     * @param maxConcurrentCalls maximum number of calls which are started but not yet completed.
+     * @param maxQueuedCalls     maximum number of calls waiting for a permit.
+     * @param dedicatedWorkers   number of workers dedicated to the calls of the bulkhead, or 0 to run them in the
+     *                           worker pool of the listener.
+     */
+    Bulkhead(String name, int maxConcurrentCalls, int maxQueuedCalls, int dedicatedWorkers) {
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxQueuedCalls = maxQueuedCalls;
+        this.executor = dedicatedWorkers > 0 ? new WorkerPoolConfig(dedicatedWorkers,
+                WorkerPoolConfig.QueueType.UNBOUNDED, 0).newExecutor(new ThreadGroup("grpc-bulkhead"),
+                "grpc-bulkhead-" + name, IDLE_TIMEOUT_SECONDS) : null;
+    }
+
+    /**
+     * Tries to get a permit for a call.
+     *
+     * @param onPermitted task which starts the call once it gets a permit. It is run right away, in the calling
+     *                    thread, if a permit is available, or later in the thread which releases a permit.
+     * @return false if the call is rejected since the queue of the bulkhead is full.
+     */
+    boolean tryAcquire(Runnable onPermitted) {
+        synchronized (this) {
+            if (activeCalls >= maxConcurrentCalls) {
+                if (waitingCalls.size() >= maxQueuedCalls) {
+                    GrpcMetrics.incrementCounter(GrpcMetrics.BULKHEAD_REJECTIONS, REJECTIONS_DESCRIPTION, TAG_KEY,
+                            name);
+                    return false;
+                }
+                waitingCalls.add(onPermitted);
+                GrpcMetrics.addToGauge(GrpcMetrics.BULKHEAD_QUEUED_CALLS, QUEUED_CALLS_DESCRIPTION, TAG_KEY, name, 1);
+                return true;
+            }
+            activeCalls++;
+        }
+        GrpcMetrics.addToGauge(GrpcMetrics.BULKHEAD_ACTIVE_CALLS, ACTIVE_CALLS_DESCRIPTION, TAG_KEY, name, 1);
+        onPermitted.run();
+        return true;
+    }
+
+    /**
+     * Releases the permit of a completed call. The permit is handed over to the longest waiting call, if any.
+     */
+    void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waitingCalls.poll();
+            if (next == null) {
+                activeCalls--;
+            }
+        }
+        if (next == null) {
+            GrpcMetrics.addToGauge(GrpcMetrics.BULKHEAD_ACTIVE_CALLS, ACTIVE_CALLS_DESCRIPTION, TAG_KEY, name, -1);
+            return;
+        }
+        GrpcMetrics.addToGauge(GrpcMetrics.BULKHEAD_QUEUED_CALLS, QUEUED_CALLS_DESCRIPTION, TAG_KEY, name, -1);
+        next.run();
+    }
+
+    /**
+     * Removes a call, which is given up before it gets a permit, from the queue of the bulkhead.
+     *
+     * @param onPermitted task given when the call tried to get a permit.
+     * @return true if the call was waiting for a permit, false if it already got one.
+     */
+    boolean cancel(Runnable onPermitted) {
+        synchronized (this) {
+            if (!waitingCalls.remove(onPermitted)) {
+                return false;
+            }
+        }
+        GrpcMetrics.addToGauge(GrpcMetrics.BULKHEAD_QUEUED_CALLS, QUEUED_CALLS_DESCRIPTION, TAG_KEY, name, -1);
+        return true;
+    }
+
+    /**
+     * @return executor dedicated to the calls of the bulkhead, or null if the calls run in the listener worker pool.
+     */
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @return status of the calls rejected by the bulkhead.
+     */
+    Status getRejectionStatus() {
+        return Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(String.format("Concurrency limit of " +
+                "'%s' is reached. %d calls are running and %d calls are waiting", name, maxConcurrentCalls,
+                maxQueuedCalls));
+    }
+
+    synchronized int getActiveCalls() {
+        return activeCalls;
+    }
+
+    synchronized int getQueuedCalls() {
+        return waitingCalls.size();
+    }
+
+    /**
+     * Stops the dedicated workers of the bulkhead, if any.
+     */
+    void shutdownNow() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces the concurrent calls of a simple remote function which have the same request message and key headers, so
+ * that the remote function is run once for all of them.
+ *
+ * <p>
+ * The first call of a key leads a flight, which runs the remote function. The calls which arrive while the flight is
+ * not yet landed follow it, and are responded with the serialized response of the leading call. When the leading call
+ * does not complete with a response which can be shared, e.g. since it failed or was cancelled by its client, each
+ * follower runs the remote function by itself.
+ *
+ * @since 1.4.0
+ */
+final class CallCoalescer {
+
+    private static final String TAG_KEY = "method";
+    private static final String COALESCED_CALLS_DESCRIPTION = "Number of calls which followed an identical call";
+
+    private final String name;
+    private final String[] keyHeaders;
+    private final Map<CallKey, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a call coalescer.
+     *
+     * @param name       name of the remote function, used to tag the metrics of the coalescer.
+     * @param keyHeaders names of the request headers which are a part of the key, in addition to the
+     *                   {@code authorization} header.
+     */
+    CallCoalescer(String name, List<String> keyHeaders) {
+        this.name = name;
+        this.keyHeaders = CallKey.keyHeaders(keyHeaders);
+    }
+
+    /**
+     * Creates the key of a call.
+     *
+     * @param headers request headers of the call.
+     * @param request serialized request message of the call.
+     * @return key of the call.
+     */
+    CallKey newKey(HttpHeaders headers, byte[] request) {
+        return CallKey.of(keyHeaders, headers, request);
+    }
+
+    /**
+     * Joins the flight of a call.
+     *
+     * @param key      key of the call.
+     * @param follower notified once the flight of an identical call is landed, with the serialized response of that
+     *                 call, or with null if the response cannot be shared.
+     * @return flight to be landed by the call once it is completed, or null if the call follows the flight of an
+     * identical call.
+     */
+    Flight join(CallKey key, Consumer<byte[]> follower) {
+        while (true) {
+            Flight flight = new Flight(key);
+            Flight current = flights.putIfAbsent(key, flight);
+            if (current == null) {
+                return flight;
+            }
+            if (current.follow(follower)) {
+                GrpcMetrics.incrementCounter(GrpcMetrics.COALESCED_CALLS, COALESCED_CALLS_DESCRIPTION, TAG_KEY,
+                        name);
+                return null;
+            }
+            // The flight was landed in the meantime. The call leads a new flight.
+        }
+    }
+
+    /**
+     * Lands the flight of a completed call, and notifies its followers.
+     *
+     * @param flight   flight led by the call.
+     * @param response serialized response of the call, or null if the response cannot be shared.
+     */
+    void land(Flight flight, byte[] response) {
+        flights.remove(flight.key, flight);
+        flight.land(response);
+    }
+
+    int inflight() {
+        return flights.size();
+    }
+
+    /**
+     * Run of the remote function shared by the identical calls.
+     */
+    static final class Flight {
+
+        private final CallKey key;
+        private List<Consumer<byte[]>> followers = new ArrayList<>();
+
+        private Flight(CallKey key) {
+            this.key = key;
+        }
+
+        private synchronized boolean follow(Consumer<byte[]> follower) {
+            if (followers == null) {
+                return false;
+            }
+            followers.add(follower);
+            return true;
+        }
+
+        private void land(byte[] response) {
+            List<Consumer<byte[]>> landed;
+            synchronized (this) {
+                if (followers == null) {
+                    return;
+                }
+                landed = followers;
+                followers = null;
+            }
+            for (Consumer<byte[]> follower : landed) {
+                follower.accept(response);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Key of a simple call, which is made of its serialized request message and the values of the given key headers.
+ * Calls with the same key are expected to get the same response.
+ *
+ * <p>
+ * The {@code authorization} header is always a part of the key, so that a response is only shared among the callers
+ * with the same credentials.
+ *
+ * @since 1.4.0
+ */
+final class CallKey {
+
+    static final String AUTHORIZATION_HEADER = "authorization";
+
+    private final String[] headerValues;
+    private final byte[] request;
+    private final int hash;
+
+    private CallKey(String[] headerValues, byte[] request) {
+        this.headerValues = headerValues;
+        this.request = request;
+        this.hash = 31 * Arrays.hashCode(headerValues) + Arrays.hashCode(request);
+    }
+
+    /**
+     * Returns the names of the headers which are a part of the key, including the {@code authorization} header.
+     *
+     * @param keyHeaders configured key headers.
+     * @return names of the key headers.
+     */
+    static String[] keyHeaders(List<String> keyHeaders) {
+        String[] names = new String[keyHeaders.size() + 1];
+        names[0] = AUTHORIZATION_HEADER;
+        for (int i = 0; i < keyHeaders.size(); i++) {
+            names[i + 1] = keyHeaders.get(i);
+        }
+        return names;
+    }
+
+    /**
+     * Creates the key of a call.
+     *
+     * @param keyHeaders names of the key headers.
+     * @param headers    request headers of the call.
+     * @param request    serialized request message of the call.
+     * @return key of the call.
+     */
+    static CallKey of(String[] keyHeaders, HttpHeaders headers, byte[] request) {
+        String[] headerValues = new String[keyHeaders.length];
+        if (headers != null) {
+            for (int i = 0; i < keyHeaders.length; i++) {
+                List<String> values = headers.getAll(keyHeaders[i]);
+                headerValues[i] = values.isEmpty() ? null : String.join(",", values);
+            }
+        }
+        return new CallKey(headerValues, request);
+    }
+
+    /**
+     * Returns the size of the serialized request message of the call.
+     *
+     * @return size in bytes.
+     */
+    int requestSize() {
+        return request.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CallKey)) {
+            return false;
+        }
+        CallKey key = (CallKey) o;
+        return hash == key.hash && Arrays.equals(request, key.request) && Arrays.equals(headerValues, key.headerValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -36,6 +36,21 @@ public interface CallStreamObserver extends StreamObserver {
      */
     boolean isReady();
 
+    /**
+     * Runs the given listener once the observer becomes ready to send messages, or once the stream is closed.
+     * The listener is run right away if the observer is already in one of those states.
+     *
+     * @param onReadyListener listener to be notified.
+     */
+    void notifyWhenReady(Runnable onReadyListener);
+
+    /**
+     * Indicates that the stream is closed, so that the observer does not become ready again.
+     *
+     * @return true, if no more messages can be sent through the stream, false otherwise.
+     */
+    boolean isClosed();
+
     /**
      * Sets message compression for subsequent calls.
      *
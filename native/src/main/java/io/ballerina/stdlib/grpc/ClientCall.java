@@ -27,12 +27,16 @@ import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.ballerina.stdlib.http.transport.contract.HttpResponseFuture;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.InputStream;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_METHOD;
@@ -64,14 +68,23 @@ public final class ClientCall {
     private DataContext context;
     private final OutboundMessage outboundMessage;
     private ClientConnectorListener connectorListener;
-    private boolean cancelCalled;
+    private final AtomicBoolean cancelCalled = new AtomicBoolean();
     private boolean halfCloseCalled;
     private Map<String, Long> messageSizeMap;
+    private final Executor workerExecutor;
     private DecompressorRegistry decompressorRegistry = DecompressorRegistry.getDefaultInstance();
     private CompressorRegistry compressorRegistry = CompressorRegistry.getDefaultInstance();
+    private long timeoutNanos = Deadlines.NO_DEADLINE;
+    private InboundMessageQueue inboundQueue;
+    private volatile Timeout deadlineTimeout;
 
     public ClientCall(HttpClientConnector connector, OutboundMessage outboundMessage, MethodDescriptor method,
                       DataContext context, Map<String, Long> messageSizeMap) {
+        this(connector, outboundMessage, method, context, messageSizeMap, null);
+    }
+
+    public ClientCall(HttpClientConnector connector, OutboundMessage outboundMessage, MethodDescriptor method,
+                      DataContext context, Map<String, Long> messageSizeMap, Executor workerExecutor) {
         this.method = method;
         this.unaryRequest = method.getType() == MethodDescriptor.MethodType.UNARY
                 || method.getType() == MethodDescriptor.MethodType.SERVER_STREAMING;
@@ -79,6 +92,7 @@ public final class ClientCall {
         this.context = context;
         this.outboundMessage = outboundMessage;
         this.messageSizeMap = messageSizeMap;
+        this.workerExecutor = workerExecutor;
     }
 
     private void prepareHeaders(
@@ -138,15 +152,62 @@ public final class ClientCall {
     }
 
     /**
-     * Start a call, using {@code responseListener} for processing response messages.
+     * Sets the timeout of the call, which applies unless the request carries a shorter {@code grpc-timeout} header
+     * or the call is made within an inbound call which has a shorter deadline.
+     *
+     * @param timeoutNanos timeout in nanoseconds, or {@link Deadlines#NO_DEADLINE} if the call has no timeout.
+     */
+    public void setTimeout(long timeoutNanos) {
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Bounds the streamed responses of the call by the given queue, which buffers them until they are read. The
+     * responses are not read from the server while the queue is full.
+     *
+     * @param inboundQueue inbound message queue of the call, or null if the responses are not bounded.
+     */
+    public void setInboundQueue(InboundMessageQueue inboundQueue) {
+        this.inboundQueue = inboundQueue;
+    }
+
+    /**
+     * Resolves the deadline of the call, which is the earliest of the {@code grpc-timeout} header of the request,
+     * the timeout of the call and the deadline of the inbound call within which the call is made.
+     *
+     * @return deadline as per {@link System#nanoTime()}, or {@link Deadlines#NO_DEADLINE} if the call has no
+     * timeout.
+     */
+    private long resolveDeadline() {
+        long now = System.nanoTime();
+        long deadline = Deadlines.NO_DEADLINE;
+        String timeout = outboundMessage.getHeader(Deadlines.TIMEOUT_KEY);
+        if (timeout != null) {
+            deadline = now + Deadlines.parseTimeout(timeout);
+        }
+        if (timeoutNanos != Deadlines.NO_DEADLINE) {
+            deadline = Math.min(deadline, now + timeoutNanos);
+        }
+        Object inboundDeadline = context.getEnvironment() != null ?
+                context.getEnvironment().getStrandLocal(GrpcConstants.INBOUND_DEADLINE) : null;
+        if (inboundDeadline instanceof Long) {
+            deadline = Math.min(deadline, (Long) inboundDeadline);
+        }
+        return deadline;
+    }
+
+    /**
+     * Start a call, using {@code responseListener} for processing response messages. The call is completed right
+     * away, without being sent, if its compressor is unknown or its deadline has already passed.
      *
      * @param observer response listener instance
+     * @return true if the call is started, false if it is already completed.
      */
-    public void start(final AbstractStub.Listener observer) {
+    public boolean start(final AbstractStub.Listener observer) {
         if (connectorListener != null) {
             throw new IllegalStateException("Client connection already set up.");
         }
-        if (cancelCalled) {
+        if (cancelCalled.get()) {
             throw new IllegalStateException("Client call was cancelled.");
         }
         Compressor compressor;
@@ -160,21 +221,62 @@ public final class ClientCall {
                                 String.format("Unable to find compressor by name %s", compressorName)),
                         new DefaultHttpHeaders());
 
-                return;
+                return false;
             }
         } else {
             compressor = Codec.Identity.NONE;
         }
+        long deadline;
+        try {
+            deadline = resolveDeadline();
+        } catch (StatusRuntimeException e) {
+            closeObserver(observer, e.getStatus(), new DefaultHttpHeaders());
+            return false;
+        }
+        if (deadline != Deadlines.NO_DEADLINE) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                cancelCalled.set(true);
+                closeObserver(observer, Status.Code.DEADLINE_EXCEEDED.toStatus()
+                        .withDescription("Deadline exceeded before the call was started"), new DefaultHttpHeaders());
+                return false;
+            }
+            outboundMessage.setHeader(Deadlines.TIMEOUT_KEY, Deadlines.toTimeoutHeader(remaining));
+        }
         prepareHeaders(compressor);
         ClientStreamListener clientStreamListener = new ClientStreamListener(observer);
         connectorListener = ObserveUtils.isObservabilityEnabled() ?
                 new ObservableClientConnectorListener(clientStreamListener, context,
-                        messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE)) :
-                new ClientConnectorListener(clientStreamListener, messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE));
-        outboundMessage.framer().setCompressor(compressor);
+                        messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE), workerExecutor) :
+                new ClientConnectorListener(clientStreamListener, messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE),
+                        workerExecutor);
+        outboundMessage.setCompressor(compressor);
         connectorListener.setDecompressorRegistry(decompressorRegistry);
+        connectorListener.setInboundQueue(inboundQueue);
         HttpResponseFuture responseFuture = connector.send(outboundMessage.getResponseMessage());
         responseFuture.setHttpConnectorListener(connectorListener);
+        if (deadline != Deadlines.NO_DEADLINE) {
+            deadlineTimeout = Deadlines.schedule(() -> deadlineExceeded(clientStreamListener), deadline);
+            if (clientStreamListener.closed) {
+                deadlineTimeout.cancel();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cancels the stream with a {@code RST_STREAM} once the deadline of the call is passed, and completes the call
+     * with {@code DEADLINE_EXCEEDED}. Runs in the deadline timer thread.
+     *
+     * @param clientStreamListener listener of the call.
+     */
+    private void deadlineExceeded(ClientStreamListener clientStreamListener) {
+        if (clientStreamListener.closed) {
+            return;
+        }
+        Status status = Status.Code.DEADLINE_EXCEEDED.toStatus().withDescription("Deadline exceeded");
+        cancel(null, status.asRuntimeException());
+        clientStreamListener.closed(status, new DefaultHttpHeaders());
     }
 
     /**
@@ -188,10 +290,9 @@ public final class ClientCall {
             cause = new CancellationException("Cancelled without a message or cause");
             log.error("Cancelling without a message or cause is suboptimal", cause);
         }
-        if (cancelCalled) {
+        if (!cancelCalled.compareAndSet(false, true)) {
             return;
         }
-        cancelCalled = true;
         if (outboundMessage != null) {
             Status status = Status.Code.CANCELLED.toStatus();
             if (cause instanceof StatusRuntimeException) {
@@ -208,6 +309,9 @@ public final class ClientCall {
             }
             outboundMessage.sendError(status);
         }
+        if (connectorListener != null) {
+            connectorListener.discardHeldContents();
+        }
     }
 
     /**
@@ -217,7 +321,7 @@ public final class ClientCall {
         if (outboundMessage == null) {
             throw new IllegalStateException("Client call did not start properly.");
         }
-        if (cancelCalled) {
+        if (cancelCalled.get()) {
             throw new IllegalStateException("Client call was cancelled.");
         }
         if (halfCloseCalled) {
@@ -233,12 +337,12 @@ public final class ClientCall {
      * @param message Request message.
      */
     public void sendMessage(Message message) {
-        if (connectorListener == null) {
-            throw Status.Code.INTERNAL.toStatus().withDescription("Connector listener didn't initialize properly.")
+        if (cancelCalled.get()) {
+            throw Status.Code.INTERNAL.toStatus().withDescription("Client call was already cancelled.")
                     .asRuntimeException();
         }
-        if (cancelCalled) {
-            throw Status.Code.INTERNAL.toStatus().withDescription("Client call was already cancelled.")
+        if (connectorListener == null) {
+            throw Status.Code.INTERNAL.toStatus().withDescription("Connector listener didn't initialize properly.")
                     .asRuntimeException();
         }
         if (halfCloseCalled) {
@@ -281,14 +385,24 @@ public final class ClientCall {
         return outboundMessage.isReady();
     }
 
+    public void notifyWhenReady(Runnable onReadyListener) {
+        outboundMessage.flowController().notifyWhenReady(onReadyListener);
+    }
+
+    public boolean isClosed() {
+        return outboundMessage.isClosed();
+    }
+
     /**
      * Client Stream Listener instance.
      */
     public class ClientStreamListener implements StreamListener {
 
         private final AbstractStub.Listener observer;
-        private boolean closed;
+        private volatile boolean closed;
         private HttpHeaders responseHeaders;
+        private Runnable onCloseListener;
+        private final ReentrantLock closeLock = new ReentrantLock();
 
         ClientStreamListener(AbstractStub.Listener observer) {
             this.observer = observer;
@@ -315,10 +429,15 @@ public final class ClientCall {
                 return;
             }
             try {
+                int inboundSize = message.available();
                 Message responseMessage = method.parseResponse(message, messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE));
                 responseMessage.setHeaders(responseHeaders);
+                responseMessage.setInboundSize(inboundSize);
                 observer.onMessage(responseMessage);
                 message.close();
+            } catch (StatusRuntimeException ex) {
+                MessageUtils.closeQuietly(message);
+                close(ex.getStatus(), new DefaultHttpHeaders());
             } catch (Exception ex) {
                 MessageUtils.closeQuietly(message);
                 Status status = Status.Code.CANCELLED.toStatus().withCause(ex).withDescription("Failed to read " +
@@ -328,8 +447,46 @@ public final class ClientCall {
         }
 
         private void close(Status status, HttpHeaders trailers) {
-            closed = true;
+            Runnable listener;
+            closeLock.lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                listener = onCloseListener;
+                onCloseListener = null;
+            } finally {
+                closeLock.unlock();
+            }
+            Timeout timeout = deadlineTimeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            outboundMessage.flowController().close();
             closeObserver(observer, status, trailers);
+            if (listener != null) {
+                listener.run();
+            }
+        }
+
+        /**
+         * Runs the given listener once the call is closed. The listener is run right away if the call is already
+         * closed.
+         *
+         * @param listener listener to be run.
+         */
+        void notifyWhenClosed(Runnable listener) {
+            closeLock.lock();
+            try {
+                if (!closed) {
+                    onCloseListener = listener;
+                    return;
+                }
+            } finally {
+                closeLock.unlock();
+            }
+            listener.run();
         }
 
         public void closed(Status status, HttpHeaders trailers) {
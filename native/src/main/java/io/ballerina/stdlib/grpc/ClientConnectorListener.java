@@ -23,8 +23,9 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.LastHttpContent;
 
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static io.ballerina.stdlib.grpc.GrpcConstants.CONTENT_ENCODING;
 import static io.ballerina.stdlib.grpc.GrpcConstants.GRPC_MESSAGE_KEY;
@@ -39,22 +40,65 @@ import static io.ballerina.stdlib.grpc.MessageUtils.readAsString;
  */
 public class ClientConnectorListener implements HttpClientConnectorListener {
 
+    private static final String CLIENT_WORKER_THREAD_POOL = "grpc-client-worker-thread-pool";
+    private static final long CLIENT_WORKER_IDLE_TIMEOUT_SECONDS = 60;
+
     private Status transportError;
     private HttpHeaders transportErrorMetadata;
     private boolean headersReceived;
     private ClientInboundStateListener stateListener;
+    private volatile boolean inboundDone;
+    // Inbound buffer of a streaming call, and the contents held back while it is full.
+    private InboundMessageQueue inboundQueue;
+    private volatile SerializingExecutor callExecutor;
+    private volatile boolean discarded;
+    private final ArrayDeque<HttpContent> heldContents = new ArrayDeque<>();
+    private long heldBytes;
+
+    // Worker pool shared by the clients which do not configure a worker pool of their own.
+    private static final ExecutorService SHARED_WORKER_EXECUTOR = WorkerPoolConfig.DEFAULT.newExecutor(
+            new ThreadGroup("grpc-worker"), CLIENT_WORKER_THREAD_POOL);
 
-    private static ExecutorService workerExecutor = Executors.newFixedThreadPool(10,
-            new GrpcThreadFactory(new ThreadGroup("grpc-worker"), "grpc-client-worker-thread-pool"));
+    private final Executor workerExecutor;
 
     ClientConnectorListener(ClientCall.ClientStreamListener streamListener, Long maxInboundMsgSize) {
+        this(streamListener, maxInboundMsgSize, null);
+    }
+
+    ClientConnectorListener(ClientCall.ClientStreamListener streamListener, Long maxInboundMsgSize,
+                            Executor workerExecutor) {
         this.stateListener = new ClientInboundStateListener(maxInboundMsgSize, streamListener);
+        this.workerExecutor = workerExecutor != null ? workerExecutor : SHARED_WORKER_EXECUTOR;
+        streamListener.notifyWhenClosed(this::discardHeldContents);
+    }
+
+    /**
+     * Creates a worker pool dedicated to a client. The idle worker threads of the pool exit after a while, as the
+     * pool lives as long as the client.
+     *
+     * @param workerPoolConfig worker pool configuration of the client.
+     * @return worker pool.
+     */
+    public static ExecutorService newClientWorkerExecutor(WorkerPoolConfig workerPoolConfig) {
+        return workerPoolConfig.newExecutor(new ThreadGroup("grpc-worker"), CLIENT_WORKER_THREAD_POOL,
+                CLIENT_WORKER_IDLE_TIMEOUT_SECONDS);
     }
 
     final void setDecompressorRegistry(DecompressorRegistry decompressorRegistry) {
         stateListener.setDecompressorRegistry(decompressorRegistry);
     }
 
+    /**
+     * Bounds the streamed responses of the call. While the given queue is full, the contents received from the
+     * server are held back without being deframed, so that at most the configured number of responses are decoded
+     * ahead of the reads.
+     *
+     * @param inboundQueue inbound message queue of the call, or null if the responses are not bounded.
+     */
+    final void setInboundQueue(InboundMessageQueue inboundQueue) {
+        this.inboundQueue = inboundQueue;
+    }
+
     @Override
     public void onMessage(HttpCarbonMessage httpMessage) {
         InboundMessage inboundMessage = new InboundMessage(httpMessage);
@@ -62,66 +106,164 @@ public class ClientConnectorListener implements HttpClientConnectorListener {
             stateListener.inboundHeadersReceived(inboundMessage.getHeaders());
         }
 
-        workerExecutor.execute(() -> {
-            try {
-                HttpCarbonMessage httpCarbonMessage = inboundMessage.getHttpCarbonMessage();
-                HttpContent httpContent = httpCarbonMessage.getHttpContent();
-                while (true) {
-                    if (httpContent == null) {
-                        break;
-                    }
-                    if (transportError != null) {
-                        // Referenced from grpc-java, when transport error exists. we collect more details about the
-                        // error by augmenting the description.
-                        transportError = transportError.augmentDescription(
-                                "MESSAGE DATA: " + readAsString(httpContent, Charset.forName("UTF-8")));
-                        // Release content as we are not going to process it.
-                        httpContent.release();
-                        // Report transport error.
-                        if ((transportError.getDescription() != null && transportError.getDescription().length() >
-                                1000) || (httpContent instanceof LastHttpContent)) {
-                            stateListener.transportReportStatus(transportError, false, transportErrorMetadata);
-                            break;
-                        }
+        // Inbound contents are pushed by the transport as they arrive, and processed in the executor of the call. So
+        // a worker is only occupied while the call has contents to process.
+        callExecutor = new SerializingExecutor(workerExecutor);
+        httpMessage.getHttpContentAsync().setMessageListener(httpContent ->
+                callExecutor.execute(() -> inboundContentReceived(inboundMessage, httpContent), () -> {
+                    httpContent.release();
+                    rejected();
+                }));
+    }
+
+    /**
+     * Fails the call once the worker pool rejects a task of the call. Runs in place of the rejected task, while no
+     * other task of the call is running, so the inbound state is not changed concurrently.
+     */
+    private void rejected() {
+        releaseHeldContents();
+        if (inboundDone) {
+            return;
+        }
+        inboundDone = true;
+        stateListener.transportReportStatus(Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(
+                "Client is busy. All the workers are in use"), true, new DefaultHttpHeaders());
+    }
+
+    private void inboundContentReceived(InboundMessage inboundMessage, HttpContent httpContent) {
+        if (discarded) {
+            inboundDone = true;
+        }
+        if (!inboundDone && inboundQueue != null && (!heldContents.isEmpty() || inboundQueue.isFull())) {
+            hold(inboundMessage, httpContent);
+            return;
+        }
+        receive(inboundMessage, httpContent);
+    }
+
+    private void receive(InboundMessage inboundMessage, HttpContent httpContent) {
+        if (inboundDone) {
+            httpContent.release();
+            releaseHeldContents();
+            return;
+        }
+        try {
+            HttpCarbonMessage httpCarbonMessage = inboundMessage.getHttpCarbonMessage();
+            if (transportError != null) {
+                // Referenced from grpc-java, when transport error exists. we collect more details about the
+                // error by augmenting the description.
+                transportError = transportError.augmentDescription(
+                        "MESSAGE DATA: " + readAsString(httpContent, Charset.forName("UTF-8")));
+                // Release content as we are not going to process it.
+                httpContent.release();
+                // Report transport error.
+                if ((transportError.getDescription() != null && transportError.getDescription().length() >
+                        1000) || (httpContent instanceof LastHttpContent)) {
+                    inboundDone = true;
+                    stateListener.transportReportStatus(transportError, false, transportErrorMetadata);
+                }
+            } else {
+                stateListener.inboundDataReceived(httpContent);
+                if (httpContent instanceof LastHttpContent) {
+                    inboundDone = true;
+                    LastHttpContent lastHttpContent = (LastHttpContent) httpContent;
+                    if (lastHttpContent.decoderResult() != null && lastHttpContent.decoderResult()
+                            .isFailure()) {
+                        transportError = Status.Code.ABORTED.toStatus().withDescription(lastHttpContent
+                                .decoderResult().cause().getMessage());
+                    } else if (!httpCarbonMessage.getTrailerHeaders().isEmpty()) {
+                        // Read Trailer header to get gRPC response status.
+                        transportTrailersReceived(httpCarbonMessage.getTrailerHeaders());
+                    } else if (containsTrailers(inboundMessage.getHeaders())) {
+                        // When there is no http content, sometimes trailing headers are coming along with
+                        // leading headers.
+                        transportTrailersReceived(inboundMessage.getHeaders());
                     } else {
-                        stateListener.inboundDataReceived(httpContent);
-                        // Exit the loop at the end of the content
-                        if (httpContent instanceof LastHttpContent) {
-                            LastHttpContent lastHttpContent = (LastHttpContent) httpContent;
-                            if (lastHttpContent.decoderResult() != null && lastHttpContent.decoderResult()
-                                    .isFailure()) {
-                                transportError = Status.Code.ABORTED.toStatus().withDescription(lastHttpContent
-                                        .decoderResult().cause().getMessage());
-                            } else if (!httpCarbonMessage.getTrailerHeaders().isEmpty()) {
-                                // Read Trailer header to get gRPC response status.
-                                transportTrailersReceived(httpCarbonMessage.getTrailerHeaders());
-                            } else if (containsTrailers(inboundMessage.getHeaders())) {
-                                // When there is no http content, sometimes trailing headers are coming along with
-                                // leading headers.
-                                transportTrailersReceived(inboundMessage.getHeaders());
-                            } else {
-                                // This is a protocol violation as we expect to receive trailer headers with Last Http
-                                // content.
-                                transportError = Status.Code.INTERNAL.toStatus().withDescription("Received unexpected" +
-                                        " end-of-stream on DATA frame from server.");
-                                transportErrorMetadata = new DefaultHttpHeaders();
-                                stateListener.transportReportStatus(transportError, false, transportErrorMetadata);
-                            }
-                            break;
-                        }
+                        // This is a protocol violation as we expect to receive trailer headers with Last Http
+                        // content.
+                        transportError = Status.Code.INTERNAL.toStatus().withDescription("Received unexpected" +
+                                " end-of-stream on DATA frame from server.");
+                        transportErrorMetadata = new DefaultHttpHeaders();
+                        stateListener.transportReportStatus(transportError, false, transportErrorMetadata);
                     }
-                    httpContent = httpCarbonMessage.getHttpContent();
                 }
-            } catch (RuntimeException e) {
-                if (transportError != null) {
-                    // Already received a transport error so just augment it.
-                    transportError = transportError.augmentDescription(e.getMessage());
-                } else {
-                    transportError = Status.fromThrowable(e);
-                }
-                stateListener.transportReportStatus(transportError, false, transportErrorMetadata);
             }
-        });
+        } catch (RuntimeException e) {
+            inboundDone = true;
+            if (transportError != null) {
+                // Already received a transport error so just augment it.
+                transportError = transportError.augmentDescription(e.getMessage());
+            } else {
+                transportError = Status.fromThrowable(e);
+            }
+            stateListener.transportReportStatus(transportError, false, transportErrorMetadata);
+        }
+    }
+
+    /**
+     * Holds back a content received while the inbound buffer of the call is full.
+     */
+    private void hold(InboundMessage inboundMessage, HttpContent httpContent) {
+        heldBytes += httpContent.content().readableBytes();
+        if (heldBytes > inboundQueue.maxBytes()) {
+            httpContent.release();
+            releaseHeldContents();
+            inboundDone = true;
+            stateListener.transportReportStatus(Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(
+                    String.format("Inbound buffer is full. The server sent more than %d bytes while the buffered " +
+                            "messages are not read", inboundQueue.maxBytes())), true, new DefaultHttpHeaders());
+            return;
+        }
+        heldContents.add(httpContent);
+        if (heldContents.size() == 1) {
+            inboundQueue.notifyWhenNotFull(() -> scheduleResume(inboundMessage));
+        }
+    }
+
+    private void scheduleResume(InboundMessage inboundMessage) {
+        callExecutor.execute(() -> resume(inboundMessage), this::rejected);
+    }
+
+    /**
+     * Processes the held back contents until the inbound buffer of the call is full again.
+     */
+    private void resume(InboundMessage inboundMessage) {
+        HttpContent httpContent;
+        while (!inboundQueue.isFull() && (httpContent = heldContents.poll()) != null) {
+            heldBytes -= httpContent.content().readableBytes();
+            receive(inboundMessage, httpContent);
+        }
+        if (!heldContents.isEmpty()) {
+            inboundQueue.notifyWhenNotFull(() -> scheduleResume(inboundMessage));
+        }
+    }
+
+    private void releaseHeldContents() {
+        HttpContent httpContent;
+        while ((httpContent = heldContents.poll()) != null) {
+            httpContent.release();
+        }
+        heldBytes = 0;
+    }
+
+    /**
+     * Releases the held back contents once the call is closed or cancelled, since the buffered responses are no
+     * longer read. The contents received afterwards are released as they arrive.
+     */
+    final void discardHeldContents() {
+        discarded = true;
+        SerializingExecutor executor = callExecutor;
+        if (inboundQueue == null || executor == null) {
+            return;
+        }
+        // The worker pool is shut down if the task is rejected, so no other task of the call is running.
+        executor.execute(this::discard, this::discard);
+    }
+
+    private void discard() {
+        inboundDone = true;
+        releaseHeldContents();
+        inboundQueue.cancelNotifyWhenNotFull();
     }
 
     @Override
@@ -20,8 +20,6 @@ package io.ballerina.stdlib.grpc;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Encloses classes related to the compression and decompression of messages.
@@ -37,7 +35,7 @@ public interface Codec extends Compressor, Decompressor {
     String IDENTITY = "identity";
 
     /**
-     * A gzip compressor and decompressor.
+     * A gzip compressor and decompressor. The underlying zlib state is pooled and reused across messages.
      */
     final class Gzip implements Codec {
 
@@ -48,12 +46,12 @@ public interface Codec extends Compressor, Decompressor {
 
         @Override
         public OutputStream compress(OutputStream os) throws IOException {
-            return new GZIPOutputStream(os);
+            return PooledGzipStreams.compress(os);
         }
 
         @Override
         public InputStream decompress(InputStream is) throws IOException {
-            return new GZIPInputStream(is);
+            return PooledGzipStreams.decompress(is);
         }
     }
 
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utilities for the call deadlines, which are carried in the {@code grpc-timeout} header.
+ *
+ * <p>
+ * The deadlines of all the calls are tracked by a single hashed wheel timer, which schedules and cancels a timeout in
+ * constant time. The timer ticks every {@value #TICK_MILLIS} milliseconds, which bounds the precision of the
+ * deadlines.
+ *
+ * @since 1.4.0
+ */
+public final class Deadlines {
+
+    /**
+     * Header which carries the timeout of a call.
+     */
+    public static final String TIMEOUT_KEY = "grpc-timeout";
+
+    /**
+     * Deadline of a call which has no timeout.
+     */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private static final long TICK_MILLIS = 10;
+    private static final int TICKS_PER_WHEEL = 512;
+    private static final int MAX_TIMEOUT_DIGITS = 8;
+    private static final long MAX_TIMEOUT_VALUE = 100_000_000L;
+    private static final HashedWheelTimer TIMER = new HashedWheelTimer(
+            new DefaultThreadFactory("grpc-deadline-timer", true), TICK_MILLIS, TimeUnit.MILLISECONDS,
+            TICKS_PER_WHEEL);
+
+    private Deadlines() {
+    }
+
+    /**
+     * Parses the value of a {@code grpc-timeout} header.
+     *
+     * @param value header value, which is a positive integer of at most 8 digits followed by a unit.
+     * @return timeout in nanoseconds.
+     */
+    public static long parseTimeout(String value) {
+        if (value.length() < 2 || value.length() > MAX_TIMEOUT_DIGITS + 1) {
+            throw invalidTimeout(value);
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(value.substring(0, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw invalidTimeout(value);
+        }
+        if (amount < 0) {
+            throw invalidTimeout(value);
+        }
+        switch (value.charAt(value.length() - 1)) {
+            case 'H':
+                return TimeUnit.HOURS.toNanos(amount);
+            case 'M':
+                return TimeUnit.MINUTES.toNanos(amount);
+            case 'S':
+                return TimeUnit.SECONDS.toNanos(amount);
+            case 'm':
+                return TimeUnit.MILLISECONDS.toNanos(amount);
+            case 'u':
+                return TimeUnit.MICROSECONDS.toNanos(amount);
+            case 'n':
+                return amount;
+            default:
+                throw invalidTimeout(value);
+        }
+    }
+
+    /**
+     * Formats a timeout as the value of a {@code grpc-timeout} header, using the finest unit which fits the timeout
+     * in {@value #MAX_TIMEOUT_DIGITS} digits.
+     *
+     * @param timeoutNanos timeout in nanoseconds. A negative timeout is sent as zero.
+     * @return header value.
+     */
+    public static String toTimeoutHeader(long timeoutNanos) {
+        long timeout = Math.max(0, timeoutNanos);
+        if (timeout < MAX_TIMEOUT_VALUE) {
+            return timeout + "n";
+        } else if (timeout < MAX_TIMEOUT_VALUE * 1_000L) {
+            return TimeUnit.NANOSECONDS.toMicros(timeout) + "u";
+        } else if (timeout < MAX_TIMEOUT_VALUE * 1_000_000L) {
+            return TimeUnit.NANOSECONDS.toMillis(timeout) + "m";
+        } else if (timeout < MAX_TIMEOUT_VALUE * 1_000_000_000L) {
+            return TimeUnit.NANOSECONDS.toSeconds(timeout) + "S";
+        } else if (timeout < MAX_TIMEOUT_VALUE * 60_000_000_000L) {
+            return TimeUnit.NANOSECONDS.toMinutes(timeout) + "M";
+        } else {
+            return Math.min(TimeUnit.NANOSECONDS.toHours(timeout), MAX_TIMEOUT_VALUE - 1) + "H";
+        }
+    }
+
+    /**
+     * Runs a task once a deadline is passed.
+     *
+     * @param task          task to be run in the timer thread. It should not block.
+     * @param deadlineNanos deadline, as per {@link System#nanoTime()}.
+     * @return handle to cancel the task.
+     */
+    public static Timeout schedule(Runnable task, long deadlineNanos) {
+        return TIMER.newTimeout(timeout -> task.run(), Math.max(0, deadlineNanos - System.nanoTime()),
+                TimeUnit.NANOSECONDS);
+    }
+
+    private static RuntimeException invalidTimeout(String value) {
+        return Status.Code.INTERNAL.toStatus().withDescription("Invalid " + TIMEOUT_KEY + " header: " + value)
+                .asRuntimeException();
+    }
+}
@@ -69,6 +69,9 @@ public class GrpcConstants {
     public static final String ANN_DESCRIPTOR = "Descriptor";
     public static final BString ANN_DESCRIPTOR_FQN = StringUtils.fromString(PROTOCOL_STRUCT_PACKAGE_GRPC + ":" +
             ANN_DESCRIPTOR);
+    public static final String ANN_SERVICE_CONFIG = "ServiceConfig";
+    public static final BString ANN_SERVICE_CONFIG_FQN = StringUtils.fromString(PROTOCOL_STRUCT_PACKAGE_GRPC + ":" +
+            ANN_SERVICE_CONFIG);
 
     //client side endpoint constants
     public static final String CLIENT_ENDPOINT_RESPONSE_OBSERVER = "ResponseObserver";
@@ -88,6 +91,63 @@ public class GrpcConstants {
     public static final String HEADERS = "Headers";
 
     public static final String MAX_INBOUND_MESSAGE_SIZE = "maxInboundMessageSize";
+
+    // outbound buffer configuration constants
+    public static final BString OUTBOUND_BUFFER = StringUtils.fromString("outboundBuffer");
+    public static final BString OUTBOUND_BUFFER_MAX_BYTES = StringUtils.fromString("maxBytes");
+    public static final BString OUTBOUND_BUFFER_MAX_MESSAGES = StringUtils.fromString("maxMessages");
+    public static final BString OUTBOUND_BUFFER_OVERFLOW_POLICY = StringUtils.fromString("overflowPolicy");
+
+    // inbound buffer configuration constants
+    public static final BString INBOUND_BUFFER = StringUtils.fromString("inboundBuffer");
+    public static final BString INBOUND_BUFFER_MAX_BYTES = StringUtils.fromString("maxBytes");
+    public static final BString INBOUND_BUFFER_MAX_MESSAGES = StringUtils.fromString("maxMessages");
+
+    // call timeout configuration constants
+    public static final BString CALL_TIMEOUT = StringUtils.fromString("callTimeout");
+
+    // graceful stop configuration constants
+    public static final BString GRACEFUL_STOP_TIMEOUT = StringUtils.fromString("gracefulStopTimeout");
+    public static final String GRACEFUL_STOP_TIMEOUT_NANOS = "GRACEFUL_STOP_TIMEOUT_NANOS";
+
+    // worker pool configuration constants
+    public static final BString WORKER_POOL = StringUtils.fromString("workerPool");
+    public static final BString WORKER_POOL_SIZE = StringUtils.fromString("poolSize");
+    public static final BString WORKER_POOL_QUEUE_TYPE = StringUtils.fromString("queueType");
+    public static final BString WORKER_POOL_QUEUE_CAPACITY = StringUtils.fromString("queueCapacity");
+    public static final BString WORKER_POOL_VIRTUAL_THREADS = StringUtils.fromString("virtualThreads");
+
+    // admission control configuration constants
+    public static final BString ADMISSION = StringUtils.fromString("admission");
+    public static final BString ADMISSION_MAX_INFLIGHT_CALLS = StringUtils.fromString("maxInflightCalls");
+    public static final BString ADMISSION_MAX_QUEUED_CALLS = StringUtils.fromString("maxQueuedCalls");
+    public static final BString ADMISSION_MAX_QUEUE_TIME = StringUtils.fromString("maxQueueTime");
+    public static final BString ADMISSION_REJECTION_STATUS = StringUtils.fromString("rejectionStatus");
+    public static final BString ADMISSION_RETRY_PUSHBACK = StringUtils.fromString("retryPushback");
+
+    // adaptive concurrency limit configuration constants
+    public static final BString ADAPTIVE_CONCURRENCY = StringUtils.fromString("adaptiveConcurrency");
+    public static final BString ADAPTIVE_CONCURRENCY_INITIAL_LIMIT = StringUtils.fromString("initialLimit");
+    public static final BString ADAPTIVE_CONCURRENCY_MIN_LIMIT = StringUtils.fromString("minLimit");
+    public static final BString ADAPTIVE_CONCURRENCY_MAX_LIMIT = StringUtils.fromString("maxLimit");
+
+    // concurrency limit configuration constants
+    public static final BString SERVICE_CONFIG_CONCURRENCY = StringUtils.fromString("concurrency");
+    public static final BString SERVICE_CONFIG_METHOD_CONCURRENCY = StringUtils.fromString("methodConcurrency");
+    public static final BString CONCURRENCY_MAX_CONCURRENT_CALLS = StringUtils.fromString("maxConcurrentCalls");
+    public static final BString CONCURRENCY_MAX_QUEUED_CALLS = StringUtils.fromString("maxQueuedCalls");
+    public static final BString CONCURRENCY_DEDICATED_WORKERS = StringUtils.fromString("dedicatedWorkers");
+    public static final BString SERVICE_CONFIG_METHOD_CACHE = StringUtils.fromString("methodCache");
+    public static final BString RESPONSE_CACHE_TTL = StringUtils.fromString("ttl");
+    public static final BString RESPONSE_CACHE_MAX_ENTRIES = StringUtils.fromString("maxEntries");
+    public static final BString RESPONSE_CACHE_MAX_BYTES = StringUtils.fromString("maxBytes");
+    public static final BString RESPONSE_CACHE_KEY_HEADERS = StringUtils.fromString("keyHeaders");
+    public static final BString SERVICE_CONFIG_METHOD_COALESCING = StringUtils.fromString("methodCoalescing");
+    public static final BString CALL_COALESCING_KEY_HEADERS = StringUtils.fromString("keyHeaders");
+    public static final String SERVER_CONNECTOR_LISTENER = "SERVER_CONNECTOR_LISTENER";
+    public static final String CLIENT_WORKER_EXECUTOR = "CLIENT_WORKER_EXECUTOR";
+    public static final String CLIENT_CALL_TIMEOUT = "CLIENT_CALL_TIMEOUT";
+    public static final String CLIENT_INBOUND_BUFFER = "CLIENT_INBOUND_BUFFER";
     
     public static final Map<DescriptorProtos.FieldDescriptorProto.Type, Integer> WIRE_TYPE_MAP;
 
@@ -160,6 +220,7 @@ public class GrpcConstants {
     public static final String SCHEME_HEADER = "scheme";
     public static final String AUTHORITY = "authority";
     public static final String AUTHORIZATION = "authorization";
+    public static final String INBOUND_DEADLINE = "grpc-inbound-deadline";
 
     //Content-Type used for GRPC-over-HTTP/2.
     public static final String CONTENT_TYPE_GRPC = "application/grpc";
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports the internal metrics of the gRPC module, such as queue depths, through the Ballerina observability
+ * metrics registry. Nothing is recorded when metrics are not enabled for the program.
+ *
+ * @since 1.4.0
+ */
+public final class GrpcMetrics {
+
+    public static final String OUTBOUND_QUEUED_BYTES = "grpc_outbound_queued_bytes";
+    public static final String OUTBOUND_QUEUED_MESSAGES = "grpc_outbound_queued_messages";
+    public static final String OUTBOUND_DROPPED_MESSAGES = "grpc_outbound_dropped_messages_total";
+    public static final String OUTBOUND_OVERFLOWS = "grpc_outbound_overflows_total";
+    public static final String WORKER_ACTIVE_TASKS = "grpc_worker_active_tasks";
+    public static final String WORKER_QUEUED_TASKS = "grpc_worker_queued_tasks";
+    public static final String ADMISSION_REJECTIONS = "grpc_admission_rejections_total";
+    public static final String BULKHEAD_ACTIVE_CALLS = "grpc_bulkhead_active_calls";
+    public static final String BULKHEAD_QUEUED_CALLS = "grpc_bulkhead_queued_calls";
+    public static final String BULKHEAD_REJECTIONS = "grpc_bulkhead_rejections_total";
+    public static final String ADAPTIVE_LIMIT = "grpc_adaptive_concurrency_limit";
+    public static final String ADAPTIVE_LIMIT_REJECTIONS = "grpc_adaptive_concurrency_rejections_total";
+    public static final String RESPONSE_CACHE_HITS = "grpc_response_cache_hits_total";
+    public static final String RESPONSE_CACHE_MISSES = "grpc_response_cache_misses_total";
+    public static final String RESPONSE_CACHE_EVICTIONS = "grpc_response_cache_evictions_total";
+    public static final String RESPONSE_CACHE_BYTES = "grpc_response_cache_bytes";
+    public static final String COALESCED_CALLS = "grpc_coalesced_calls_total";
+    public static final String INBOUND_PAUSES = "grpc_inbound_pauses_total";
+
+    private static final Map<String, Gauge> GAUGES = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private GrpcMetrics() {
+    }
+
+    /**
+     * Adds the given amount to a gauge. A negative amount decrements the gauge.
+     *
+     * @param name        metric name.
+     * @param description metric description.
+     * @param amount      amount to be added.
+     */
+    public static void addToGauge(String name, String description, double amount) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            GAUGES.computeIfAbsent(name, key -> Gauge.builder(key).description(description).register())
+                    .increment(amount);
+        }
+    }
+
+    /**
+     * Adds the given amount to a gauge with a tag. A negative amount decrements the gauge.
+     *
+     * @param name        metric name.
+     * @param description metric description.
+     * @param tagKey      tag key.
+     * @param tagValue    tag value.
+     * @param amount      amount to be added.
+     */
+    public static void addToGauge(String name, String description, String tagKey, String tagValue, double amount) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            GAUGES.computeIfAbsent(name + "|" + tagKey + "=" + tagValue, key -> Gauge.builder(name)
+                    .description(description).tag(tagKey, tagValue).register()).increment(amount);
+        }
+    }
+
+    /**
+     * Sets the value of a gauge.
+     *
+     * @param name        metric name.
+     * @param description metric description.
+     * @param value       value to be set.
+     */
+    public static void setGauge(String name, String description, double value) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            GAUGES.computeIfAbsent(name, key -> Gauge.builder(key).description(description).register())
+                    .setValue(value);
+        }
+    }
+
+    /**
+     * Sets the value of a gauge with a tag.
+     *
+     * @param name        metric name.
+     * @param description metric description.
+     * @param tagKey      tag key.
+     * @param tagValue    tag value.
+     * @param value       value to be set.
+     */
+    public static void setGauge(String name, String description, String tagKey, String tagValue, double value) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            GAUGES.computeIfAbsent(name + "|" + tagKey + "=" + tagValue, key -> Gauge.builder(name)
+                    .description(description).tag(tagKey, tagValue).register()).setValue(value);
+        }
+    }
+
+    /**
+     * Increments a counter by one.
+     *
+     * @param name        metric name.
+     * @param description metric description.
+     */
+    public static void incrementCounter(String name, String description) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            COUNTERS.computeIfAbsent(name, key -> Counter.builder(key).description(description).register())
+                    .increment();
+        }
+    }
+
+    /**
+     * Increments a counter with a tag by one.
+     *
+     * @param name        metric name.
+     * @param description metric description.
+     * @param tagKey      tag key.
+     * @param tagValue    tag value.
+     */
+    public static void incrementCounter(String name, String description, String tagKey, String tagValue) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            COUNTERS.computeIfAbsent(name + "|" + tagKey + "=" + tagValue, key -> Counter.builder(name)
+                    .description(description).tag(tagKey, tagValue).register()).increment();
+        }
+    }
+}
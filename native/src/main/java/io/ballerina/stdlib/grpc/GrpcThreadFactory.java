@@ -18,6 +18,9 @@
 
 package io.ballerina.stdlib.grpc;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -41,6 +44,54 @@ public class GrpcThreadFactory implements ThreadFactory {
         this(Thread.currentThread().getThreadGroup(), namePrefix);
     }
 
+    /**
+     * Returns whether the running JDK supports virtual threads.
+     *
+     * @return true if virtual threads can be created.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return newVirtualThreadFactory("grpc-virtual-thread-probe") != null;
+    }
+
+    /**
+     * Creates a thread factory which creates virtual threads named with the given prefix. Virtual threads are looked
+     * up reflectively, as they are not available in the JDK version this module is compiled against.
+     *
+     * @param namePrefix prefix of the thread names.
+     * @return thread factory, or null if the running JDK does not support virtual threads.
+     */
+    public static ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix + "-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException |
+                InvocationTargetException e) {
+            // Either not available, or a preview feature which is not enabled in the running JDK.
+            return null;
+        }
+    }
+
+    /**
+     * Creates an executor which runs each task in a new virtual thread named with the given prefix.
+     *
+     * @param namePrefix prefix of the thread names.
+     * @return executor, or null if the running JDK does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        ThreadFactory threadFactory = newVirtualThreadFactory(namePrefix);
+        if (threadFactory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
     @Override
     public Thread newThread(Runnable r) {
         Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
@@ -44,7 +44,26 @@ import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_VERSION;
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADAPTIVE_CONCURRENCY;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADAPTIVE_CONCURRENCY_INITIAL_LIMIT;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADAPTIVE_CONCURRENCY_MAX_LIMIT;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADAPTIVE_CONCURRENCY_MIN_LIMIT;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADMISSION;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADMISSION_MAX_INFLIGHT_CALLS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADMISSION_MAX_QUEUED_CALLS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADMISSION_MAX_QUEUE_TIME;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADMISSION_REJECTION_STATUS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ADMISSION_RETRY_PUSHBACK;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CALL_TIMEOUT;
 import static io.ballerina.stdlib.grpc.GrpcConstants.ENDPOINT_CONFIG_SECURESOCKET;
+import static io.ballerina.stdlib.grpc.GrpcConstants.GRACEFUL_STOP_TIMEOUT;
+import static io.ballerina.stdlib.grpc.GrpcConstants.INBOUND_BUFFER;
+import static io.ballerina.stdlib.grpc.GrpcConstants.INBOUND_BUFFER_MAX_BYTES;
+import static io.ballerina.stdlib.grpc.GrpcConstants.INBOUND_BUFFER_MAX_MESSAGES;
+import static io.ballerina.stdlib.grpc.GrpcConstants.OUTBOUND_BUFFER;
+import static io.ballerina.stdlib.grpc.GrpcConstants.OUTBOUND_BUFFER_MAX_BYTES;
+import static io.ballerina.stdlib.grpc.GrpcConstants.OUTBOUND_BUFFER_MAX_MESSAGES;
+import static io.ballerina.stdlib.grpc.GrpcConstants.OUTBOUND_BUFFER_OVERFLOW_POLICY;
 import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_CERT;
 import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_CERTKEY_CERT_FILE;
 import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_CERTKEY_KEY_FILE;
@@ -56,6 +75,11 @@ import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_CERT_VA
 import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_CERT_VALIDATION_TYPE_OCSP_STAPLING;
 import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_CIPHERS;
 import static io.ballerina.stdlib.grpc.GrpcConstants.SECURESOCKET_CONFIG_DISABLE_SSL;
+import static io.ballerina.stdlib.grpc.GrpcConstants.WORKER_POOL;
+import static io.ballerina.stdlib.grpc.GrpcConstants.WORKER_POOL_QUEUE_CAPACITY;
+import static io.ballerina.stdlib.grpc.GrpcConstants.WORKER_POOL_QUEUE_TYPE;
+import static io.ballerina.stdlib.grpc.GrpcConstants.WORKER_POOL_SIZE;
+import static io.ballerina.stdlib.grpc.GrpcConstants.WORKER_POOL_VIRTUAL_THREADS;
 import static io.ballerina.stdlib.http.api.HttpConstants.ANN_CONFIG_ATTR_SSL_ENABLED_PROTOCOLS;
 import static io.ballerina.stdlib.http.api.HttpConstants.CONNECTION_MANAGER;
 import static io.ballerina.stdlib.http.api.HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION;
@@ -237,6 +261,163 @@ public class GrpcUtil {
         return listenerConfiguration;
     }
 
+    /**
+     * Reads the outbound buffer limits from the listener configuration.
+     *
+     * @param endpointConfig listener configuration.
+     * @return outbound buffer limits, or null if the outbound buffer is unbounded.
+     */
+    public static OutboundBufferConfig getOutboundBufferConfig(BMap endpointConfig) {
+
+        BMap<BString, Object> bufferConfig = endpointConfig.getMapValue(OUTBOUND_BUFFER);
+        if (bufferConfig == null) {
+            return null;
+        }
+        long maxBytes = bufferConfig.getIntValue(OUTBOUND_BUFFER_MAX_BYTES);
+        long maxMessages = bufferConfig.getIntValue(OUTBOUND_BUFFER_MAX_MESSAGES);
+        if (maxBytes <= 0 || maxMessages <= 0) {
+            throw new RuntimeException("Outbound buffer limits should be greater than zero");
+        }
+        OutboundBufferConfig.OverflowPolicy overflowPolicy = OutboundBufferConfig.OverflowPolicy.valueOf(
+                bufferConfig.getStringValue(OUTBOUND_BUFFER_OVERFLOW_POLICY).getValue());
+        return new OutboundBufferConfig(maxBytes, validateConfig(maxMessages, OUTBOUND_BUFFER_MAX_MESSAGES),
+                overflowPolicy);
+    }
+
+    /**
+     * Reads the inbound buffer limits from the listener configuration.
+     *
+     * @param endpointConfig listener configuration.
+     * @return inbound buffer limits, or null if the inbound buffer is unbounded.
+     */
+    public static InboundBufferConfig getInboundBufferConfig(BMap endpointConfig) {
+
+        BMap<BString, Object> bufferConfig = endpointConfig.getMapValue(INBOUND_BUFFER);
+        if (bufferConfig == null) {
+            return null;
+        }
+        long maxBytes = bufferConfig.getIntValue(INBOUND_BUFFER_MAX_BYTES);
+        long maxMessages = bufferConfig.getIntValue(INBOUND_BUFFER_MAX_MESSAGES);
+        if (maxBytes <= 0 || maxMessages <= 0) {
+            throw new RuntimeException("Inbound buffer limits should be greater than zero");
+        }
+        return new InboundBufferConfig(maxBytes, validateConfig(maxMessages, INBOUND_BUFFER_MAX_MESSAGES));
+    }
+
+    /**
+     * Reads the worker pool configuration from the listener configuration.
+     *
+     * @param endpointConfig listener configuration.
+     * @return worker pool configuration, or the default configuration if the worker pool is not configured.
+     */
+    public static WorkerPoolConfig getWorkerPoolConfig(BMap endpointConfig) {
+
+        BMap<BString, Object> poolConfig = endpointConfig.getMapValue(WORKER_POOL);
+        if (poolConfig == null) {
+            return WorkerPoolConfig.DEFAULT;
+        }
+        long poolSize = poolConfig.getIntValue(WORKER_POOL_SIZE);
+        if (poolSize <= 0) {
+            throw new RuntimeException("Worker pool size should be greater than zero");
+        }
+        WorkerPoolConfig.QueueType queueType = WorkerPoolConfig.QueueType.valueOf(
+                poolConfig.getStringValue(WORKER_POOL_QUEUE_TYPE).getValue());
+        long queueCapacity = poolConfig.getIntValue(WORKER_POOL_QUEUE_CAPACITY);
+        if (queueType == WorkerPoolConfig.QueueType.BOUNDED && queueCapacity <= 0) {
+            throw new RuntimeException("Worker pool queue capacity should be greater than zero");
+        }
+        return new WorkerPoolConfig(validateConfig(poolSize, WORKER_POOL_SIZE), queueType,
+                validateConfig(queueCapacity, WORKER_POOL_QUEUE_CAPACITY),
+                poolConfig.getBooleanValue(WORKER_POOL_VIRTUAL_THREADS));
+    }
+
+    /**
+     * Reads the call timeout from the client configuration.
+     *
+     * @param endpointConfig client configuration.
+     * @return call timeout in nanoseconds, or {@link Deadlines#NO_DEADLINE} if the call timeout is not configured.
+     */
+    public static long getCallTimeout(BMap endpointConfig) {
+
+        Object callTimeout = endpointConfig.get(CALL_TIMEOUT);
+        if (callTimeout == null) {
+            return Deadlines.NO_DEADLINE;
+        }
+        double timeoutSeconds = ((BDecimal) callTimeout).floatValue();
+        if (timeoutSeconds <= 0) {
+            throw new RuntimeException("Call timeout should be greater than zero");
+        }
+        return (long) (timeoutSeconds * 1_000_000_000L);
+    }
+
+    /**
+     * Reads the graceful stop timeout from the listener configuration.
+     *
+     * @param endpointConfig listener configuration.
+     * @return graceful stop timeout in nanoseconds.
+     */
+    public static long getGracefulStopTimeout(BMap endpointConfig) {
+
+        double timeoutSeconds = ((BDecimal) endpointConfig.get(GRACEFUL_STOP_TIMEOUT)).floatValue();
+        if (timeoutSeconds < 0) {
+            throw new RuntimeException("Graceful stop timeout should not be negative");
+        }
+        return (long) (timeoutSeconds * 1_000_000_000L);
+    }
+
+    /**
+     * Reads the admission control configuration from the listener configuration.
+     *
+     * @param endpointConfig listener configuration.
+     * @return admission control configuration, or null if admission control is not configured.
+     */
+    public static AdmissionConfig getAdmissionConfig(BMap endpointConfig) {
+
+        BMap<BString, Object> admissionConfig = endpointConfig.getMapValue(ADMISSION);
+        if (admissionConfig == null) {
+            return null;
+        }
+        long maxInflightCalls = admissionConfig.getIntValue(ADMISSION_MAX_INFLIGHT_CALLS);
+        long maxQueuedCalls = admissionConfig.getIntValue(ADMISSION_MAX_QUEUED_CALLS);
+        if (maxInflightCalls <= 0 || maxQueuedCalls <= 0) {
+            throw new RuntimeException("Admission limits should be greater than zero");
+        }
+        double maxQueueTime = ((BDecimal) admissionConfig.get(ADMISSION_MAX_QUEUE_TIME)).floatValue();
+        double retryPushback = ((BDecimal) admissionConfig.get(ADMISSION_RETRY_PUSHBACK)).floatValue();
+        if (maxQueueTime < 0) {
+            throw new RuntimeException("Admission queue time should not be negative");
+        }
+        Status.Code rejectionCode = Status.Code.valueOf(
+                admissionConfig.getStringValue(ADMISSION_REJECTION_STATUS).getValue());
+        return new AdmissionConfig(validateConfig(maxInflightCalls, ADMISSION_MAX_INFLIGHT_CALLS),
+                validateConfig(maxQueuedCalls, ADMISSION_MAX_QUEUED_CALLS), (long) (maxQueueTime * 1_000_000_000L),
+                rejectionCode, (long) (retryPushback * 1000));
+    }
+
+    /**
+     * Reads the adaptive concurrency limit configuration from the listener configuration.
+     *
+     * @param endpointConfig listener configuration.
+     * @return adaptive concurrency limit configuration, or null if the limits are not configured.
+     */
+    public static AdaptiveLimitConfig getAdaptiveLimitConfig(BMap endpointConfig) {
+
+        BMap<BString, Object> limitConfig = endpointConfig.getMapValue(ADAPTIVE_CONCURRENCY);
+        if (limitConfig == null) {
+            return null;
+        }
+        long initialLimit = limitConfig.getIntValue(ADAPTIVE_CONCURRENCY_INITIAL_LIMIT);
+        long minLimit = limitConfig.getIntValue(ADAPTIVE_CONCURRENCY_MIN_LIMIT);
+        long maxLimit = limitConfig.getIntValue(ADAPTIVE_CONCURRENCY_MAX_LIMIT);
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new RuntimeException("Adaptive concurrency limits should satisfy 0 < minLimit <= initialLimit <= " +
+                    "maxLimit");
+        }
+        return new AdaptiveLimitConfig(validateConfig(initialLimit, ADAPTIVE_CONCURRENCY_INITIAL_LIMIT),
+                validateConfig(minLimit, ADAPTIVE_CONCURRENCY_MIN_LIMIT),
+                validateConfig(maxLimit, ADAPTIVE_CONCURRENCY_MAX_LIMIT));
+    }
+
     private static String getServerName() {
 
         String userAgent;
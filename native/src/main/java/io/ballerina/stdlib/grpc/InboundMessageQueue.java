@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Queue of the streamed inbound messages of a call, which are not yet read. The queue is bounded by the number of
+ * messages and their size on the wire.
+ *
+ * <p>
+ * Messages are never refused by the queue, since a content received from the peer may carry several messages.
+ * Instead, the call stops processing its inbound contents once the queue is full, and registers a listener with
+ * {@link #notifyWhenNotFull(Runnable)} to resume once the buffered messages are read.
+ *
+ * @since 1.4.0
+ */
+public final class InboundMessageQueue extends MessageQueue {
+
+    private final int maxMessages;
+    private final long maxBytes;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicReference<Runnable> onNotFull = new AtomicReference<>();
+
+    public InboundMessageQueue(InboundBufferConfig config) {
+        this.maxMessages = config.getMaxMessages();
+        this.maxBytes = config.getMaxBytes();
+    }
+
+    @Override
+    protected void queued(Message message) {
+        bytes.addAndGet(message.getInboundSize());
+    }
+
+    @Override
+    public Message take() throws InterruptedException {
+        return removed(super.take());
+    }
+
+    @Override
+    public Message poll() {
+        return removed(super.poll());
+    }
+
+    @Override
+    public Message poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return removed(super.poll(timeout, unit));
+    }
+
+    @Override
+    public void clear() {
+        // The messages are removed one by one, so that the size of a message offered meanwhile stays accounted.
+        Message message;
+        while ((message = super.poll()) != null) {
+            bytes.addAndGet(-message.getInboundSize());
+        }
+        notifyIfNotFull();
+    }
+
+    /**
+     * Whether the buffered messages have reached either limit of the queue.
+     *
+     * @return true if the queue is full, false otherwise.
+     */
+    public boolean isFull() {
+        return size() >= maxMessages || bytes.get() >= maxBytes;
+    }
+
+    /**
+     * Maximum size of the buffered messages on the wire.
+     *
+     * @return size in bytes.
+     */
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Size of the buffered messages on the wire.
+     *
+     * @return size in bytes.
+     */
+    public long bytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Registers a listener which is run once, as soon as the queue is not full. The listener is run right away in the
+     * calling thread if the queue is not full at the moment.
+     *
+     * @param listener listener to be run.
+     */
+    public void notifyWhenNotFull(Runnable listener) {
+        onNotFull.set(listener);
+        notifyIfNotFull();
+    }
+
+    /**
+     * Removes the listener registered with {@link #notifyWhenNotFull(Runnable)}, if it has not run yet.
+     */
+    public void cancelNotifyWhenNotFull() {
+        onNotFull.set(null);
+    }
+
+    private Message removed(Message message) {
+        if (message != null) {
+            bytes.addAndGet(-message.getInboundSize());
+            notifyIfNotFull();
+        }
+        return message;
+    }
+
+    private void notifyIfNotFull() {
+        if (onNotFull.get() != null && !isFull()) {
+            Runnable listener = onNotFull.getAndSet(null);
+            if (listener != null) {
+                listener.run();
+            }
+        }
+    }
+}
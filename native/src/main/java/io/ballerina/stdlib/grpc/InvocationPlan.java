@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
+
+import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getTypeName;
+
+/**
+ * Layout of the arguments of a resource function. The plan is computed once the service is registered, so that a call
+ * only fills in the values of the arguments.
+ *
+ * @since 1.4.0
+ */
+public final class InvocationPlan {
+
+    private static final String CALLER_TYPE = "Caller";
+    private static final String STREAM_TYPE = "Stream";
+
+    private final boolean callerRequired;
+    private final Module callerPackage;
+    private final String callerTypeName;
+    private final int argumentCount;
+    private final Module contextPackage;
+    private final String contextTypeName;
+    private final boolean isolated;
+
+    InvocationPlan(ObjectType serviceType, String serviceName, String functionName, Type[] paramTypes,
+                   boolean headerRequired, Type rpcInputType, Type rpcOutputType) {
+        int paramCount = paramTypes.length;
+        this.callerRequired = paramCount >= 1 && paramTypes[0].getTag() == TypeTags.OBJECT_TYPE_TAG &&
+                paramTypes[0].getName().contains(CALLER_TYPE);
+        // Each argument is followed by a flag which tells that the argument is given.
+        this.argumentCount = callerRequired ? paramCount * 2 : 2;
+        this.callerPackage = serviceType.getPackage();
+        Type returnType = rpcOutputType instanceof ArrayType ?
+                getReferredType(((ArrayType) rpcOutputType).getElementType()) : rpcOutputType;
+        String outputType = returnType != PredefinedTypes.TYPE_NULL ? getTypeName(returnType) : null;
+        this.callerTypeName = MessageUtils.getCallerTypeName(serviceName, outputType);
+        if (headerRequired && paramCount >= 1) {
+            Type inputParameter = paramTypes[paramCount - 1];
+            this.contextPackage = inputParameter.getPackage();
+            // A streaming remote function takes a context stream, while the others take a context record.
+            if (inputParameter.getName().contains(STREAM_TYPE) &&
+                    ((paramCount == 1 && paramTypes[0].getTag() == TypeTags.RECORD_TYPE_TAG) ||
+                            (paramCount > 1 && paramTypes[1].getTag() == TypeTags.RECORD_TYPE_TAG))) {
+                this.contextTypeName = MessageUtils.getContextStreamTypeName(rpcInputType);
+            } else {
+                this.contextTypeName = MessageUtils.getContextTypeName(rpcInputType);
+            }
+        } else {
+            this.contextPackage = null;
+            this.contextTypeName = null;
+        }
+        this.isolated = serviceType.isIsolated() && serviceType.isIsolated(functionName);
+    }
+
+    /**
+     * Returns whether the first argument of the resource function is the caller.
+     *
+     * @return true if the caller is required, false otherwise.
+     */
+    public boolean isCallerRequired() {
+        return callerRequired;
+    }
+
+    /**
+     * Returns the package of the caller type of the resource function.
+     *
+     * @return package of the caller type.
+     */
+    public Module getCallerPackage() {
+        return callerPackage;
+    }
+
+    /**
+     * Returns the name of the caller type of the resource function.
+     *
+     * @return name of the caller type.
+     */
+    public String getCallerTypeName() {
+        return callerTypeName;
+    }
+
+    /**
+     * Returns the size of the argument array, which holds each argument followed by its flag.
+     *
+     * @return size of the argument array.
+     */
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    /**
+     * Returns the package of the context record which carries the request along with its headers.
+     *
+     * @return package of the context record, or null if the resource function does not take the headers.
+     */
+    public Module getContextPackage() {
+        return contextPackage;
+    }
+
+    /**
+     * Returns the name of the context record which carries the request along with its headers.
+     *
+     * @return name of the context record, or null if the resource function does not take the headers.
+     */
+    public String getContextTypeName() {
+        return contextTypeName;
+    }
+
+    /**
+     * Returns whether the resource function can be run concurrently with the other calls.
+     *
+     * @return true if both the service and the resource function are isolated, false otherwise.
+     */
+    public boolean isIsolated() {
+        return isolated;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.Objects;
+
+/**
+ * Headers of a stream, which are converted to a Ballerina header map only once they are read.
+ * <p>
+ * All the messages of a stream carry the same headers, so the holder of the last message is reused for the messages
+ * which follow it until its headers are read. Once they are read, the next message gets a new holder, so that the
+ * headers read for a message reflect any update made to them until that message is received.
+ *
+ * @since 1.4.0
+ */
+public final class LazyHeaderMap {
+
+    private final HttpHeaders headers;
+    private BMap headerMap;
+
+    private LazyHeaderMap(HttpHeaders headers) {
+        this.headers = Objects.requireNonNull(headers, "headers");
+    }
+
+    /**
+     * Returns the holder of the given headers, reusing the current holder if it holds the same headers and they are
+     * not read yet.
+     *
+     * @param current current holder, or null if there is none.
+     * @param headers headers of the message.
+     * @return holder of the headers.
+     */
+    public static LazyHeaderMap of(Object current, HttpHeaders headers) {
+        if (current instanceof LazyHeaderMap && ((LazyHeaderMap) current).isPending(headers)) {
+            return (LazyHeaderMap) current;
+        }
+        return new LazyHeaderMap(headers);
+    }
+
+    private synchronized boolean isPending(HttpHeaders headers) {
+        return this.headers == headers && headerMap == null;
+    }
+
+    /**
+     * Resolves a header value stored as native data, which is either a holder or an already converted header map.
+     *
+     * @param value native data value.
+     * @return Ballerina header map, or null if there are no headers.
+     */
+    public static Object resolve(Object value) {
+        return value instanceof LazyHeaderMap ? ((LazyHeaderMap) value).getHeaderMap() : value;
+    }
+
+    /**
+     * Returns the Ballerina header map, converting the headers on the first call.
+     *
+     * @return Ballerina header map.
+     */
+    public synchronized BMap getHeaderMap() {
+        if (headerMap == null) {
+            headerMap = MessageUtils.createHeaderMap(headers);
+        }
+        return headerMap;
+    }
+}
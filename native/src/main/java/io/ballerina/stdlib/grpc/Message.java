@@ -104,6 +104,7 @@ public class Message {
     private String messageName;
     private int memoizedSize = -1;
     private HttpHeaders headers;
+    private int inboundSize = 0;
     private Object bMessage = null;
     private Descriptors.Descriptor descriptor = null;
 
@@ -141,6 +142,19 @@ public class Message {
         this.headers = headers;
     }
 
+    /**
+     * Size of the message as received on the wire, which is accounted against the inbound buffer of the call.
+     *
+     * @return size in bytes, or zero if the message is not received from the wire.
+     */
+    public int getInboundSize() {
+        return inboundSize;
+    }
+
+    public void setInboundSize(int inboundSize) {
+        this.inboundSize = inboundSize;
+    }
+
     public boolean isError() {
         return isError;
     }
@@ -19,6 +19,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.handler.codec.http.HttpContent;
 
 import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -273,7 +274,10 @@ public class MessageDeframer implements Closeable {
                     .asRuntimeException();
         }
         try {
-            return decompressor.decompress(new BufferInputStream(nextFrame));
+            // Enforce the max message size limit on the inflated bytes, since a small compressed frame can
+            // expand into an arbitrarily large message.
+            return new SizeEnforcingInputStream(decompressor.decompress(new BufferInputStream(nextFrame)),
+                    maxInboundMessageSize);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -317,4 +321,72 @@ public class MessageDeframer implements Closeable {
             return length;
         }
     }
+
+    /**
+     * An {@link InputStream} that enforces the max message size limit while the message is being read.
+     *
+     * <p>
+     * Referenced from grpc-java implementation.
+     * <p>
+     */
+    static final class SizeEnforcingInputStream extends FilterInputStream {
+
+        private final long maxMessageSize;
+        private long count;
+
+        SizeEnforcingInputStream(InputStream in, long maxMessageSize) {
+            super(in);
+            this.maxMessageSize = maxMessageSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = in.read();
+            if (result != -1) {
+                count++;
+            }
+            verifySize();
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = in.read(b, off, len);
+            if (result != -1) {
+                count += result;
+            }
+            verifySize();
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = in.skip(n);
+            count += result;
+            verifySize();
+            return result;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readLimit) {
+            // Mark is not supported as it would let the read count go backwards.
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("Mark not supported");
+        }
+
+        private void verifySize() {
+            if (maxMessageSize >= 0 && count > maxMessageSize) {
+                throw Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(String.format(
+                        "Decompressed gRPC message exceeds maximum size %d", maxMessageSize)).asRuntimeException();
+            }
+        }
+    }
 }
@@ -29,6 +29,8 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 import static java.lang.Math.min;
 
@@ -36,6 +38,9 @@ import static java.lang.Math.min;
  * Framer for gRPC messages to be delivered via the transport layer.
  *
  * <p>
+ * A framer is owned by a single {@link OutboundMessage}, which serializes the calls made to it. The closed state can
+ * be read from any thread.
+ * <p>
  * Referenced from grpc-java implementation.
  * <p>
  * @since 0.980.0
@@ -50,12 +55,14 @@ public class MessageFramer {
 
     private int maxOutboundMessageSize = NO_MAX_OUTBOUND_MESSAGE_SIZE;
     private ByteBuffer buffer;
+    // Frames of the batch being written by writePayloads, which are handed over as a single content.
+    private List<ByteBuffer> batchFrames;
     private Compressor compressor = Codec.Identity.NONE;
     private boolean messageCompression = true;
     private final OutputStreamAdapter outputStreamAdapter = new OutputStreamAdapter();
     private final byte[] headerScratch = new byte[HEADER_LENGTH];
-    private final HttpCarbonMessage carbonMessage;
-    private boolean closed;
+    private final OutboundBuffer outboundBuffer;
+    private volatile boolean closed;
 
     // Use 4k as our minimum buffer size.
     private static final int MIN_BUFFER = 4096;
@@ -63,13 +70,27 @@ public class MessageFramer {
     // Set the maximum buffer size to 1MB
     private static final int MAX_BUFFER = 1024 * 1024;
 
+    // Scratch buffers used to hold compressed messages are pooled, up to 256k each.
+    private static final int MAX_POOLED_BUFFER = 256 * 1024;
+    private static final Queue<byte[]> COMPRESSION_BUFFER_POOL = new ArrayBlockingQueue<>(
+            Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+
     /**
      * Creates new {@link MessageFramer} instance.
      *
      * @param carbonMessage response carbon message to be delivered.
      */
     MessageFramer(HttpCarbonMessage carbonMessage) {
-        this.carbonMessage = carbonMessage;
+        this(new OutboundBuffer(carbonMessage, new OutboundFlowController(), null));
+    }
+
+    /**
+     * Creates new {@link MessageFramer} instance which delivers the frames through the given outbound buffer.
+     *
+     * @param outboundBuffer outbound buffer of the call.
+     */
+    MessageFramer(OutboundBuffer outboundBuffer) {
+        this.outboundBuffer = outboundBuffer;
     }
 
     public void setCompressor(Compressor compressor) {
@@ -128,19 +149,23 @@ public class MessageFramer {
     }
 
     private int writeCompressed(InputStream message) throws IOException {
-        BufferChainOutputStream bufferChain = new BufferChainOutputStream();
-        int written;
-        try (OutputStream compressingStream = compressor.compress(bufferChain)) {
-            written = writeToOutputStream(message, compressingStream);
-        }
-        if (maxOutboundMessageSize >= 0 && written > maxOutboundMessageSize) {
-            throw Status.Code.RESOURCE_EXHAUSTED.toStatus()
-                    .withDescription(
-                            String.format("message too large %d > %d", written, maxOutboundMessageSize))
-                    .asRuntimeException();
+        PooledBufferOutputStream compressedBuffer = new PooledBufferOutputStream();
+        try {
+            int written;
+            try (OutputStream compressingStream = compressor.compress(compressedBuffer)) {
+                written = writeToOutputStream(message, compressingStream);
+            }
+            if (maxOutboundMessageSize >= 0 && written > maxOutboundMessageSize) {
+                throw Status.Code.RESOURCE_EXHAUSTED.toStatus()
+                        .withDescription(
+                                String.format("message too large %d > %d", written, maxOutboundMessageSize))
+                        .asRuntimeException();
+            }
+            writeCompressedBuffer(compressedBuffer);
+            return written;
+        } finally {
+            compressedBuffer.release();
         }
-        writeBufferChain(bufferChain, true);
-        return written;
     }
 
     private int getKnownLength(InputStream inputStream) throws IOException {
@@ -201,6 +226,22 @@ public class MessageFramer {
         }
     }
 
+    /**
+     * Write a compressed message which has been serialized to a pooled scratch buffer.
+     */
+    private void writeCompressedBuffer(PooledBufferOutputStream compressedBuffer) {
+        ByteBuffer header = ByteBuffer.wrap(headerScratch);
+        header.put(COMPRESSED);
+        int messageLength = compressedBuffer.size;
+        header.putInt(messageLength);
+        // Allocate the buffer chunk based on frame header + payload length.
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(HEADER_LENGTH + messageLength);
+        }
+        writeRaw(headerScratch, 0, header.position());
+        writeRaw(compressedBuffer.bytes, 0, messageLength);
+    }
+
     private static int writeToOutputStream(InputStream message, OutputStream outputStream)
             throws IOException {
         if (message instanceof Drainable) {
@@ -236,6 +277,36 @@ public class MessageFramer {
         }
     }
 
+    /**
+     * Writes out a batch of payload messages, whose frames are handed over to the transport as a single content. If
+     * a message cannot be written, the messages written before it are still handed over, without the partly written
+     * frame of the failed message.
+     *
+     * @param messages messages to be written in form of input streams.
+     */
+    public void writePayloads(List<InputStream> messages) {
+        List<ByteBuffer> frames = new ArrayList<>(messages.size());
+        int written = 0;
+        batchFrames = frames;
+        try {
+            for (InputStream message : messages) {
+                int committed = frames.size();
+                try {
+                    writePayload(message);
+                    flush();
+                } catch (RuntimeException e) {
+                    frames.subList(committed, frames.size()).clear();
+                    releaseBuffer();
+                    throw e;
+                }
+                written++;
+            }
+        } finally {
+            batchFrames = null;
+            commitBatch(frames, written);
+        }
+    }
+
     /**
      * Returns whether this framer has been closed or not.
      *
@@ -274,15 +345,41 @@ public class MessageFramer {
         }
     }
 
+    private void commitBatch(List<ByteBuffer> frames, int numMessages) {
+        if (frames.isEmpty()) {
+            return;
+        }
+        ByteBuffer batch;
+        if (frames.size() == 1) {
+            batch = frames.get(0);
+        } else {
+            int length = 0;
+            for (ByteBuffer frame : frames) {
+                length += frame.remaining();
+            }
+            batch = ByteBuffer.allocate(length);
+            for (ByteBuffer frame : frames) {
+                batch.put(frame);
+            }
+            batch.rewind();
+        }
+        outboundBuffer.addMessage(new DefaultHttpContent(outboundBuffer.wrap(batch, Math.max(1, numMessages))));
+    }
+
     private void commitToSink(boolean endOfStream) {
+        if (batchFrames != null && !endOfStream && buffer != null) {
+            batchFrames.add((ByteBuffer) buffer.rewind());
+            buffer = null;
+            return;
+        }
         ByteBuf content = Unpooled.buffer(0);
         if (buffer != null) {
-            content = Unpooled.wrappedBuffer((ByteBuffer) buffer.rewind());
+            content = outboundBuffer.wrap((ByteBuffer) buffer.rewind());
         }
         if (endOfStream) {
-            carbonMessage.addHttpContent(new DefaultLastHttpContent(content));
+            outboundBuffer.addLast(new DefaultLastHttpContent(content));
         } else {
-            carbonMessage.addHttpContent(new DefaultHttpContent(content));
+            outboundBuffer.addMessage(new DefaultHttpContent(content));
         }
         buffer = null;
     }
@@ -319,6 +416,62 @@ public class MessageFramer {
         }
     }
 
+    /**
+     * Collects the output of a compressor into a byte array borrowed from a bounded pool. The array is handed
+     * back with {@link #release()} once the message has been copied to the frame buffer.
+     */
+    private static final class PooledBufferOutputStream extends OutputStream {
+
+        private byte[] bytes;
+        private int size;
+
+        private PooledBufferOutputStream() {
+            byte[] pooled = COMPRESSION_BUFFER_POOL.poll();
+            this.bytes = pooled != null ? pooled : new byte[MIN_BUFFER];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(size + len);
+            System.arraycopy(b, off, bytes, size, len);
+            size += len;
+        }
+
+        @Override
+        public void close() {
+            // The scratch buffer outlives the compressing stream, it is returned to the pool on release.
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > bytes.length) {
+                byte[] grown = new byte[Math.max(required, bytes.length * 2)];
+                System.arraycopy(bytes, 0, grown, 0, size);
+                recycle(bytes);
+                bytes = grown;
+            }
+        }
+
+        private void release() {
+            if (bytes != null) {
+                recycle(bytes);
+                bytes = null;
+                size = 0;
+            }
+        }
+
+        private static void recycle(byte[] array) {
+            if (array.length <= MAX_POOLED_BUFFER) {
+                COMPRESSION_BUFFER_POOL.offer(array);
+            }
+        }
+    }
+
     /**
      * Produce a collection of ByteBuffer instances from the data written to an
      * {@link OutputStream}.
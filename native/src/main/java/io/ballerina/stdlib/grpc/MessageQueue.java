@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Queue of the messages of a stream, which are not yet read.
+ *
+ * <p>
+ * Besides the blocking {@link #take()}, the next message can be received with {@link #receive(Consumer)}, which does
+ * not hold a thread while the queue is empty. The message offered next is then handed over to the receiver by the
+ * producer, without being queued.
+ *
+ * @since 1.4.0
+ */
+public class MessageQueue extends LinkedBlockingQueue<Message> {
+
+    private final ReentrantLock receiverLock = new ReentrantLock();
+    private Consumer<Message> receiver;
+
+    @Override
+    public boolean offer(Message message) {
+        Consumer<Message> pending;
+        receiverLock.lock();
+        try {
+            pending = receiver;
+            if (pending == null) {
+                if (!super.offer(message)) {
+                    return false;
+                }
+                queued(message);
+                return true;
+            }
+            receiver = null;
+        } finally {
+            receiverLock.unlock();
+        }
+        pending.accept(message);
+        return true;
+    }
+
+    /**
+     * Receives the next message. The receiver is run right away in the calling thread if a message is queued, and in
+     * the thread which offers the next message otherwise.
+     *
+     * @param receiver receiver of the next message.
+     * @throws IllegalStateException if a receiver is already waiting for the next message.
+     */
+    public void receive(Consumer<Message> receiver) {
+        Message message;
+        receiverLock.lock();
+        try {
+            if (this.receiver != null) {
+                throw new IllegalStateException("Already waiting for the next message");
+            }
+            message = poll();
+            if (message == null) {
+                this.receiver = receiver;
+                return;
+            }
+        } finally {
+            receiverLock.unlock();
+        }
+        receiver.accept(message);
+    }
+
+    /**
+     * Called once a message is queued, as it is not handed over to a waiting receiver.
+     *
+     * @param message queued message.
+     */
+    protected void queued(Message message) {
+    }
+}
@@ -17,6 +17,8 @@ package io.ballerina.stdlib.grpc;
 
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
@@ -48,7 +50,9 @@ import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 import static io.ballerina.runtime.api.utils.StringUtils.fromStringArray;
@@ -124,7 +128,60 @@ public class MessageUtils {
         }
         return null;
     }
-    
+
+    /**
+     * Returns whether the given observer can send more messages without queueing them in the transport.
+     *
+     * @param observer stream observer of the call.
+     * @return true if the observer is ready to send messages, false otherwise.
+     */
+    public static boolean isReady(StreamObserver observer) {
+        return observer instanceof CallStreamObserver && ((CallStreamObserver) observer).isReady();
+    }
+
+    /**
+     * Suspends the current strand until the given observer is ready to send messages. The strand is resumed with
+     * an error if the stream gets closed in the meantime.
+     *
+     * @param env current environment.
+     * @param observer stream observer of the call.
+     * @return Error if the stream is closed, else returns nil.
+     */
+    public static Object awaitReady(Environment env, StreamObserver observer) {
+        if (!(observer instanceof CallStreamObserver)) {
+            return getConnectorError(new StatusRuntimeException(Status.Code.INTERNAL.toStatus()
+                    .withDescription("Error while waiting for the stream. Stream observer does not exist")));
+        }
+        CallStreamObserver callStreamObserver = (CallStreamObserver) observer;
+        if (callStreamObserver.isReady()) {
+            return null;
+        }
+        Future balFuture = env.markAsync();
+        notifyWhenReady(callStreamObserver, balFuture::complete);
+        return null;
+    }
+
+    /**
+     * Runs the given callback once the given observer is ready to send messages, with nil, or once the stream is
+     * closed, with an error. The observer may be notified while another producer fills the transport again, in which
+     * case it is waited for afresh.
+     *
+     * @param observer stream observer of the call.
+     * @param callback callback to be completed.
+     */
+    static void notifyWhenReady(CallStreamObserver observer, Consumer<Object> callback) {
+        observer.notifyWhenReady(() -> {
+            if (observer.isReady()) {
+                callback.accept(null);
+            } else if (observer.isClosed()) {
+                callback.accept(getConnectorError(new StatusRuntimeException(Status.Code.CANCELLED.toStatus()
+                        .withDescription("Stream is closed before it was ready to send messages"))));
+            } else {
+                notifyWhenReady(observer, callback);
+            }
+        });
+    }
+
     /**
      * Returns error struct of input type
      * Error type is generic ballerina error type. This utility method is used inside Observer onError
@@ -507,12 +564,18 @@ public class MessageUtils {
 
         BMap headerMap = ValueCreator.createMapValue(HEADER_MAP_TYPE);
         for (String key : httpHeaders.names()) {
-            String[] values = Arrays.stream(httpHeaders.getAll(key).toArray(new String[0]))
-                    .distinct().toArray(String[]::new);
+            List<String> allValues = httpHeaders.getAll(key);
+            BString name = fromString(key.toLowerCase(Locale.getDefault()));
+            if (allValues.size() == 1) {
+                // Most of the headers have a single value, which needs no deduplication.
+                headerMap.put(name, fromString(allValues.get(0)));
+                continue;
+            }
+            String[] values = allValues.stream().distinct().toArray(String[]::new);
             if (values.length == 1) {
-                headerMap.put(fromString(key.toLowerCase(Locale.getDefault())), fromString(values[0]));
+                headerMap.put(name, fromString(values[0]));
             } else {
-                headerMap.put(fromString(key.toLowerCase(Locale.getDefault())), fromStringArray(values));
+                headerMap.put(name, fromStringArray(values));
             }
         }
         return headerMap;
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor which reports the number of active and queued tasks of a worker pool as metrics.
+ *
+ * @since 1.4.0
+ */
+final class MeteredExecutorService extends AbstractExecutorService {
+
+    private static final String POOL_TAG = "pool";
+
+    private final ExecutorService delegate;
+    private final String poolName;
+
+    /**
+     * Creates a metered executor.
+     *
+     * @param delegate executor which runs the tasks.
+     * @param poolName name of the pool, which is used to tag the metrics.
+     */
+    MeteredExecutorService(ExecutorService delegate, String poolName) {
+        this.delegate = delegate;
+        this.poolName = poolName;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        reportQueued(1);
+        try {
+            delegate.execute(new MeteredTask(task));
+        } catch (RejectedExecutionException e) {
+            reportQueued(-1);
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pendingTasks = delegate.shutdownNow();
+        reportQueued(-pendingTasks.size());
+        return pendingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    private void reportQueued(int tasks) {
+        GrpcMetrics.addToGauge(GrpcMetrics.WORKER_QUEUED_TASKS, "Number of tasks waiting for a gRPC worker",
+                POOL_TAG, poolName, tasks);
+    }
+
+    private void reportActive(int tasks) {
+        GrpcMetrics.addToGauge(GrpcMetrics.WORKER_ACTIVE_TASKS, "Number of tasks run by gRPC workers",
+                POOL_TAG, poolName, tasks);
+    }
+
+    /**
+     * Task which reports when it leaves the queue and when it completes.
+     */
+    private final class MeteredTask implements Runnable {
+
+        private final Runnable task;
+
+        private MeteredTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            reportQueued(-1);
+            reportActive(1);
+            try {
+                task.run();
+            } finally {
+                reportActive(-1);
+            }
+        }
+    }
+}
@@ -22,6 +22,8 @@ import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ClientConnectorException;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
+import java.util.concurrent.Executor;
+
 import static io.ballerina.stdlib.http.api.HttpConstants.RESPONSE_STATUS_CODE_FIELD;
 
 /**
@@ -38,6 +40,12 @@ public class ObservableClientConnectorListener extends ClientConnectorListener {
         this.context = context;
     }
 
+    public ObservableClientConnectorListener(ClientCall.ClientStreamListener streamListener, DataContext context,
+                                             Long maxInboundMsgSize, Executor workerExecutor) {
+        super(streamListener, maxInboundMsgSize, workerExecutor);
+        this.context = context;
+    }
+
     @Override
     public void onMessage(HttpCarbonMessage httpCarbonMessage) {
         Integer statusCode = (Integer) httpCarbonMessage.getProperty(RESPONSE_STATUS_CODE_FIELD.getValue());
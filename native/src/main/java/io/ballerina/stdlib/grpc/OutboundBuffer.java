@@ -0,0 +1,337 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpContent;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Per-call buffer between the message framer and the transport, which applies the configured
+ * {@link OutboundBufferConfig} limits to the outbound messages of the call.
+ *
+ * <p>
+ * With {@link OutboundBufferConfig.OverflowPolicy#BLOCK} and {@link OutboundBufferConfig.OverflowPolicy#FAIL} the
+ * limits apply to the messages queued in the transport. With {@link OutboundBufferConfig.OverflowPolicy#DROP_OLDEST}
+ * only a small window of messages is handed over to the transport and the rest are held in this buffer, so that the
+ * oldest of them can still be dropped when the limits are exceeded. When no limits are configured, the messages are
+ * handed over to the transport as they are written.
+ * <p>
+ * With {@link OutboundBufferConfig.OverflowPolicy#BLOCK} the producer checks {@link #hasCapacity()} before it writes a
+ * message. While the buffer is full, the producer is suspended and resumed by {@link #notifyWhenCapacity(Runnable)},
+ * rather than blocking its thread, which is usually a thread of the Ballerina scheduler.
+ *
+ * @since 1.4.0
+ */
+final class OutboundBuffer {
+
+    private final Consumer<HttpContent> transport;
+    private final OutboundFlowController flowController;
+    private final OutboundBufferConfig config;
+    // Guards the held messages. A lock rather than a monitor, since virtual worker threads hand them over.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<HttpContent> pending = new ArrayDeque<>();
+    private long pendingBytes;
+    private int pendingMessages;
+    private boolean draining;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile Executor drainExecutor;
+
+    /**
+     * Creates an outbound buffer.
+     *
+     * @param carbonMessage  carbon message to which the contents are written.
+     * @param flowController flow controller of the call.
+     * @param config         buffer limits, or null if the buffer is unbounded.
+     */
+    OutboundBuffer(HttpCarbonMessage carbonMessage, OutboundFlowController flowController,
+                   OutboundBufferConfig config) {
+        this(carbonMessage::addHttpContent, flowController, config);
+    }
+
+    /**
+     * Creates an outbound buffer.
+     *
+     * @param transport      consumer which hands over the contents to the transport.
+     * @param flowController flow controller of the call.
+     * @param config         buffer limits, or null if the buffer is unbounded.
+     */
+    OutboundBuffer(Consumer<HttpContent> transport, OutboundFlowController flowController,
+                   OutboundBufferConfig config) {
+        this.transport = transport;
+        this.flowController = flowController;
+        this.config = config;
+        if (config != null) {
+            flowController.enableMetrics();
+            if (config.getOverflowPolicy() == OutboundBufferConfig.OverflowPolicy.DROP_OLDEST) {
+                flowController.setOnSentListener(this::scheduleDrain);
+            }
+        }
+    }
+
+    /**
+     * Wraps a frame buffer into a transport buffer which is accounted by the flow controller of the call.
+     *
+     * @param buffer rewound heap buffer of the frame.
+     * @return transport buffer.
+     */
+    ByteBuf wrap(ByteBuffer buffer) {
+        return flowController.wrap(buffer);
+    }
+
+    /**
+     * Wraps a buffer holding a batch of message frames into a transport buffer which is accounted by the flow
+     * controller of the call.
+     *
+     * @param buffer    rewound heap buffer of the frames.
+     * @param numFrames number of message frames in the buffer.
+     * @return transport buffer.
+     */
+    ByteBuf wrap(ByteBuffer buffer, int numFrames) {
+        return flowController.wrap(buffer, numFrames);
+    }
+
+    /**
+     * Sets the executor in which the held messages are handed over to the transport once it releases a frame.
+     *
+     * @param drainExecutor executor of the call.
+     */
+    void setDrainExecutor(Executor drainExecutor) {
+        this.drainExecutor = drainExecutor;
+    }
+
+    /**
+     * Returns whether the oldest messages are dropped once the buffer is full.
+     *
+     * @return true if the overflow policy is to drop the oldest messages.
+     */
+    boolean dropsMessages() {
+        return config != null && config.getOverflowPolicy() == OutboundBufferConfig.OverflowPolicy.DROP_OLDEST;
+    }
+
+    /**
+     * Returns whether the producer waits for capacity once the buffer is full.
+     *
+     * @return true if the overflow policy is to block the producer.
+     */
+    boolean blocksProducer() {
+        return config != null && config.getOverflowPolicy() == OutboundBufferConfig.OverflowPolicy.BLOCK;
+    }
+
+    /**
+     * Writes a content carrying message frames, applying the overflow policy if the buffer is full.
+     *
+     * @param content message content.
+     */
+    void addMessage(HttpContent content) {
+        if (config == null) {
+            transport.accept(content);
+            return;
+        }
+        switch (config.getOverflowPolicy()) {
+            case BLOCK:
+                // The producer has already waited for capacity, before it wrote the message.
+                transport.accept(content);
+                break;
+            case FAIL:
+                if (!flowController.isWithinLimits(config.getMaxBytes(), config.getMaxMessages())) {
+                    content.release();
+                    GrpcMetrics.incrementCounter(GrpcMetrics.OUTBOUND_OVERFLOWS,
+                            "Number of calls failed due to a full outbound buffer");
+                    throw Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(String.format(
+                            "Outbound buffer is full. %d bytes in %d messages are already queued",
+                            flowController.getQueuedBytes(), flowController.getQueuedFrames()))
+                            .asRuntimeException();
+                }
+                transport.accept(content);
+                break;
+            default:
+                lock.lock();
+                try {
+                    pending.add(content);
+                    pendingBytes += content.content().readableBytes();
+                    pendingMessages++;
+                    dropOldest();
+                } finally {
+                    lock.unlock();
+                }
+                drain();
+                break;
+        }
+    }
+
+    /**
+     * Writes a content which ends the stream. It is written after all the messages held in this buffer.
+     *
+     * @param content last content.
+     */
+    void addLast(HttpContent content) {
+        if (config == null || config.getOverflowPolicy() != OutboundBufferConfig.OverflowPolicy.DROP_OLDEST) {
+            transport.accept(content);
+            return;
+        }
+        lock.lock();
+        try {
+            pending.add(content);
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Discards all the messages held in this buffer and writes the given content right away. Used to reset the
+     * stream.
+     *
+     * @param content reset content.
+     */
+    void reset(HttpContent content) {
+        lock.lock();
+        // Releasing the held messages notifies the flow controller, which may drain this buffer in the calling
+        // thread. The drain is skipped until the reset content is written, so that no held message is written
+        // ahead of it.
+        boolean wasDraining = draining;
+        draining = true;
+        try {
+            while (!pending.isEmpty()) {
+                pending.poll().release();
+            }
+            pendingBytes = 0;
+            pendingMessages = 0;
+            transport.accept(content);
+        } finally {
+            draining = wasDraining;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether another message can be written without exceeding the limits of the buffer. Always true unless
+     * the overflow policy is to block the producer.
+     *
+     * @return true if the buffer has room for another message.
+     */
+    boolean hasCapacity() {
+        return !blocksProducer() || flowController.isWithinLimits(config.getMaxBytes(), config.getMaxMessages());
+    }
+
+    /**
+     * Runs the given listener once the buffer has room for another message, or the call is closed. The listener is
+     * run right away, in the calling thread, if the call is already in one of those states. Otherwise it is run in
+     * the executor of the call once the transport releases the queued frames.
+     *
+     * @param listener listener to be notified.
+     */
+    void notifyWhenCapacity(Runnable listener) {
+        if (blocksProducer() && flowController.notifyWhenWithinLimits(config.getMaxBytes(), config.getMaxMessages(),
+                () -> runInDrainExecutor(listener))) {
+            return;
+        }
+        listener.run();
+    }
+
+    private void runInDrainExecutor(Runnable task) {
+        Executor executor = drainExecutor;
+        if (executor != null) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                // The worker pool is shut down, so the task is run below.
+            }
+        }
+        task.run();
+    }
+
+    // Must be called while holding the lock of this buffer.
+    private void dropOldest() {
+        while (pendingMessages > 1 && (pendingMessages > config.getMaxMessages() ||
+                pendingBytes > config.getMaxBytes())) {
+            HttpContent oldest = pending.poll();
+            pendingBytes -= oldest.content().readableBytes();
+            pendingMessages--;
+            oldest.release();
+            GrpcMetrics.incrementCounter(GrpcMetrics.OUTBOUND_DROPPED_MESSAGES,
+                    "Number of outbound messages dropped due to a full outbound buffer");
+        }
+    }
+
+    /**
+     * Schedules handing over the held messages once the transport releases a frame. The frames are released in the
+     * middle of the write path of the transport, so the held messages are handed over in the executor of the call
+     * rather than re-entering the transport from there. The messages are drained right away only when the executor
+     * is not set or no longer accepts tasks.
+     */
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Executor executor = drainExecutor;
+        if (executor != null) {
+            try {
+                executor.execute(() -> {
+                    drainScheduled.set(false);
+                    drain();
+                });
+                return;
+            } catch (RejectedExecutionException e) {
+                // The worker pool is shut down, so the held messages are drained below.
+            }
+        }
+        drainScheduled.set(false);
+        drain();
+    }
+
+    /**
+     * Hands over the held messages to the transport while the transport keeps up with them.
+     */
+    private void drain() {
+        lock.lock();
+        if (draining) {
+            lock.unlock();
+            return;
+        }
+        draining = true;
+        try {
+            while (!pending.isEmpty()) {
+                long transportBytes = flowController.getQueuedBytes() - pendingBytes;
+                if (pendingMessages > 0 && transportBytes >= OutboundFlowController.DEFAULT_ONREADY_THRESHOLD) {
+                    return;
+                }
+                HttpContent content = pending.poll();
+                if (pendingMessages > 0) {
+                    pendingBytes -= content.content().readableBytes();
+                    pendingMessages--;
+                }
+                transport.accept(content);
+            }
+        } finally {
+            draining = false;
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+/**
+ * Limits of the per-call outbound buffer, which holds the response messages that are not yet written to the wire.
+ *
+ * @since 1.4.0
+ */
+public final class OutboundBufferConfig {
+
+    /**
+     * Action taken when a message does not fit into the outbound buffer.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Suspends the producer, without blocking its thread, until the buffered messages are written.
+         */
+        BLOCK,
+        /**
+         * Fails the call with RESOURCE_EXHAUSTED.
+         */
+        FAIL,
+        /**
+         * Drops the oldest buffered messages to make room for the new one.
+         */
+        DROP_OLDEST
+    }
+
+    private final long maxBytes;
+    private final int maxMessages;
+    private final OverflowPolicy overflowPolicy;
+
+    public OutboundBufferConfig(long maxBytes, int maxMessages, OverflowPolicy overflowPolicy) {
+        this.maxBytes = maxBytes;
+        this.maxMessages = maxMessages;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getMaxMessages() {
+        return maxMessages;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledHeapByteBuf;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps track of the outbound bytes of a call which are handed over to the transport but not yet written to the
+ * wire, and decides whether the call is ready to accept more messages.
+ *
+ * <p>
+ * Message frames are handed over to the transport as buffers which are released only after they are written to the
+ * channel. Frames held back by the HTTP/2 stream or connection flow control windows, or sitting in the channel
+ * outbound buffer, therefore count as queued bytes until the peer catches up.
+ * <p>
+ * Referenced from grpc-java implementation.
+ * <p>
+ * The state is guarded by a {@link ReentrantLock} rather than a monitor, so that a virtual thread handing over a
+ * frame does not pin its carrier thread.
+ *
+ * @since 1.4.0
+ */
+public final class OutboundFlowController {
+
+    /**
+     * The number of queued bytes at which the call stops being ready.
+     */
+    static final int DEFAULT_ONREADY_THRESHOLD = 32 * 1024;
+
+    private final int onReadyThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Runnable> onReadyListeners = new ArrayList<>();
+    private final List<CapacityListener> onCapacityListeners = new ArrayList<>();
+    private final List<Runnable> onCloseListeners = new ArrayList<>();
+    private long numSentBytesQueued;
+    private int numFramesQueued;
+    private boolean closed;
+    private boolean reportMetrics;
+    private volatile Runnable onSentListener;
+
+    OutboundFlowController() {
+        this(DEFAULT_ONREADY_THRESHOLD);
+    }
+
+    OutboundFlowController(int onReadyThreshold) {
+        this.onReadyThreshold = onReadyThreshold;
+    }
+
+    /**
+     * Returns whether the call can accept more outbound messages without queueing them in the transport.
+     *
+     * @return true if the call is open and the queued bytes are below the threshold.
+     */
+    public boolean isReady() {
+        lock.lock();
+        try {
+            return !closed && numSentBytesQueued < onReadyThreshold;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the call is closed, after which it never becomes ready again.
+     *
+     * @return true if the call is closed.
+     */
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of bytes which are queued in the transport.
+     *
+     * @return queued bytes.
+     */
+    public long getQueuedBytes() {
+        lock.lock();
+        try {
+            return numSentBytesQueued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of message frames which are queued in the transport.
+     *
+     * @return queued frames.
+     */
+    public int getQueuedFrames() {
+        lock.lock();
+        try {
+            return numFramesQueued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether the queued frames are within the given limits. A single frame is always within the limits so
+     * that a message larger than the byte limit can still be written.
+     *
+     * @param maxBytes    maximum number of queued bytes.
+     * @param maxMessages maximum number of queued frames.
+     * @return true if the queue is within the limits.
+     */
+    boolean isWithinLimits(long maxBytes, int maxMessages) {
+        lock.lock();
+        try {
+            return numFramesQueued <= 1 || (numSentBytesQueued <= maxBytes && numFramesQueued <= maxMessages);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers a listener which is run in the transport thread once the queued frames are within the given limits,
+     * or the call gets closed. The listener is not registered if the call is already in one of those states.
+     *
+     * @param maxBytes    maximum number of queued bytes.
+     * @param maxMessages maximum number of queued frames.
+     * @param listener    listener to be notified.
+     * @return true if the listener is registered, false if the queue is already within the limits or the call is
+     * closed.
+     */
+    boolean notifyWhenWithinLimits(long maxBytes, int maxMessages, Runnable listener) {
+        lock.lock();
+        try {
+            if (closed || isWithinLimits(maxBytes, maxMessages)) {
+                return false;
+            }
+            onCapacityListeners.add(new CapacityListener(maxBytes, maxMessages, listener));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets a listener which is run in the transport thread every time a queued frame is released.
+     *
+     * @param onSentListener listener to be notified.
+     */
+    void setOnSentListener(Runnable onSentListener) {
+        this.onSentListener = onSentListener;
+    }
+
+    /**
+     * Enables reporting the queued bytes and frames as metrics.
+     */
+    void enableMetrics() {
+        lock.lock();
+        try {
+            reportMetrics = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs the given listener once the call becomes ready or gets closed. The listener is run right away, in the
+     * calling thread, if the call is already in one of those states; otherwise it is run in the transport thread.
+     *
+     * @param onReadyListener listener to be notified.
+     */
+    public void notifyWhenReady(Runnable onReadyListener) {
+        lock.lock();
+        try {
+            if (!closed && numSentBytesQueued >= onReadyThreshold) {
+                onReadyListeners.add(onReadyListener);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        onReadyListener.run();
+    }
+
+    /**
+     * Runs the given listener once the call gets closed. The listener is run right away, in the calling thread, if
+     * the call is already closed.
+     *
+     * @param onCloseListener listener to be notified.
+     */
+    void notifyWhenClosed(Runnable onCloseListener) {
+        lock.lock();
+        try {
+            if (!closed) {
+                onCloseListeners.add(onCloseListener);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        onCloseListener.run();
+    }
+
+    /**
+     * Wraps a frame buffer into a transport buffer which reports back to this controller once it is released by the
+     * transport.
+     *
+     * @param buffer rewound heap buffer of the frame to be written.
+     * @return transport buffer.
+     */
+    ByteBuf wrap(ByteBuffer buffer) {
+        return wrap(buffer, 1);
+    }
+
+    /**
+     * Wraps a buffer holding the given number of message frames into a transport buffer which reports back to this
+     * controller once it is released by the transport.
+     *
+     * @param buffer    rewound heap buffer of the frames to be written.
+     * @param numFrames number of message frames in the buffer.
+     * @return transport buffer.
+     */
+    ByteBuf wrap(ByteBuffer buffer, int numFrames) {
+        int length = buffer.remaining();
+        boolean report;
+        lock.lock();
+        try {
+            numSentBytesQueued += length;
+            numFramesQueued += numFrames;
+            report = reportMetrics;
+        } finally {
+            lock.unlock();
+        }
+        if (report) {
+            reportQueued(length, numFrames);
+        }
+        return new FlowControlledByteBuf(buffer.array(), length, numFrames, this);
+    }
+
+    /**
+     * Closes the controller and notifies all the pending listeners.
+     */
+    void close() {
+        List<Runnable> listeners;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            listeners = drainListeners();
+            for (CapacityListener capacityListener : onCapacityListeners) {
+                listeners.add(capacityListener.listener);
+            }
+            onCapacityListeners.clear();
+            listeners.addAll(onCloseListeners);
+            onCloseListeners.clear();
+        } finally {
+            lock.unlock();
+        }
+        notifyListeners(listeners);
+    }
+
+    private void onSentBytes(int numBytes, int numFrames) {
+        List<Runnable> listeners = null;
+        boolean report;
+        lock.lock();
+        try {
+            boolean belowThresholdBefore = numSentBytesQueued < onReadyThreshold;
+            numSentBytesQueued -= numBytes;
+            numFramesQueued -= numFrames;
+            boolean belowThresholdAfter = numSentBytesQueued < onReadyThreshold;
+            if (!belowThresholdBefore && belowThresholdAfter) {
+                listeners = drainListeners();
+            }
+            Iterator<CapacityListener> iterator = onCapacityListeners.iterator();
+            while (iterator.hasNext()) {
+                CapacityListener capacityListener = iterator.next();
+                if (isWithinLimits(capacityListener.maxBytes, capacityListener.maxMessages)) {
+                    iterator.remove();
+                    if (listeners == null) {
+                        listeners = new ArrayList<>();
+                    }
+                    listeners.add(capacityListener.listener);
+                }
+            }
+            report = reportMetrics;
+        } finally {
+            lock.unlock();
+        }
+        if (report) {
+            reportQueued(-numBytes, -numFrames);
+        }
+        if (listeners != null) {
+            notifyListeners(listeners);
+        }
+        Runnable listener = onSentListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    private static void reportQueued(int numBytes, int numFrames) {
+        GrpcMetrics.addToGauge(GrpcMetrics.OUTBOUND_QUEUED_BYTES,
+                "Number of outbound message bytes queued in the transport", numBytes);
+        GrpcMetrics.addToGauge(GrpcMetrics.OUTBOUND_QUEUED_MESSAGES,
+                "Number of outbound messages queued in the transport", numFrames);
+    }
+
+    private List<Runnable> drainListeners() {
+        List<Runnable> listeners = new ArrayList<>(onReadyListeners);
+        onReadyListeners.clear();
+        return listeners;
+    }
+
+    private static void notifyListeners(List<Runnable> listeners) {
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Listener waiting for the queued frames to be within the given limits.
+     */
+    private static final class CapacityListener {
+
+        private final long maxBytes;
+        private final int maxMessages;
+        private final Runnable listener;
+
+        private CapacityListener(long maxBytes, int maxMessages, Runnable listener) {
+            this.maxBytes = maxBytes;
+            this.maxMessages = maxMessages;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Heap buffer which informs the flow controller when the transport has released it.
+     */
+    private static final class FlowControlledByteBuf extends UnpooledHeapByteBuf {
+
+        private final int length;
+        private final int numFrames;
+        private final OutboundFlowController flowController;
+
+        private FlowControlledByteBuf(byte[] array, int length, int numFrames, OutboundFlowController flowController) {
+            super(UnpooledByteBufAllocator.DEFAULT, array, array.length);
+            writerIndex(length);
+            this.length = length;
+            this.numFrames = numFrames;
+            this.flowController = flowController;
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            flowController.onSentBytes(length, numFrames);
+        }
+    }
+}
@@ -30,7 +30,10 @@ import io.netty.handler.codec.http.LastHttpContent;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.stdlib.grpc.GrpcConstants.GRPC_MESSAGE_KEY;
 import static io.ballerina.stdlib.grpc.GrpcConstants.GRPC_STATUS_KEY;
@@ -46,15 +49,28 @@ public class OutboundMessage {
     private final HttpCarbonMessage responseMessage;
     private int statusCode = NULL_STATUS_CODE;
     private boolean outboundClosed;
-    private final ThreadLocal<MessageFramer> framer;
+    private boolean completed;
+    private final OutboundFlowController flowController = new OutboundFlowController();
+    private final OutboundBuffer outboundBuffer;
+    // Single framer of the call. A call can be written from several threads (e.g. the worker thread which
+    // dispatched the resource and the strand which calls `Caller->send`), so the writes are serialized by the write
+    // lock instead of confining the framer to a thread. A lock is used rather than a monitor so that a virtual worker
+    // thread waiting for it does not pin its carrier thread.
+    private final MessageFramer framer;
+    private final ReentrantLock writeLock = new ReentrantLock();
 
     public OutboundMessage(HttpCarbonMessage responseMessage) {
+        this(responseMessage, null);
+    }
+
+    OutboundMessage(HttpCarbonMessage responseMessage, OutboundBufferConfig outboundBufferConfig) {
         this.responseMessage = responseMessage;
-        this.framer = ThreadLocal.withInitial(() -> new MessageFramer(responseMessage));
+        this.outboundBuffer = new OutboundBuffer(responseMessage, flowController, outboundBufferConfig);
+        this.framer = new MessageFramer(outboundBuffer);
     }
 
-    OutboundMessage(InboundMessage inboundMessage) {
-        this(inboundMessage.getHttpCarbonMessage().cloneCarbonMessageWithOutData());
+    OutboundMessage(InboundMessage inboundMessage, OutboundBufferConfig outboundBufferConfig) {
+        this(inboundMessage.getHttpCarbonMessage().cloneCarbonMessageWithOutData(), outboundBufferConfig);
     }
 
     /**
@@ -188,43 +204,97 @@ public class OutboundMessage {
      * @param entity object that should be set as the response body
      */
     public void sendMessage(InputStream entity) {
-        if (entity != null) {
-            framer().writePayload(entity);
-            framer().flush();
-        } else {
-            ByteBuffer byteBuffer = ByteBuffer.allocate(0);
-            responseMessage.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(byteBuffer)));
+        writeLock.lock();
+        try {
+            if (entity != null) {
+                framer.writePayload(entity);
+                framer.flush();
+            } else {
+                ByteBuffer byteBuffer = ByteBuffer.allocate(0);
+                outboundBuffer.addLast(new DefaultLastHttpContent(Unpooled.wrappedBuffer(byteBuffer)));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a batch of messages, whose frames are handed over to the transport as a single content. When the
+     * outbound buffer drops the oldest messages, each message is flushed by itself, so that the messages are dropped
+     * one by one.
+     *
+     * @param entities serialized messages.
+     */
+    public void sendMessages(List<InputStream> entities) {
+        writeLock.lock();
+        try {
+            if (outboundBuffer.dropsMessages()) {
+                for (InputStream entity : entities) {
+                    framer.writePayload(entity);
+                    framer.flush();
+                }
+                return;
+            }
+            framer.writePayloads(entities);
+        } finally {
+            writeLock.unlock();
         }
     }
 
     /**
-     * Close the stream by sending trailer header with gRPC status code.
+     * Close the stream by sending trailer header with gRPC status code. Does nothing if the stream is already
+     * completed or reset.
      *
      * @param status gRPC status
      * @param trailers trailer headers
      */
     public void complete(Status status, HttpHeaders trailers) {
-        framer().flush();
-        framer().dispose();
-        addStatusToTrailers(status, trailers);
-        LastHttpContent lastHttpContent = new DefaultLastHttpContent();
-        lastHttpContent.trailingHeaders().set(trailers);
-        responseMessage.addHttpContent(lastHttpContent);
+        // The flow controller is closed before the write lock is taken, so that a producer waiting for the outbound
+        // buffer is released.
+        flowController.close();
+        writeLock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            framer.flush();
+            framer.dispose();
+            addStatusToTrailers(status, trailers);
+            LastHttpContent lastHttpContent = new DefaultLastHttpContent();
+            lastHttpContent.trailingHeaders().set(trailers);
+            outboundBuffer.addLast(lastHttpContent);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
-     * Close the stream by sending a Http2ResetContent with the gRPC status code.
+     * Close the stream by sending a Http2ResetContent with the gRPC status code. Does nothing if the stream is
+     * already completed or reset.
      *
      * @param status gRPC status
      */
     public void sendError(Status status) {
-        framer().flush();
-        framer().dispose();
-        HttpHeaders errorHeaders = new DefaultHttpHeaders();
-        addStatusToTrailers(status, errorHeaders);
-        Http2ResetContent resetContent = new Http2ResetContent(
-                new EmptyByteBuf(ByteBufAllocator.DEFAULT), errorHeaders);
-        responseMessage.addHttpContent(resetContent);
+        // The flow controller is closed before the write lock is taken, so that a producer waiting for the outbound
+        // buffer is released.
+        flowController.close();
+        writeLock.lock();
+        try {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            framer.flush();
+            framer.dispose();
+            HttpHeaders errorHeaders = new DefaultHttpHeaders();
+            addStatusToTrailers(status, errorHeaders);
+            Http2ResetContent resetContent = new Http2ResetContent(
+                    new EmptyByteBuf(ByteBufAllocator.DEFAULT), errorHeaders);
+            outboundBuffer.reset(resetContent);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     private void addStatusToTrailers(Status status, HttpHeaders trailers) {
@@ -242,27 +312,102 @@ public class OutboundMessage {
      * Invoked when stream is closed by other parties.
      */
     final void halfClose() {
-        if (!outboundClosed) {
-            outboundClosed = true;
-            framer().close();
+        flowController.close();
+        writeLock.lock();
+        try {
+            if (!outboundClosed) {
+                outboundClosed = true;
+                framer.close();
+            }
+        } finally {
+            writeLock.unlock();
         }
     }
 
-    final MessageFramer framer() {
-        return framer.get();
+    /**
+     * Sets the compressor used to compress the messages of the stream.
+     *
+     * @param compressor message compressor
+     */
+    final void setCompressor(Compressor compressor) {
+        writeLock.lock();
+        try {
+            framer.setCompressor(compressor);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sets the executor in which the messages held back by the outbound buffer are handed over to the transport.
+     *
+     * @param executor executor of the call.
+     */
+    final void setDrainExecutor(Executor executor) {
+        outboundBuffer.setDrainExecutor(executor);
+    }
+
+    final OutboundFlowController flowController() {
+        return flowController;
     }
 
+    /**
+     * Returns whether the stream can accept more messages without queueing them in the transport.
+     *
+     * @return true if the stream is open and the transport is keeping up with the written messages.
+     */
     public boolean isReady() {
-        return !framer().isClosed();
+        return !framer.isClosed() && flowController.isReady();
+    }
+
+    /**
+     * Returns whether another message can be written without exceeding the limits of the outbound buffer. A producer
+     * which finds the buffer full is expected to wait with {@link #notifyWhenCapacity(Runnable)} before it writes the
+     * message, when the overflow policy of the buffer is to block the producer.
+     *
+     * @return true if the outbound buffer has room for another message.
+     */
+    public boolean hasCapacity() {
+        return outboundBuffer.hasCapacity();
+    }
+
+    /**
+     * Runs the given listener once the outbound buffer has room for another message, or the stream is closed. The
+     * listener is run right away if the stream is already in one of those states.
+     *
+     * @param listener listener to be notified.
+     */
+    public void notifyWhenCapacity(Runnable listener) {
+        outboundBuffer.notifyWhenCapacity(listener);
+    }
+
+    /**
+     * Returns whether the outbound side of the stream has been closed, either once the last message is written or
+     * once the call is closed.
+     *
+     * @return true if no more messages can be written to the stream.
+     */
+    public boolean isClosed() {
+        return framer.isClosed() || flowController.isClosed();
     }
 
     public final void setMessageCompression(boolean enable) {
-        framer().setMessageCompression(enable);
+        writeLock.lock();
+        try {
+            framer.setMessageCompression(enable);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     public final void flush() {
-        if (!framer().isClosed()) {
-            framer().flush();
+        writeLock.lock();
+        try {
+            if (!framer.isClosed()) {
+                framer.flush();
+            }
+        } finally {
+            writeLock.unlock();
         }
     }
 
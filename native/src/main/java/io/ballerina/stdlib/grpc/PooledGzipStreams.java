@@ -0,0 +1,296 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Gzip streams backed by a bounded pool of zlib {@link Deflater} and {@link Inflater} instances.
+ *
+ * <p>
+ * {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream} allocate native zlib state per
+ * stream, which is only freed on close or finalization. The streams in this class borrow that state from a shared
+ * pool, {@code reset()} it when the stream is closed and hand it back for the next message. Instances that do not fit
+ * into the pool are ended right away.
+ *
+ * @since 1.4.0
+ */
+final class PooledGzipStreams {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int HEADER_LENGTH = 10;
+    private static final int TRAILER_LENGTH = 8;
+    private static final int BUFFER_SIZE = 512;
+
+    // Flag bits of the gzip header.
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int MAX_POOLED_INSTANCES = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final Queue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
+    private static final Queue<Inflater> INFLATER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_INSTANCES);
+
+    private PooledGzipStreams() {
+    }
+
+    /**
+     * Returns an output stream which writes gzip compressed data to the given stream.
+     *
+     * @param out destination of the compressed data.
+     * @return gzip output stream.
+     * @throws IOException if the gzip header cannot be written.
+     */
+    static OutputStream compress(OutputStream out) throws IOException {
+        return new GzipOutputStream(out);
+    }
+
+    /**
+     * Returns an input stream which reads gzip compressed data from the given stream.
+     *
+     * @param in source of the compressed data.
+     * @return gzip input stream.
+     * @throws IOException if the gzip header is invalid or cannot be read.
+     */
+    static InputStream decompress(InputStream in) throws IOException {
+        return new GzipInputStream(in);
+    }
+
+    private static Deflater acquireDeflater() {
+        Deflater deflater = DEFLATER_POOL.poll();
+        return deflater != null ? deflater : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    private static void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+        if (!DEFLATER_POOL.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private static Inflater acquireInflater() {
+        Inflater inflater = INFLATER_POOL.poll();
+        return inflater != null ? inflater : new Inflater(true);
+    }
+
+    private static void releaseInflater(Inflater inflater) {
+        inflater.reset();
+        if (!INFLATER_POOL.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Gzip compressing output stream which returns its deflater to the pool on close.
+     */
+    private static final class GzipOutputStream extends DeflaterOutputStream {
+
+        private static final byte[] HEADER = new byte[]{
+                (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+        };
+
+        private final CRC32 crc = new CRC32();
+        private boolean released;
+
+        private GzipOutputStream(OutputStream out) throws IOException {
+            super(out, acquireDeflater(), BUFFER_SIZE);
+            try {
+                out.write(HEADER);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!def.finished()) {
+                super.finish();
+                byte[] trailer = new byte[TRAILER_LENGTH];
+                writeInt((int) crc.getValue(), trailer, 0);
+                writeInt((int) def.getBytesRead(), trailer, 4);
+                out.write(trailer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                releaseDeflater(def);
+            }
+        }
+
+        private static void writeInt(int value, byte[] buf, int offset) {
+            buf[offset] = (byte) value;
+            buf[offset + 1] = (byte) (value >> 8);
+            buf[offset + 2] = (byte) (value >> 16);
+            buf[offset + 3] = (byte) (value >> 24);
+        }
+    }
+
+    /**
+     * Gzip decompressing input stream which returns its inflater to the pool on close.
+     *
+     * <p>
+     * A gRPC message frame carries a single gzip member, so any bytes after the first member trailer are ignored.
+     */
+    private static final class GzipInputStream extends InflaterInputStream {
+
+        private final CRC32 crc = new CRC32();
+        private boolean endOfStream;
+        private boolean released;
+
+        private GzipInputStream(InputStream in) throws IOException {
+            super(in, acquireInflater(), BUFFER_SIZE);
+            try {
+                readHeader(in);
+            } catch (IOException e) {
+                release();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int length) throws IOException {
+            if (endOfStream) {
+                return -1;
+            }
+            int read = super.read(b, off, length);
+            if (read == -1) {
+                readTrailer();
+                endOfStream = true;
+            } else {
+                crc.update(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            if (!released) {
+                released = true;
+                releaseInflater(inf);
+            }
+        }
+
+        private void readHeader(InputStream source) throws IOException {
+            if (readUnsignedShort(source) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+            if (readUnsignedByte(source) != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+            int flags = readUnsignedByte(source);
+            // Skip MTIME, XFL and OS fields.
+            skipBytes(source, HEADER_LENGTH - 4);
+            if ((flags & FEXTRA) == FEXTRA) {
+                skipBytes(source, readUnsignedShort(source));
+            }
+            if ((flags & FNAME) == FNAME) {
+                skipZeroTerminated(source);
+            }
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                skipZeroTerminated(source);
+            }
+            if ((flags & FHCRC) == FHCRC) {
+                skipBytes(source, 2);
+            }
+        }
+
+        private void readTrailer() throws IOException {
+            InputStream source = in;
+            int remaining = inf.getRemaining();
+            if (remaining > 0) {
+                // The inflater may already have consumed the trailer bytes from the underlying stream.
+                source = new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), in);
+            }
+            long expectedCrc = readUnsignedInt(source);
+            long expectedSize = readUnsignedInt(source);
+            if (expectedCrc != crc.getValue() || expectedSize != (inf.getBytesWritten() & 0xffffffffL)) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+        }
+
+        private static long readUnsignedInt(InputStream source) throws IOException {
+            long low = readUnsignedShort(source);
+            return ((long) readUnsignedShort(source) << 16) | low;
+        }
+
+        private static int readUnsignedShort(InputStream source) throws IOException {
+            int low = readUnsignedByte(source);
+            return (readUnsignedByte(source) << 8) | low;
+        }
+
+        private static int readUnsignedByte(InputStream source) throws IOException {
+            int b = source.read();
+            if (b == -1) {
+                throw new EOFException("Unexpected end of GZIP input stream");
+            }
+            return b;
+        }
+
+        private static void skipBytes(InputStream source, int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                readUnsignedByte(source);
+            }
+        }
+
+        private static void skipZeroTerminated(InputStream source) throws IOException {
+            while (readUnsignedByte(source) != 0) {
+                // Skip until the terminating zero byte.
+            }
+        }
+    }
+}
@@ -90,9 +90,14 @@ public class ProtoUtils {
                     throw new RuntimeException(e);
                 }
                 if (cis == null) {
-                    cis = CodedInputStream.newInstance(stream);
+                    // Streams of unknown length (i.e. decompressed messages) are decoded as they are read, bounded
+                    // by the max inbound message size.
+                    cis = CodedInputStream.newInstance(stream, BUF_SIZE);
+                    cis.setSizeLimit(maxInboundMessageSize > 0 && maxInboundMessageSize < Integer.MAX_VALUE ?
+                            (int) maxInboundMessageSize : Integer.MAX_VALUE);
+                } else {
+                    cis.setSizeLimit(Integer.MAX_VALUE);
                 }
-                cis.setSizeLimit(Integer.MAX_VALUE);
 
                 try {
                     return parseFrom(cis);
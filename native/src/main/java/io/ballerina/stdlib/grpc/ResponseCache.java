@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response cache of a unary remote function, which serves the responses of the calls with the same request message
+ * and key headers without running the remote function.
+ *
+ * <p>
+ * The responses are kept in their serialized form, so that a cached call neither parses its request nor serializes
+ * its response. The least recently used responses are evicted once the maximum number of entries or bytes is
+ * reached, and a response is dropped once its time to live is elapsed.
+ *
+ * @since 1.4.0
+ */
+final class ResponseCache {
+
+    private static final String TAG_KEY = "method";
+    private static final String HITS_DESCRIPTION = "Number of calls served from a response cache";
+    private static final String MISSES_DESCRIPTION = "Number of calls not found in a response cache";
+    private static final String EVICTIONS_DESCRIPTION = "Number of responses evicted from a response cache";
+    private static final String BYTES_DESCRIPTION = "Number of bytes held by a response cache";
+
+    private final String name;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final String[] keyHeaders;
+    private final LinkedHashMap<CallKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * Creates a response cache.
+     *
+     * @param name       name of the remote function, used to tag the metrics of the cache.
+     * @param ttlNanos   time to live of a response in nanoseconds.
+     * @param maxEntries maximum number of responses.
+     * @param maxBytes   maximum number of bytes held by the requests and the responses.
+     * @param keyHeaders names of the request headers which are a part of the key, in addition to the
+     *                   {@code authorization} header.
+     */
+    ResponseCache(String name, long ttlNanos, int maxEntries, long maxBytes, List<String> keyHeaders) {
+        this.name = name;
+        this.ttlNanos = ttlNanos;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.keyHeaders = CallKey.keyHeaders(keyHeaders);
+    }
+
+    /**
+     * Creates the key of a call.
+     *
+     * @param headers request headers of the call.
+     * @param request serialized request message of the call.
+     * @return key of the call.
+     */
+    CallKey newKey(HttpHeaders headers, byte[] request) {
+        return CallKey.of(keyHeaders, headers, request);
+    }
+
+    /**
+     * Returns the cached response of a call.
+     *
+     * @param key key of the call.
+     * @return serialized response message, or null if the response is not cached or is expired.
+     */
+    synchronized byte[] get(CallKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            bytes -= entry.size;
+            entry = null;
+            reportBytes();
+        }
+        if (entry == null) {
+            GrpcMetrics.incrementCounter(GrpcMetrics.RESPONSE_CACHE_MISSES, MISSES_DESCRIPTION, TAG_KEY, name);
+            return null;
+        }
+        GrpcMetrics.incrementCounter(GrpcMetrics.RESPONSE_CACHE_HITS, HITS_DESCRIPTION, TAG_KEY, name);
+        return entry.response;
+    }
+
+    /**
+     * Caches the response of a call. A response which is larger than the cache is not cached.
+     *
+     * @param key      key of the call.
+     * @param response serialized response message.
+     */
+    synchronized void put(CallKey key, byte[] response) {
+        long size = (long) key.requestSize() + response.length;
+        if (size > maxBytes) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(response, size, System.nanoTime() + ttlNanos));
+        if (previous != null) {
+            bytes -= previous.size;
+        }
+        bytes += size;
+        Iterator<Map.Entry<CallKey, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            // Evict the least recently used responses.
+            Entry eldest = iterator.next().getValue();
+            iterator.remove();
+            bytes -= eldest.size;
+            GrpcMetrics.incrementCounter(GrpcMetrics.RESPONSE_CACHE_EVICTIONS, EVICTIONS_DESCRIPTION, TAG_KEY, name);
+        }
+        reportBytes();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void reportBytes() {
+        GrpcMetrics.setGauge(GrpcMetrics.RESPONSE_CACHE_BYTES, BYTES_DESCRIPTION, TAG_KEY, name, bytes);
+    }
+
+    private static final class Entry {
+
+        private final byte[] response;
+        private final long size;
+        private final long expiresAt;
+
+        private Entry(byte[] response, long size, long expiresAt) {
+            this.response = response;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
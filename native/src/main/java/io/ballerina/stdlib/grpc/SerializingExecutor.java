@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Executor which runs the submitted tasks one after the other, in submission order, on a shared executor. A thread of
+ * the shared executor is only used while there are tasks to run, so an idle call does not hold a thread.
+ *
+ * <p>
+ * Referenced from grpc-java implementation.
+ * <p>
+ *
+ * @since 1.4.0
+ */
+final class SerializingExecutor implements Executor {
+
+    private static final Logger log = LoggerFactory.getLogger(SerializingExecutor.class);
+
+    private final Executor executor;
+    private final Queue<QueuedTask> runQueue = new ArrayDeque<>();
+    // Not a monitor, so that virtual worker threads do not get pinned while contending for it.
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean running;
+
+    SerializingExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Queues the task to be run after the previously submitted tasks.
+     *
+     * @param task task to be run.
+     * @throws RejectedExecutionException if the shared executor does not accept more tasks. The task is not queued in
+     *                                    that case.
+     */
+    @Override
+    public void execute(Runnable task) {
+        execute(task, null);
+    }
+
+    /**
+     * Queues the task to be run after the previously submitted tasks. If the shared executor does not accept more
+     * tasks, the task is not run and the given rejection handler is run in the calling thread instead.
+     *
+     * <p>
+     * The tasks which other threads queued while the shared executor was rejecting the task are not run by a worker
+     * either. Their rejection handlers are run in the calling thread, in submission order. A task queued without a
+     * rejection handler is run in the calling thread in that case, as its submitter was told that it was accepted.
+     *
+     * @param task       task to be run.
+     * @param onRejected run instead of the task if the shared executor does not accept more tasks, or null to throw
+     *                   the rejection.
+     * @throws RejectedExecutionException if the shared executor does not accept more tasks and no rejection handler
+     *                                    is given.
+     */
+    void execute(Runnable task, Runnable onRejected) {
+        QueuedTask queuedTask = new QueuedTask(task, onRejected);
+        lock.lock();
+        try {
+            runQueue.add(queuedTask);
+            if (running) {
+                return;
+            }
+            running = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                runQueue.remove(queuedTask);
+            } finally {
+                lock.unlock();
+            }
+            if (onRejected != null) {
+                onRejected.run();
+            }
+            rejectQueued();
+            if (onRejected == null) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Handles the tasks queued behind a rejected task. Runs while this thread still owns the queue, so the tasks are
+     * handled in submission order and no worker drains the queue at the same time.
+     */
+    private void rejectQueued() {
+        while (true) {
+            QueuedTask queuedTask;
+            lock.lock();
+            try {
+                queuedTask = runQueue.poll();
+                if (queuedTask == null) {
+                    running = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            Runnable fallback = queuedTask.onRejected != null ? queuedTask.onRejected : queuedTask.task;
+            try {
+                fallback.run();
+            } catch (RuntimeException e) {
+                log.error("Exception while executing runnable " + fallback, e);
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            QueuedTask queuedTask;
+            lock.lock();
+            try {
+                queuedTask = runQueue.poll();
+                if (queuedTask == null) {
+                    running = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            try {
+                queuedTask.task.run();
+            } catch (RuntimeException e) {
+                log.error("Exception while executing runnable " + queuedTask.task, e);
+            }
+        }
+    }
+
+    private static final class QueuedTask {
+
+        private final Runnable task;
+        private final Runnable onRejected;
+
+        QueuedTask(Runnable task, Runnable onRejected) {
+            this.task = task;
+            this.onRejected = onRejected;
+        }
+    }
+}
@@ -23,9 +23,16 @@ import io.ballerina.stdlib.grpc.listener.ServerCallHandler;
 import io.ballerina.stdlib.http.transport.contract.exceptions.ServerConnectorException;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.Timeout;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.ballerina.stdlib.grpc.GrpcConstants.MAX_INBOUND_MESSAGE_SIZE;
 
@@ -53,10 +60,12 @@ public final class ServerCall {
     private final OutboundMessage outboundMessage;
     private final MethodDescriptor method;
 
+    // The state of the call is changed both by the resource function and by the deadline timer, without holding a
+    // lock across the writes of the call, so that an aborted call does not wait for a write which is stuck.
     private volatile boolean cancelled;
-    private boolean sendHeadersCalled;
-    private boolean closeCalled;
-    private boolean messageSent;
+    private final AtomicBoolean sendHeadersCalled = new AtomicBoolean();
+    private final AtomicBoolean closeCalled = new AtomicBoolean();
+    private volatile boolean messageSent;
     private Compressor compressor;
     private final String messageAcceptEncoding;
     private ObserverContext context = null;
@@ -64,6 +73,24 @@ public final class ServerCall {
 
     private DecompressorRegistry decompressorRegistry;
     private CompressorRegistry compressorRegistry;
+    private ServerStreamListener streamListener;
+    private volatile Timeout deadlineTimeout;
+    private volatile long deadline = Deadlines.NO_DEADLINE;
+    private ResponseCache responseCache;
+    private CallCoalescer coalescer;
+    private InboundMessageQueue inboundQueue;
+    // Whether the request message is read, for a method whose responses are cached or coalesced.
+    private boolean requestRead;
+    // Key of a call which is not found in the response cache, and the response to be cached once it is completed.
+    private CallKey cacheKey;
+    private volatile byte[] response;
+    private volatile boolean responseCacheable;
+    // Response of a call which is found in the response cache, sent once the client half-closes the call.
+    private byte[] cachedResponse;
+    // Key of a call to be coalesced with the identical calls once the client half-closes it, and the flight led by
+    // the call.
+    private CallKey coalescingKey;
+    private final AtomicReference<CallCoalescer.Flight> flight = new AtomicReference<>();
 
     ServerCall(InboundMessage inboundMessage, OutboundMessage outboundMessage, MethodDescriptor method,
                DecompressorRegistry decompressorRegistry, CompressorRegistry compressorRegistry,
@@ -77,13 +104,237 @@ public final class ServerCall {
         this.messageSizeMap = messageSizeMap;
     }
 
+    /**
+     * Returns the deadline of a call as per its {@code grpc-timeout} header.
+     *
+     * @param inboundMessage request message of the call.
+     * @return deadline as per {@link System#nanoTime()}, or {@link Deadlines#NO_DEADLINE} if the call has no
+     * timeout.
+     */
+    static long parseDeadline(InboundMessage inboundMessage) {
+        String timeout = inboundMessage.getHeader(Deadlines.TIMEOUT_KEY);
+        if (timeout == null) {
+            return Deadlines.NO_DEADLINE;
+        }
+        return System.nanoTime() + Deadlines.parseTimeout(timeout);
+    }
+
+    /**
+     * Cancels the call once the given deadline is passed.
+     *
+     * @param deadlineNanos deadline as per {@link System#nanoTime()}, or {@link Deadlines#NO_DEADLINE}.
+     */
+    void setDeadline(long deadlineNanos) {
+        deadline = deadlineNanos;
+        if (deadlineNanos != Deadlines.NO_DEADLINE && !closeCalled.get()) {
+            deadlineTimeout = Deadlines.schedule(this::deadlineExceeded, deadlineNanos);
+            if (closeCalled.get()) {
+                // The call is closed while the timer was being scheduled.
+                cancelDeadline();
+            }
+        }
+    }
+
+    /**
+     * Returns the deadline of the call, which is propagated to the calls made by the resource function.
+     *
+     * @return deadline as per {@link System#nanoTime()}, or {@link Deadlines#NO_DEADLINE} if the call has no
+     * timeout.
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Serves the call from the given response cache when its response is cached, and caches its response otherwise.
+     *
+     * @param responseCache response cache of the method, or null if the responses are not cached.
+     */
+    void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Runs the remote function once for the concurrent calls which are identical to this call.
+     *
+     * @param coalescer call coalescer of the method, or null if the calls are not coalesced.
+     */
+    void setCoalescer(CallCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Buffers the request messages of the call in the given bounded queue, until the resource function reads them.
+     *
+     * @param inboundQueue inbound message queue of the call, or null if the request messages are not bounded.
+     */
+    void setInboundQueue(InboundMessageQueue inboundQueue) {
+        this.inboundQueue = inboundQueue;
+    }
+
+    /**
+     * Returns the bounded queue, which buffers the request messages of a streaming call.
+     *
+     * @return inbound message queue of the call, or null if the request messages are not bounded.
+     */
+    public InboundMessageQueue getInboundQueue() {
+        return inboundQueue;
+    }
+
+    /**
+     * Looks up the response of a request message in the response cache. A request found in the cache is not parsed,
+     * and its cached response is sent once the client half-closes the call.
+     *
+     * @param message serialized request message.
+     * @return request message to be dispatched to the remote function, or null if the response is cached.
+     * @throws IOException if the request message cannot be read.
+     */
+    private InputStream lookupResponse(InputStream message) throws IOException {
+        if (requestRead) {
+            if (cachedResponse != null) {
+                cachedResponse = null;
+                cancelled = true;
+                close(Status.Code.INTERNAL.toStatus().withDescription("Too many requests"),
+                        new DefaultHttpHeaders());
+                return null;
+            }
+            // The remote function rejects the extra request.
+            return message;
+        }
+        requestRead = true;
+        byte[] request = message.readAllBytes();
+        if (responseCache != null) {
+            CallKey key = responseCache.newKey(inboundMessage.getHeaders(), request);
+            byte[] cached = responseCache.get(key);
+            if (cached != null) {
+                cachedResponse = cached;
+                return null;
+            }
+            cacheKey = key;
+        }
+        if (coalescer != null) {
+            coalescingKey = coalescer.newKey(inboundMessage.getHeaders(), request);
+        }
+        return new ByteArrayInputStream(request);
+    }
+
+    /**
+     * Joins the flight of the identical calls once the client half-closes the call. A call which follows the flight
+     * of an identical call is responded with the response of that call, or runs the remote function by itself once
+     * that response cannot be shared.
+     *
+     * @param invoke runs the remote function for the call.
+     * @return true if the call follows the flight of an identical call, false if the call runs the remote function.
+     */
+    private boolean followFlight(Runnable invoke) {
+        CallKey key = coalescingKey;
+        coalescingKey = null;
+        if (closeCalled.get()) {
+            return false;
+        }
+        CallCoalescer.Flight leading = coalescer.join(key, shared -> {
+            if (shared != null) {
+                sendSharedResponse(shared);
+            } else if (!cancelled) {
+                invoke.run();
+            }
+        });
+        if (leading == null) {
+            return true;
+        }
+        flight.set(leading);
+        if (closeCalled.get()) {
+            // The call is aborted before the flight is recorded, so the flight is landed here.
+            landFlight(null);
+        }
+        return false;
+    }
+
+    /**
+     * Lands the flight led by the call, if any, once the call is completed.
+     *
+     * @param shared serialized response of the call, or null if the response cannot be shared.
+     */
+    private void landFlight(byte[] shared) {
+        CallCoalescer.Flight landing = flight.getAndSet(null);
+        if (landing != null) {
+            coalescer.land(landing, shared);
+        }
+    }
+
+    /**
+     * Completes a call with a cached or a shared response, without running the remote function. Does nothing if the
+     * call is already closed.
+     *
+     * @param shared serialized response message.
+     */
+    private void sendSharedResponse(byte[] shared) {
+        if (closeCalled.get() || cancelled) {
+            return;
+        }
+        try {
+            sendHeaders(null);
+            outboundMessage.sendMessage(new ByteArrayInputStream(shared));
+            messageSent = true;
+            close(Status.Code.OK.toStatus(), new DefaultHttpHeaders());
+        } catch (IllegalStateException | StatusRuntimeException e) {
+            // The call is aborted meanwhile, e.g. once its deadline is exceeded.
+        }
+    }
+
+    /**
+     * Cancels the call since its client is no longer waiting for it. Runs in the timer thread.
+     */
+    private void deadlineExceeded() {
+        abort(Status.Code.DEADLINE_EXCEEDED.toStatus().withDescription("Deadline exceeded"));
+    }
+
+    /**
+     * Aborts the call before it is completed. The stream is reset with the given status, and the listener of the
+     * call is notified so that the resource function is cancelled.
+     *
+     * @param status status of the call.
+     */
+    void abort(Status status) {
+        if (!closeCalled.compareAndSet(false, true)) {
+            return;
+        }
+        cancelled = true;
+        if (sendHeadersCalled.compareAndSet(false, true)) {
+            try {
+                writeHeaders(null);
+            } catch (RuntimeException e) {
+                // The stream is reset below.
+            }
+        }
+        outboundMessage.sendError(status);
+        landFlight(null);
+        if (streamListener != null) {
+            streamListener.closed(status);
+        }
+    }
+
+    private void cancelDeadline() {
+        Timeout timeout = deadlineTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
     public void sendHeaders(HttpHeaders headers) {
-        if (sendHeadersCalled) {
+        if (sendHeadersCalled.get()) {
             throw new IllegalStateException("sendHeaders has already been called");
         }
-        if (closeCalled) {
+        if (closeCalled.get()) {
             throw new IllegalStateException("call is closed");
         }
+        if (!sendHeadersCalled.compareAndSet(false, true)) {
+            throw new IllegalStateException("sendHeaders has already been called");
+        }
+        writeHeaders(headers);
+    }
+
+    private void writeHeaders(HttpHeaders headers) {
         outboundMessage.removeHeader(GrpcConstants.MESSAGE_ENCODING);
 
         if (headers != null && headers.contains(GrpcConstants.MESSAGE_ENCODING)) {
@@ -96,13 +347,15 @@ public final class ServerCall {
         }
         // Always put compressor, even if it's identity.
         outboundMessage.setHeader(GrpcConstants.MESSAGE_ENCODING, compressor.getMessageEncoding());
-        outboundMessage.framer().setCompressor(compressor);
+        outboundMessage.setCompressor(compressor);
         outboundMessage.removeHeader(MESSAGE_ACCEPT_ENCODING);
         String advertisedEncodings = String.join(",", decompressorRegistry.getAdvertisedMessageEncodings());
         outboundMessage.setHeader(MESSAGE_ACCEPT_ENCODING, advertisedEncodings);
         if (headers != null) {
             outboundMessage.addHeaders(headers);
         }
+        // A response which carries headers of the remote function is not cached.
+        responseCacheable = headers == null || headers.isEmpty();
         try {
             // Send response headers.
             inboundMessage.respond(outboundMessage.getResponseMessage());
@@ -110,15 +363,14 @@ public final class ServerCall {
             throw Status.Code.CANCELLED.toStatus().withCause(e).withDescription("Failed to send response headers. "
                     + e.getMessage()).asRuntimeException();
         }
-        sendHeadersCalled = true;
     }
 
     public void sendMessage(Message message) {
-        if (!sendHeadersCalled) {
+        if (!sendHeadersCalled.get()) {
             throw Status.Code.CANCELLED.toStatus().withDescription("Response headers has not been sent properly.")
                     .asRuntimeException();
         }
-        if (closeCalled) {
+        if (closeCalled.get()) {
             throw Status.Code.CANCELLED.toStatus().withDescription("Call already closed.")
                     .asRuntimeException();
         }
@@ -130,6 +382,11 @@ public final class ServerCall {
 
         try {
             InputStream resp = method.streamResponse(message);
+            if (cacheKey != null || flight.get() != null) {
+                byte[] serialized = resp.readAllBytes();
+                response = serialized;
+                resp = new ByteArrayInputStream(serialized);
+            }
             outboundMessage.sendMessage(resp);
             messageSent = true;
         } catch (StatusRuntimeException ex) {
@@ -139,6 +396,41 @@ public final class ServerCall {
         }
     }
 
+    /**
+     * Sends a batch of messages of a server streaming call. The messages are framed one after the other and flushed
+     * to the transport at once.
+     *
+     * @param messages response messages.
+     */
+    public void sendMessages(List<Message> messages) {
+        if (!sendHeadersCalled.get()) {
+            throw Status.Code.CANCELLED.toStatus().withDescription("Response headers has not been sent properly.")
+                    .asRuntimeException();
+        }
+        if (closeCalled.get()) {
+            throw Status.Code.CANCELLED.toStatus().withDescription("Call already closed.")
+                    .asRuntimeException();
+        }
+        if (method.getType().serverSendsOneMessage()) {
+            for (Message message : messages) {
+                sendMessage(message);
+            }
+            return;
+        }
+        try {
+            List<InputStream> responses = new ArrayList<>(messages.size());
+            for (Message message : messages) {
+                responses.add(method.streamResponse(message));
+            }
+            outboundMessage.sendMessages(responses);
+            messageSent = true;
+        } catch (StatusRuntimeException ex) {
+            close(ex.getStatus(), new DefaultHttpHeaders());
+        } catch (Exception e) {
+            close(Status.fromThrowable(e), new DefaultHttpHeaders());
+        }
+    }
+
     void setObserverContext(ObserverContext context) {
         this.context = context;
     }
@@ -155,19 +447,44 @@ public final class ServerCall {
         return outboundMessage.isReady();
     }
 
+    public boolean isClosed() {
+        return outboundMessage.isClosed();
+    }
+
+    public void notifyWhenReady(Runnable onReadyListener) {
+        outboundMessage.flowController().notifyWhenReady(onReadyListener);
+    }
+
+    public boolean hasCapacity() {
+        return outboundMessage.hasCapacity();
+    }
+
+    public void notifyWhenCapacity(Runnable onCapacityListener) {
+        outboundMessage.notifyWhenCapacity(onCapacityListener);
+    }
+
     public void close(Status status, HttpHeaders trailers) {
-        if (closeCalled) {
+        if (!closeCalled.compareAndSet(false, true)) {
             throw Status.Code.CANCELLED.toStatus().withDescription("Call already closed.")
                     .asRuntimeException();
         }
-        closeCalled = true;
-
+        cancelDeadline();
+        byte[] shared = null;
         if (status.isOk() && method.getType().serverSendsOneMessage() && !messageSent) {
             outboundMessage.complete(Status.Code.INTERNAL.toStatus().withDescription(MISSING_RESPONSE), new
                     DefaultHttpHeaders());
-            return;
+        } else {
+            if (status.isOk() && response != null && responseCacheable &&
+                    (trailers == null || trailers.isEmpty())) {
+                shared = response;
+                if (cacheKey != null) {
+                    responseCache.put(cacheKey, shared);
+                }
+            }
+            outboundMessage.complete(status, trailers);
         }
-        outboundMessage.complete(status, trailers);
+        // The followers are responded once the call is completed.
+        landFlight(shared);
     }
 
     public boolean isCancelled() {
@@ -175,7 +492,8 @@ public final class ServerCall {
     }
 
     ServerStreamListener newServerStreamListener(ServerCallHandler.Listener listener) {
-        return new ServerStreamListener(this, listener, messageSizeMap);
+        streamListener = new ServerStreamListener(this, listener, messageSizeMap);
+        return streamListener;
     }
 
     public MethodDescriptor getMethodDescriptor() {
@@ -208,8 +526,18 @@ public final class ServerCall {
                 return;
             }
             try {
-                Message request = call.method.parseRequest(message, messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE));
+                InputStream requestMessage = message;
+                if (call.responseCache != null || call.coalescer != null) {
+                    requestMessage = call.lookupResponse(message);
+                    if (requestMessage == null) {
+                        return;
+                    }
+                }
+                int inboundSize = requestMessage.available();
+                Message request = call.method.parseRequest(requestMessage,
+                        messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE));
                 request.setHeaders(call.inboundMessage.getHeaders());
+                request.setInboundSize(inboundSize);
                 listener.onMessage(request);
             } catch (StatusRuntimeException ex) {
                 throw ex;
@@ -225,14 +553,35 @@ public final class ServerCall {
             if (call.cancelled) {
                 return;
             }
+            if (call.cachedResponse != null) {
+                byte[] cached = call.cachedResponse;
+                call.cachedResponse = null;
+                call.sendSharedResponse(cached);
+                return;
+            }
+            if (call.coalescingKey != null && call.followFlight(listener::onHalfClose)) {
+                return;
+            }
             listener.onHalfClose();
         }
 
+        /**
+         * Aborts the call, e.g. once the listener is stopped before the call is completed.
+         *
+         * @param status status of the call.
+         */
+        void abort(Status status) {
+            call.abort(status);
+        }
+
         public void closed(Status status) {
             if (status.isOk()) {
                 listener.onComplete();
             } else {
                 call.cancelled = true;
+                call.cancelDeadline();
+                call.outboundMessage.flowController().close();
+                call.landFlight(null);
                 listener.onCancel(new Message(status.asRuntimeException()));
             }
         }
@@ -28,10 +28,16 @@ import io.netty.handler.codec.http.LastHttpContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_TRACE_PROPERTIES;
 import static io.ballerina.runtime.observability.ObservabilityConstants.TAG_KEY_HTTP_METHOD;
@@ -51,18 +57,90 @@ public class ServerConnectorListener implements HttpConnectorListener {
 
     private static final Logger log = LoggerFactory.getLogger(ServerConnectorListener.class);
     private static final String SERVER_CONNECTOR_GRPC = "grpc";
+    private static final String SHUTTING_DOWN = "Server is shutting down";
+    private static final long DRAIN_PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final String INBOUND_PAUSES_DESCRIPTION = "Number of times the inbound contents of a call are " +
+            "held back since its inbound buffer is full";
 
     private final ServicesRegistry servicesRegistry;
     private Map<String, Long> messageSizeMap;
+    private final OutboundBufferConfig outboundBufferConfig;
+    private final InboundBufferConfig inboundBufferConfig;
+    private final ExecutorService workerExecutor;
+    private final AdmissionController admissionController;
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    private final Set<InboundCall> inflightCalls = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown;
 
     public ServerConnectorListener(ServicesRegistry servicesRegistry, Map<String, Long> messageSizeMap) {
 
+        this(servicesRegistry, messageSizeMap, null, null, WorkerPoolConfig.DEFAULT, null);
+    }
+
+    public ServerConnectorListener(ServicesRegistry servicesRegistry, Map<String, Long> messageSizeMap,
+                                   OutboundBufferConfig outboundBufferConfig, InboundBufferConfig inboundBufferConfig,
+                                   WorkerPoolConfig workerPoolConfig, AdmissionConfig admissionConfig) {
+
         this.servicesRegistry = servicesRegistry;
         this.messageSizeMap = messageSizeMap;
+        this.outboundBufferConfig = outboundBufferConfig;
+        this.inboundBufferConfig = inboundBufferConfig;
+        this.workerExecutor = workerPoolConfig.newExecutor(new ThreadGroup("grpc-worker"),
+                "grpc-service-worker-thread-pool");
+        this.admissionController = admissionConfig != null ? new AdmissionController(admissionConfig) : null;
+    }
+
+    /**
+     * Stops accepting new calls. The calls which are already accepted are run to completion.
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        if (activeCalls.get() == 0) {
+            workerExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the accepted calls to be completed once the listener is shut down. The number of calls yet to be
+     * completed is logged while waiting.
+     *
+     * @param timeoutNanos maximum time to wait.
+     * @return true if all the accepted calls are completed, false if the timeout elapsed before that.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean awaitCalls(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        synchronized (inflightCalls) {
+            while (!inflightCalls.isEmpty()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                log.info("Waiting for {} in-flight calls to complete", inflightCalls.size());
+                TimeUnit.NANOSECONDS.timedWait(inflightCalls, Math.min(remaining, DRAIN_PROGRESS_INTERVAL_NANOS));
+            }
+        }
+        return true;
     }
 
-    private ExecutorService workerExecutor = Executors.newFixedThreadPool(10,
-            new GrpcThreadFactory(new ThreadGroup("grpc-worker"), "grpc-service-worker-thread-pool"));
+    /**
+     * Stops accepting new calls, resets the streams of the accepted calls and interrupts the workers running them.
+     */
+    public void shutdownNow() {
+        shuttingDown = true;
+        Status status = Status.Code.UNAVAILABLE.toStatus().withDescription(SHUTTING_DOWN);
+        for (InboundCall call : inflightCalls) {
+            call.abort(status);
+        }
+        workerExecutor.shutdownNow();
+        for (ServerServiceDefinition service : servicesRegistry.getServices()) {
+            for (ServerMethodDefinition method : service.getMethods()) {
+                if (method.getBulkhead() != null) {
+                    method.getBulkhead().shutdownNow();
+                }
+            }
+        }
+    }
 
     @Override
     public void onMessage(HttpCarbonMessage inboundMessage) {
@@ -71,11 +149,8 @@ public class ServerConnectorListener implements HttpConnectorListener {
             if (!isValid(request)) {
                 return;
             }
-            OutboundMessage outboundMessage = new OutboundMessage(request);
-            // Remove the leading slash of the path and get the fully qualified method name
-            CharSequence path = request.getPath();
-            String method = path != null ? path.subSequence(1, path.length()).toString() : null;
-            deliver(method, request, outboundMessage);
+            OutboundMessage outboundMessage = new OutboundMessage(request, outboundBufferConfig);
+            deliver(request.getPath(), request, outboundMessage);
         } catch (RuntimeException ex) {
             try {
                 HttpUtil.handleFailure(inboundMessage, ex.getMessage());
@@ -90,54 +165,132 @@ public class ServerConnectorListener implements HttpConnectorListener {
         log.error("Error in http server connector" + throwable.getMessage(), throwable);
     }
 
-    private void deliver(String method, InboundMessage inboundMessage, OutboundMessage outboundMessage) {
-        ServerMethodDefinition methodDefinition = servicesRegistry.lookupMethod(method);
+    private void deliver(String path, InboundMessage inboundMessage, OutboundMessage outboundMessage) {
+        if (shuttingDown) {
+            // The clients retry the calls refused with UNAVAILABLE on another server, as they would do for the
+            // streams refused by a GOAWAY.
+            reject(inboundMessage.getHttpCarbonMessage(), Status.Code.UNAVAILABLE.toStatus()
+                    .withDescription(SHUTTING_DOWN));
+            return;
+        }
+        // The method is resolved once per call, and the resolved definition is handed over to the call.
+        ServerMethodDefinition methodDefinition = servicesRegistry.lookupRoute(path);
         if (methodDefinition == null) {
             // Use netty http constant.
             handleFailure(inboundMessage.getHttpCarbonMessage(), 404, Status.Code.UNIMPLEMENTED, String.format
-                    ("Method not found: %s", method));
+                    ("Method not found: %s", path.substring(1)));
+            return;
+        }
+        String method = methodDefinition.getMethodDescriptor().getFullMethodName();
+        long deadline;
+        try {
+            deadline = ServerCall.parseDeadline(inboundMessage);
+        } catch (StatusRuntimeException e) {
+            handleFailure(inboundMessage.getHttpCarbonMessage(), statusCodeToHttpCode(e.getStatus().getCode()),
+                    e.getStatus().getCode(), e.getStatus().getDescription());
             return;
         }
 
-        workerExecutor.execute(() -> {
-            ServerCall.ServerStreamListener listener;
-            try {
-                listener = startCall(inboundMessage, outboundMessage, method);
-                ServerInboundStateListener stateListener = new ServerInboundStateListener(
-                        messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE), listener, inboundMessage);
-                stateListener.setDecompressor(inboundMessage.getMessageDecompressor());
-
-                HttpContent httpContent = inboundMessage.getHttpCarbonMessage().getHttpContent();
-                while (true) {
-                    if (httpContent == null) {
-                        break;
-                    }
-                    // Exit the loop at the end of the content
-                    if (httpContent instanceof LastHttpContent) {
-                        stateListener.inboundDataReceived(httpContent, true);
-                        break;
-                    } else {
-                        stateListener.inboundDataReceived(httpContent, false);
-                    }
-                    httpContent = inboundMessage.getHttpCarbonMessage().getHttpContent();
-                }
-            } catch (RuntimeException e) {
-                HttpUtil.handleFailure(inboundMessage.getHttpCarbonMessage(), e.getMessage());
+        boolean admitted = false;
+        if (admissionController != null && !shuttingDown) {
+            // Shed the call before any work is done for it, so that an overloaded server fails fast.
+            Status rejection = admissionController.admit();
+            if (rejection != null) {
+                reject(inboundMessage.getHttpCarbonMessage(), rejection);
+                return;
             }
-        });
+            admitted = true;
+        }
+        AdaptiveConcurrencyLimiter limiter = methodDefinition.getLimiter();
+        if (limiter != null && !limiter.tryAcquire()) {
+            if (admitted) {
+                admissionController.abandon();
+            }
+            reject(inboundMessage.getHttpCarbonMessage(), Status.Code.RESOURCE_EXHAUSTED.toStatus()
+                    .withDescription("Concurrency limit of '" + method + "' is reached"));
+            return;
+        }
+        Bulkhead bulkhead = methodDefinition.getBulkhead();
+        InboundCall call = new InboundCall(methodDefinition, inboundMessage, outboundMessage, deadline, admitted,
+                limiter, bulkhead);
+        activeCalls.incrementAndGet();
+        inflightCalls.add(call);
+        if (bulkhead == null) {
+            dispatch(call, workerExecutor);
+            return;
+        }
+        // A call which cannot get a permit of the bulkhead right away is dispatched once an earlier call of the same
+        // bulkhead is completed, so that the calls of the other services and methods are not held up.
+        ExecutorService executor = bulkhead.getExecutor() != null ? bulkhead.getExecutor() : workerExecutor;
+        call.onPermitted = () -> {
+            call.permitted = true;
+            if (call.released.get()) {
+                // The call was aborted while it was waiting, so the permit is handed over to the next call.
+                call.releasePermit();
+                return;
+            }
+            dispatch(call, executor);
+        };
+        if (!bulkhead.tryAcquire(call.onPermitted)) {
+            call.release();
+            callEnded();
+            reject(inboundMessage.getHttpCarbonMessage(), bulkhead.getRejectionStatus());
+        }
+    }
+
+    private void dispatch(InboundCall call, ExecutorService executor) {
+        SerializingExecutor callExecutor = new SerializingExecutor(executor);
+        call.callExecutor = callExecutor;
+        call.outboundMessage.setDrainExecutor(callExecutor);
+        HttpCarbonMessage requestMessage = call.inboundMessage.getHttpCarbonMessage();
+        try {
+            callExecutor.execute(call::start);
+        } catch (RejectedExecutionException e) {
+            call.release();
+            call.end();
+            handleFailure(requestMessage, statusCodeToHttpCode(Status.Code.RESOURCE_EXHAUSTED),
+                    Status.Code.RESOURCE_EXHAUSTED, getRejectionMessage());
+            return;
+        }
+        // Inbound contents are pushed by the transport as they arrive, and deframed in the call executor. So a
+        // worker is only occupied while the call has contents to process.
+        requestMessage.getHttpContentAsync().setMessageListener(httpContent ->
+                callExecutor.execute(() -> call.inboundDataReceived(httpContent), () -> {
+                    httpContent.release();
+                    call.fail(Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(getRejectionMessage()));
+                }));
+    }
+
+    private String getRejectionMessage() {
+        return shuttingDown ? SHUTTING_DOWN : "Server is busy. All the workers are in use";
+    }
+
+    /**
+     * Called once the inbound side of an accepted call is done. The worker pool of a listener which is being shut
+     * down gracefully is shut down once all the accepted calls are done.
+     */
+    private void callEnded() {
+        if (activeCalls.decrementAndGet() == 0 && shuttingDown) {
+            workerExecutor.shutdown();
+        }
     }
 
     private ServerCall.ServerStreamListener startCall(InboundMessage inboundMessage, OutboundMessage
-            outboundMessage, String fullMethodName) {
-        // Get method definition of the inboundMessage.
-        ServerMethodDefinition methodDefinition = servicesRegistry.lookupMethod(fullMethodName);
+            outboundMessage, ServerMethodDefinition methodDefinition, long deadline, InboundMessageQueue inboundQueue) {
         // Create service call instance for the inboundMessage.
         ServerCall call = new ServerCall(inboundMessage, outboundMessage, methodDefinition
                 .getMethodDescriptor(), DecompressorRegistry.getDefaultInstance(), CompressorRegistry
                 .getDefaultInstance(), messageSizeMap);
         if (ObserveUtils.isObservabilityEnabled()) {
-            call.setObserverContext(getObserverContext(fullMethodName, inboundMessage));
+            call.setObserverContext(getObserverContext(methodDefinition.getMethodDescriptor().getFullMethodName(),
+                    inboundMessage));
         }
+        // The deadline is set before the call is handed over to the resource function, so that it is propagated to
+        // the calls made by the resource function.
+        call.setDeadline(deadline);
+        call.setResponseCache(methodDefinition.getResponseCache());
+        call.setCoalescer(methodDefinition.getCoalescer());
+        call.setInboundQueue(inboundQueue);
         return call.newServerStreamListener(methodDefinition.getServerCallHandler().startCall(call));
     }
 
@@ -194,12 +347,324 @@ public class ServerConnectorListener implements HttpConnectorListener {
 
     private static void handleFailure(HttpCarbonMessage requestMessage, int status,
                                       Status.Code statusCode, String msg) {
+        HttpUtil.sendOutboundResponse(requestMessage, createFailureMessage(status, statusCode, msg));
+    }
+
+    private static HttpCarbonMessage createFailureMessage(int status, Status.Code statusCode, String msg) {
         HttpCarbonMessage responseMessage = HttpUtil.createErrorMessage(msg, status);
         responseMessage.setHeader(GRPC_STATUS_KEY, statusCode.toString());
         responseMessage.setHeader(GRPC_MESSAGE_KEY, msg);
+        return responseMessage;
+    }
+
+    /**
+     * Responds to a call shed by the admission controller or a bulkhead. When admission control is enabled, the
+     * response carries the retry pushback, so that the clients back off instead of retrying right away.
+     */
+    private void reject(HttpCarbonMessage requestMessage, Status status) {
+        HttpCarbonMessage responseMessage = createFailureMessage(statusCodeToHttpCode(status.getCode()),
+                status.getCode(), status.getDescription());
+        if (admissionController != null) {
+            responseMessage.setHeader(AdmissionController.RETRY_PUSHBACK_KEY, admissionController.getRetryPushback());
+        }
         HttpUtil.sendOutboundResponse(requestMessage, responseMessage);
     }
 
+    /**
+     * Inbound side of a call. The methods of this class, except {@link #fail(Status)}, are run one after the other in
+     * the executor of the call.
+     *
+     * <p>
+     * When the inbound buffer of a streaming call is full, the contents received from the client are held back without
+     * being deframed, and are processed once the resource function has read the buffered messages. Since the
+     * transport returns the flow control window of a stream as it reads the DATA frames, the held contents are bounded
+     * as well, and the call is failed with RESOURCE_EXHAUSTED once they exceed the byte limit of the buffer.
+     */
+    private class InboundCall {
+
+        private final ServerMethodDefinition methodDefinition;
+        private final InboundMessage inboundMessage;
+        private final OutboundMessage outboundMessage;
+        private final long deadline;
+        private volatile ServerCall.ServerStreamListener listener;
+        private ServerInboundStateListener stateListener;
+        private final AtomicBoolean failed = new AtomicBoolean();
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final boolean admitted;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final Bulkhead bulkhead;
+        private final long acceptedAt;
+        // Whether the call holds a permit of its bulkhead, and the task which starts the call once it gets one.
+        volatile boolean permitted;
+        private final AtomicBoolean permitReleased = new AtomicBoolean();
+        volatile Runnable onPermitted;
+        SerializingExecutor callExecutor;
+        // Inbound buffer of a streaming call, and the contents held back while it is full.
+        private volatile InboundMessageQueue inboundQueue;
+        private final ArrayDeque<HttpContent> heldContents = new ArrayDeque<>();
+        private long heldBytes;
+
+        InboundCall(ServerMethodDefinition methodDefinition, InboundMessage inboundMessage,
+                    OutboundMessage outboundMessage, long deadline, boolean admitted,
+                    AdaptiveConcurrencyLimiter limiter, Bulkhead bulkhead) {
+            this.methodDefinition = methodDefinition;
+            this.inboundMessage = inboundMessage;
+            this.outboundMessage = outboundMessage;
+            this.deadline = deadline;
+            this.admitted = admitted;
+            this.limiter = limiter;
+            this.bulkhead = bulkhead;
+            this.acceptedAt = admitted || limiter != null ? System.nanoTime() : 0;
+            // The call is in flight until its response is completed. The latency of the call is sampled at that
+            // point, once the resource function has completed the call.
+            outboundMessage.flowController().notifyWhenClosed(() -> {
+                release(true);
+                discardHeldContents();
+            });
+        }
+
+        void start() {
+            if (!started.compareAndSet(false, true)) {
+                // The call was failed before a worker picked it up.
+                return;
+            }
+            if (admitted) {
+                Status rejection = admissionController.dequeue(acceptedAt);
+                if (rejection != null) {
+                    if (failed.compareAndSet(false, true)) {
+                        release();
+                        reject(inboundMessage.getHttpCarbonMessage(), rejection);
+                    }
+                    return;
+                }
+            }
+            if (deadline != Deadlines.NO_DEADLINE && deadline - System.nanoTime() <= 0) {
+                // The client has given up on the call while it was waiting for a worker.
+                if (failed.compareAndSet(false, true)) {
+                    release();
+                    handleFailure(inboundMessage.getHttpCarbonMessage(), statusCodeToHttpCode(
+                            Status.Code.DEADLINE_EXCEEDED), Status.Code.DEADLINE_EXCEEDED, "Deadline exceeded " +
+                            "before the call is started");
+                }
+                return;
+            }
+            try {
+                if (inboundBufferConfig != null && !methodDefinition.getMethodDescriptor().getType()
+                        .clientSendsOneMessage()) {
+                    inboundQueue = new InboundMessageQueue(inboundBufferConfig);
+                }
+                listener = startCall(inboundMessage, outboundMessage, methodDefinition, deadline, inboundQueue);
+                stateListener = new ServerInboundStateListener(messageSizeMap.get(MAX_INBOUND_MESSAGE_SIZE),
+                        listener, inboundMessage);
+                stateListener.setDecompressor(inboundMessage.getMessageDecompressor());
+            } catch (RuntimeException e) {
+                if (failed.compareAndSet(false, true)) {
+                    release();
+                    HttpUtil.handleFailure(inboundMessage.getHttpCarbonMessage(), e.getMessage());
+                }
+            }
+        }
+
+        void inboundDataReceived(HttpContent httpContent) {
+            if (inboundQueue != null && (!heldContents.isEmpty() || inboundQueue.isFull())) {
+                hold(httpContent);
+                return;
+            }
+            deliver(httpContent);
+        }
+
+        private void deliver(HttpContent httpContent) {
+            boolean endOfStream = httpContent instanceof LastHttpContent;
+            try {
+                if (failed.get() || stateListener == null) {
+                    httpContent.release();
+                    return;
+                }
+                stateListener.inboundDataReceived(httpContent, endOfStream);
+            } catch (RuntimeException e) {
+                if (failed.compareAndSet(false, true)) {
+                    release();
+                    HttpUtil.handleFailure(inboundMessage.getHttpCarbonMessage(), e.getMessage());
+                }
+            } finally {
+                if (endOfStream) {
+                    end();
+                }
+            }
+        }
+
+        /**
+         * Holds back a content received while the inbound buffer of the call is full.
+         *
+         * @param httpContent Http content.
+         */
+        private void hold(HttpContent httpContent) {
+            if (failed.get() || released.get()) {
+                // The call is already completed, so the remaining contents are not read.
+                httpContent.release();
+                if (httpContent instanceof LastHttpContent) {
+                    end();
+                }
+                releaseHeldContents();
+                return;
+            }
+            heldBytes += httpContent.content().readableBytes();
+            if (heldBytes > inboundBufferConfig.getMaxBytes()) {
+                httpContent.release();
+                releaseHeldContents();
+                fail(Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(String.format(
+                        "Inbound buffer is full. The client sent more than %d bytes while the buffered messages are " +
+                                "not read", inboundBufferConfig.getMaxBytes())));
+                return;
+            }
+            heldContents.add(httpContent);
+            if (heldContents.size() == 1) {
+                GrpcMetrics.incrementCounter(GrpcMetrics.INBOUND_PAUSES, INBOUND_PAUSES_DESCRIPTION);
+                inboundQueue.notifyWhenNotFull(this::scheduleResume);
+            }
+        }
+
+        private void scheduleResume() {
+            callExecutor.execute(this::resume, () -> {
+                releaseHeldContents();
+                fail(Status.Code.RESOURCE_EXHAUSTED.toStatus().withDescription(getRejectionMessage()));
+            });
+        }
+
+        /**
+         * Processes the held back contents until the inbound buffer of the call is full again.
+         */
+        private void resume() {
+            HttpContent httpContent;
+            while (!inboundQueue.isFull() && (httpContent = heldContents.poll()) != null) {
+                heldBytes -= httpContent.content().readableBytes();
+                deliver(httpContent);
+            }
+            if (!heldContents.isEmpty()) {
+                inboundQueue.notifyWhenNotFull(this::scheduleResume);
+            }
+        }
+
+        /**
+         * Releases the held back contents once the call is completed, since the resource function no longer reads the
+         * buffered messages.
+         */
+        private void discardHeldContents() {
+            if (inboundQueue == null) {
+                return;
+            }
+            // The worker pool is shut down if the task is rejected, so no other task of the call is running.
+            callExecutor.execute(this::releaseHeldContents, this::releaseHeldContents);
+        }
+
+        private void releaseHeldContents() {
+            HttpContent httpContent;
+            while ((httpContent = heldContents.poll()) != null) {
+                httpContent.release();
+                if (httpContent instanceof LastHttpContent) {
+                    end();
+                }
+            }
+            heldBytes = 0;
+        }
+
+        /**
+         * Fails the call when its contents cannot be processed. Called in the executor of the call, or in the
+         * transport thread when the executor rejects a content, which may happen while a task of the call is still
+         * running. The call is failed only once, by whichever thread gets there first.
+         *
+         * @param status failure status.
+         */
+        void fail(Status status) {
+            end();
+            if (!failed.compareAndSet(false, true)) {
+                return;
+            }
+            release();
+            handleFailure(inboundMessage.getHttpCarbonMessage(), statusCodeToHttpCode(status.getCode()),
+                    status.getCode(), status.getDescription());
+            if (listener != null) {
+                listener.closed(status);
+            }
+        }
+
+        /**
+         * Aborts the call once the listener is stopped before the call is completed. A call which is not yet picked
+         * up by a worker is not started afterwards.
+         *
+         * @param status status of the call.
+         */
+        void abort(Status status) {
+            ServerCall.ServerStreamListener streamListener = listener;
+            if (streamListener != null) {
+                streamListener.abort(status);
+                return;
+            }
+            Runnable waitingCall = onPermitted;
+            if (waitingCall != null) {
+                bulkhead.cancel(waitingCall);
+            }
+            if (release(false)) {
+                end();
+                handleFailure(inboundMessage.getHttpCarbonMessage(), statusCodeToHttpCode(status.getCode()),
+                        status.getCode(), status.getDescription());
+            }
+        }
+
+        private void end() {
+            if (ended.compareAndSet(false, true)) {
+                callEnded();
+            }
+        }
+
+        void release() {
+            release(false);
+        }
+
+        /**
+         * Releases the admission, the concurrency limit and the bulkhead permit of the call once it is completed or
+         * failed. A call which is released before a worker picks it up is not started afterwards.
+         *
+         * @param completed whether the response of the call is completed, in which case its latency is sampled.
+         * @return true if the call is released before a worker picked it up, false otherwise.
+         */
+        private boolean release(boolean completed) {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            if (inflightCalls.remove(this) && shuttingDown && inflightCalls.isEmpty()) {
+                synchronized (inflightCalls) {
+                    inflightCalls.notifyAll();
+                }
+            }
+            if (limiter != null) {
+                limiter.release(completed ? System.nanoTime() - acceptedAt : -1);
+            }
+            boolean dequeued = !started.compareAndSet(false, true);
+            if (admitted) {
+                if (dequeued) {
+                    admissionController.release();
+                } else {
+                    admissionController.abandon();
+                }
+            }
+            if (permitted) {
+                releasePermit();
+            }
+            return !dequeued;
+        }
+
+        // The permit may be handed back both by the release of the call and by the task which got the permit after
+        // the call was aborted, so it is handed back only once.
+        private void releasePermit() {
+            if (permitReleased.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+
     private static class ServerInboundStateListener extends InboundMessage.InboundStateListener {
 
         final ServerCall.ServerStreamListener listener;
@@ -31,10 +31,20 @@ public final class ServerMethodDefinition {
 
     private final MethodDescriptor method;
     private final ServerCallHandler handler;
+    private final Bulkhead bulkhead;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ResponseCache responseCache;
+    private final CallCoalescer coalescer;
 
-    private ServerMethodDefinition(MethodDescriptor method, ServerCallHandler handler) {
+    private ServerMethodDefinition(MethodDescriptor method, ServerCallHandler handler, Bulkhead bulkhead,
+                                   AdaptiveConcurrencyLimiter limiter, ResponseCache responseCache,
+                                   CallCoalescer coalescer) {
         this.method = method;
         this.handler = handler;
+        this.bulkhead = bulkhead;
+        this.limiter = limiter;
+        this.responseCache = responseCache;
+        this.coalescer = coalescer;
     }
 
     /**
@@ -45,7 +55,37 @@ public final class ServerMethodDefinition {
      * @return a new instance.
      */
     public static ServerMethodDefinition create(MethodDescriptor method, ServerCallHandler handler) {
-        return new ServerMethodDefinition(method, handler);
+        return new ServerMethodDefinition(method, handler, null, null, null, null);
+    }
+
+    /**
+     * Create a new instance of a method which has a concurrency limit.
+     *
+     * @param method   method descriptor for this method.
+     * @param handler  server handler to dispatch calls.
+     * @param bulkhead concurrency limit of the method, or null if the method is not limited.
+     * @return a new instance.
+     */
+    static ServerMethodDefinition create(MethodDescriptor method, ServerCallHandler handler, Bulkhead bulkhead) {
+        return new ServerMethodDefinition(method, handler, bulkhead, null, null, null);
+    }
+
+    /**
+     * Create a new instance of a method which has a concurrency limit, an adaptive concurrency limit, a response cache
+     * or a call coalescer.
+     *
+     * @param method        method descriptor for this method.
+     * @param handler       server handler to dispatch calls.
+     * @param bulkhead      concurrency limit of the method, or null if the method is not limited.
+     * @param limiter       adaptive concurrency limiter of the method, or null if the method is not limited.
+     * @param responseCache response cache of the method, or null if the responses are not cached.
+     * @param coalescer     call coalescer of the method, or null if the calls are not coalesced.
+     * @return a new instance.
+     */
+    static ServerMethodDefinition create(MethodDescriptor method, ServerCallHandler handler, Bulkhead bulkhead,
+                                         AdaptiveConcurrencyLimiter limiter, ResponseCache responseCache,
+                                         CallCoalescer coalescer) {
+        return new ServerMethodDefinition(method, handler, bulkhead, limiter, responseCache, coalescer);
     }
 
     /**
@@ -65,4 +105,40 @@ public final class ServerMethodDefinition {
         return handler;
     }
 
+    /**
+     * Returns the concurrency limit of the method.
+     *
+     * @return concurrency limit, or null if the method is not limited.
+     */
+    Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Returns the adaptive concurrency limiter of the method.
+     *
+     * @return adaptive concurrency limiter, or null if the method is not limited.
+     */
+    AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * Returns the response cache of the method.
+     *
+     * @return response cache, or null if the responses are not cached.
+     */
+    ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Returns the call coalescer of the method.
+     *
+     * @return call coalescer, or null if the calls are not coalesced.
+     */
+    CallCoalescer getCoalescer() {
+        return coalescer;
+    }
+
 }
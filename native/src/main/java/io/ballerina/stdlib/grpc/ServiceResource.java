@@ -48,6 +48,7 @@ public class ServiceResource {
     private final Type returnType;
     private final Type rpcOutputType;
     private final Type rpcInputType;
+    private final InvocationPlan invocationPlan;
 
     public ServiceResource(Runtime runtime, BObject service, String serviceName, MethodType function,
                            Descriptors.MethodDescriptor methodDescriptor) {
@@ -62,6 +63,8 @@ public class ServiceResource {
                 methodDescriptor.getInputType().getName());
         this.headerRequired = headersRequired(function, rpcInputType);
         this.runtime = runtime;
+        this.invocationPlan = new InvocationPlan(service.getType(), serviceName, functionName, paramTypes,
+                headerRequired, rpcInputType, rpcOutputType);
     }
 
     public BObject getService() {
@@ -99,4 +102,8 @@ public class ServiceResource {
     public Type getRpcInputType() {
         return rpcInputType;
     }
+
+    public InvocationPlan getInvocationPlan() {
+        return invocationPlan;
+    }
 }
@@ -34,6 +34,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
@@ -47,15 +48,28 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
 import static io.ballerina.stdlib.grpc.GrpcConstants.ANY_MESSAGE;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CALL_COALESCING_KEY_HEADERS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CONCURRENCY_DEDICATED_WORKERS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CONCURRENCY_MAX_CONCURRENT_CALLS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CONCURRENCY_MAX_QUEUED_CALLS;
 import static io.ballerina.stdlib.grpc.GrpcConstants.CONTENT_FIELD;
 import static io.ballerina.stdlib.grpc.GrpcConstants.DURATION_MESSAGE;
 import static io.ballerina.stdlib.grpc.GrpcConstants.EMPTY_DATATYPE_NAME;
 import static io.ballerina.stdlib.grpc.GrpcConstants.HEADERS;
 import static io.ballerina.stdlib.grpc.GrpcConstants.PROTOCOL_PACKAGE_GRPC;
+import static io.ballerina.stdlib.grpc.GrpcConstants.RESPONSE_CACHE_KEY_HEADERS;
+import static io.ballerina.stdlib.grpc.GrpcConstants.RESPONSE_CACHE_MAX_BYTES;
+import static io.ballerina.stdlib.grpc.GrpcConstants.RESPONSE_CACHE_MAX_ENTRIES;
+import static io.ballerina.stdlib.grpc.GrpcConstants.RESPONSE_CACHE_TTL;
+import static io.ballerina.stdlib.grpc.GrpcConstants.SERVICE_CONFIG_CONCURRENCY;
+import static io.ballerina.stdlib.grpc.GrpcConstants.SERVICE_CONFIG_METHOD_CACHE;
+import static io.ballerina.stdlib.grpc.GrpcConstants.SERVICE_CONFIG_METHOD_COALESCING;
+import static io.ballerina.stdlib.grpc.GrpcConstants.SERVICE_CONFIG_METHOD_CONCURRENCY;
 import static io.ballerina.stdlib.grpc.GrpcConstants.STRUCT_MESSAGE;
 import static io.ballerina.stdlib.grpc.GrpcConstants.TIMESTAMP_MESSAGE;
 import static io.ballerina.stdlib.grpc.GrpcConstants.WRAPPER_BOOL_MESSAGE;
@@ -73,6 +87,46 @@ public class ServicesBuilderUtils {
     public static ServerServiceDefinition getServiceDefinition(Runtime runtime, BObject service, Object servicePath,
                                                                Object annotationData) throws GrpcServerException {
 
+        return getServiceDefinition(runtime, service, servicePath, annotationData, null);
+    }
+
+    /**
+     * Returns the definition of a service, along with the concurrency limits of the service and its remote functions.
+     *
+     * @param runtime        Ballerina runtime.
+     * @param service        service object.
+     * @param servicePath    service path.
+     * @param annotationData service descriptor annotation.
+     * @param serviceConfig  service config annotation, or null if the service is not annotated.
+     * @return service definition.
+     * @throws GrpcServerException if the service definition cannot be built.
+     */
+    public static ServerServiceDefinition getServiceDefinition(Runtime runtime, BObject service, Object servicePath,
+                                                               Object annotationData, Object serviceConfig)
+            throws GrpcServerException {
+
+        return getServiceDefinition(runtime, service, servicePath, annotationData, serviceConfig, null);
+    }
+
+    /**
+     * Returns the definition of a service, along with the concurrency limits of the service and its remote functions,
+     * and the adaptive concurrency limiters of its remote functions.
+     *
+     * @param runtime             Ballerina runtime.
+     * @param service             service object.
+     * @param servicePath         service path.
+     * @param annotationData      service descriptor annotation.
+     * @param serviceConfig       service config annotation, or null if the service is not annotated.
+     * @param adaptiveLimitConfig adaptive concurrency limits of the listener, or null if the limits are not
+     *                            configured.
+     * @return service definition.
+     * @throws GrpcServerException if the service definition cannot be built.
+     */
+    public static ServerServiceDefinition getServiceDefinition(Runtime runtime, BObject service, Object servicePath,
+                                                               Object annotationData, Object serviceConfig,
+                                                               AdaptiveLimitConfig adaptiveLimitConfig)
+            throws GrpcServerException {
+
         Descriptors.FileDescriptor fileDescriptor = getDescriptor(annotationData);
         MessageRegistry.getInstance().setFileDescriptor(fileDescriptor);
         if (fileDescriptor == null) {
@@ -86,7 +140,7 @@ public class ServicesBuilderUtils {
         if (serviceDescriptor == null) {
             throw new GrpcServerException("Couldn't find the service descriptor for the service: " + serviceName);
         }
-        return getServiceDefinition(runtime, service, serviceDescriptor);
+        return getServiceDefinition(runtime, service, serviceDescriptor, serviceConfig, adaptiveLimitConfig);
     }
 
     private static String getServiceName(Object servicePath) throws GrpcServerException {
@@ -110,13 +164,28 @@ public class ServicesBuilderUtils {
         return serviceName;
     }
 
+    @SuppressWarnings("unchecked")
     private static ServerServiceDefinition getServiceDefinition(Runtime runtime, BObject service,
-                                                                Descriptors.ServiceDescriptor serviceDescriptor)
+                                                                Descriptors.ServiceDescriptor serviceDescriptor,
+                                                                Object serviceConfig,
+                                                                AdaptiveLimitConfig adaptiveLimitConfig)
             throws GrpcServerException {
         // Get full service name for the service definition. <package>.<service>
         final String serviceName = serviceDescriptor.getFullName();
         // Server Definition Builder for the service.
         ServerServiceDefinition.Builder serviceDefBuilder = ServerServiceDefinition.builder(serviceName);
+        // Resolve the concurrency limits once, so that the calls only look them up from the method definitions.
+        BMap<BString, Object> serviceConfigMap = (BMap<BString, Object>) serviceConfig;
+        Bulkhead serviceBulkhead = null;
+        BMap<BString, Object> methodLimits = null;
+        BMap<BString, Object> methodCaches = null;
+        BMap<BString, Object> methodCoalescing = null;
+        if (serviceConfigMap != null) {
+            serviceBulkhead = getBulkhead(serviceName, serviceConfigMap.getMapValue(SERVICE_CONFIG_CONCURRENCY));
+            methodLimits = serviceConfigMap.getMapValue(SERVICE_CONFIG_METHOD_CONCURRENCY);
+            methodCaches = serviceConfigMap.getMapValue(SERVICE_CONFIG_METHOD_CACHE);
+            methodCoalescing = serviceConfigMap.getMapValue(SERVICE_CONFIG_METHOD_COALESCING);
+        }
 
         for (Descriptors.MethodDescriptor methodDescriptor : serviceDescriptor.getMethods()) {
             final String methodName = serviceName + "/" + methodDescriptor.getName();
@@ -177,11 +246,115 @@ public class ServicesBuilderUtils {
                     .setRequestMarshaller(reqMarshaller)
                     .setResponseMarshaller(resMarshaller)
                     .setSchemaDescriptor(methodDescriptor).build();
-            serviceDefBuilder.addMethod(grpcMethodDescriptor, serverCallHandler);
+            Bulkhead bulkhead = serviceBulkhead;
+            if (methodLimits != null && methodLimits.containsKey(StringUtils.fromString(methodDescriptor.getName()))) {
+                bulkhead = getBulkhead(methodName, (BMap<BString, Object>) methodLimits.getMapValue(
+                        StringUtils.fromString(methodDescriptor.getName())));
+            }
+            ResponseCache responseCache = null;
+            if (methodCaches != null && methodCaches.containsKey(StringUtils.fromString(methodDescriptor.getName()))) {
+                if (methodType != MethodDescriptor.MethodType.UNARY) {
+                    throw new GrpcServerException("Invalid response cache of '" + methodName + "'. The responses " +
+                            "can only be cached for the simple remote functions");
+                }
+                responseCache = getResponseCache(methodName, (BMap<BString, Object>) methodCaches.getMapValue(
+                        StringUtils.fromString(methodDescriptor.getName())));
+            }
+            CallCoalescer coalescer = null;
+            if (methodCoalescing != null &&
+                    methodCoalescing.containsKey(StringUtils.fromString(methodDescriptor.getName()))) {
+                if (methodType != MethodDescriptor.MethodType.UNARY) {
+                    throw new GrpcServerException("Invalid call coalescing of '" + methodName + "'. The calls can " +
+                            "only be coalesced for the simple remote functions");
+                }
+                BMap<BString, Object> coalescing = (BMap<BString, Object>) methodCoalescing.getMapValue(
+                        StringUtils.fromString(methodDescriptor.getName()));
+                coalescer = new CallCoalescer(methodName, getKeyHeaders(coalescing.getArrayValue(
+                        CALL_COALESCING_KEY_HEADERS)));
+            }
+            AdaptiveConcurrencyLimiter limiter = getLimiter(methodName, methodType, adaptiveLimitConfig);
+            serviceDefBuilder.addMethod(ServerMethodDefinition.create(grpcMethodDescriptor, serverCallHandler,
+                    bulkhead, limiter, responseCache, coalescer));
         }
         return serviceDefBuilder.build();
     }
 
+    /**
+     * Creates the bulkhead of a concurrency limit.
+     *
+     * @param name  name of the service or the method which is limited.
+     * @param limit concurrency limit configuration.
+     * @return bulkhead, or null if the limit is not configured.
+     * @throws GrpcServerException if the limit is not valid.
+     */
+    private static Bulkhead getBulkhead(String name, BMap<BString, Object> limit) throws GrpcServerException {
+
+        if (limit == null) {
+            return null;
+        }
+        long maxConcurrentCalls = limit.getIntValue(CONCURRENCY_MAX_CONCURRENT_CALLS);
+        long maxQueuedCalls = limit.getIntValue(CONCURRENCY_MAX_QUEUED_CALLS);
+        long dedicatedWorkers = limit.getIntValue(CONCURRENCY_DEDICATED_WORKERS);
+        if (maxConcurrentCalls <= 0 || maxQueuedCalls < 0 || dedicatedWorkers < 0) {
+            throw new GrpcServerException("Invalid concurrency limit of '" + name + "'. The maximum concurrent calls " +
+                    "should be greater than zero, and the queued calls and dedicated workers should not be negative");
+        }
+        return new Bulkhead(name, toInt(maxConcurrentCalls), toInt(maxQueuedCalls), toInt(dedicatedWorkers));
+    }
+
+    /**
+     * Creates the adaptive concurrency limiter of a remote function. Only the simple remote functions are limited,
+     * since a streaming call holds its permit for the whole life of the stream, which is not the latency the limit
+     * is adjusted to.
+     *
+     * @param name       name of the remote function.
+     * @param methodType type of the remote function.
+     * @param config     adaptive concurrency limits of the listener, or null if the limits are not configured.
+     * @return adaptive concurrency limiter, or null if the remote function is not limited.
+     */
+    static AdaptiveConcurrencyLimiter getLimiter(String name, MethodDescriptor.MethodType methodType,
+                                                 AdaptiveLimitConfig config) {
+
+        if (config == null || methodType != MethodDescriptor.MethodType.UNARY) {
+            return null;
+        }
+        return new AdaptiveConcurrencyLimiter(name, config);
+    }
+
+    /**
+     * Creates the response cache of a remote function.
+     *
+     * @param name   name of the remote function.
+     * @param config response cache configuration.
+     * @return response cache.
+     * @throws GrpcServerException if the configuration is not valid.
+     */
+    private static ResponseCache getResponseCache(String name, BMap<BString, Object> config)
+            throws GrpcServerException {
+
+        double ttlSeconds = ((BDecimal) config.get(RESPONSE_CACHE_TTL)).floatValue();
+        long maxEntries = config.getIntValue(RESPONSE_CACHE_MAX_ENTRIES);
+        long maxBytes = config.getIntValue(RESPONSE_CACHE_MAX_BYTES);
+        if (ttlSeconds <= 0 || maxEntries <= 0 || maxBytes <= 0) {
+            throw new GrpcServerException("Invalid response cache of '" + name + "'. The time to live, the maximum " +
+                    "entries and the maximum bytes should be greater than zero");
+        }
+        return new ResponseCache(name, (long) (ttlSeconds * 1_000_000_000L), toInt(maxEntries), maxBytes,
+                getKeyHeaders(config.getArrayValue(RESPONSE_CACHE_KEY_HEADERS)));
+    }
+
+    private static List<String> getKeyHeaders(BArray headers) {
+        List<String> keyHeaders = new ArrayList<>();
+        for (String header : headers.getStringArray()) {
+            keyHeaders.add(header.toLowerCase(Locale.ROOT));
+        }
+        return keyHeaders;
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.min(value, Integer.MAX_VALUE);
+    }
+
     private ServicesBuilderUtils() {
 
     }
@@ -32,12 +32,13 @@ import java.util.Map;
 public class ServicesRegistry {
 
     private final List<ServerServiceDefinition> services;
-    private final Map<String, ServerMethodDefinition> methods;
+    // Methods keyed by their request paths, i.e. `/<fully qualified service name>/<method name>`.
+    private final Map<String, ServerMethodDefinition> routes;
 
     private ServicesRegistry(
-            List<ServerServiceDefinition> services, Map<String, ServerMethodDefinition> methods) {
+            List<ServerServiceDefinition> services, Map<String, ServerMethodDefinition> routes) {
         this.services = services;
-        this.methods = methods;
+        this.routes = routes;
     }
 
     /**
@@ -50,8 +51,14 @@ public class ServicesRegistry {
         return services;
     }
 
-    ServerMethodDefinition lookupMethod(String methodName) {
-        return methods.get(methodName);
+    /**
+     * Resolves the method of a request by its path as it is, so that no string is built per request.
+     *
+     * @param path request path, i.e. `/<fully qualified service name>/<method name>`.
+     * @return method definition, or null if no method is registered for the path.
+     */
+    ServerMethodDefinition lookupRoute(String path) {
+        return routes.get(path);
     }
 
     /**
@@ -75,7 +82,7 @@ public class ServicesRegistry {
             Map<String, ServerMethodDefinition> map = new HashMap<>();
             for (ServerServiceDefinition service : services.values()) {
                 for (ServerMethodDefinition method : service.getMethods()) {
-                    map.put(method.getMethodDescriptor().getFullMethodName(), method);
+                    map.put("/" + method.getMethodDescriptor().getFullMethodName(), method);
                 }
             }
             return new ServicesRegistry(
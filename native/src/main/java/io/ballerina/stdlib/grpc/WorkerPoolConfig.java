@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of a worker pool which runs the inbound side of the gRPC calls of a listener or a client.
+ *
+ * @since 1.4.0
+ */
+public final class WorkerPoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkerPoolConfig.class);
+
+    /**
+     * Worker pool used when the listener does not configure one.
+     */
+    public static final WorkerPoolConfig DEFAULT = new WorkerPoolConfig(10, QueueType.UNBOUNDED, 0);
+
+    /**
+     * Queue which holds the calls waiting for a free worker.
+     */
+    public enum QueueType {
+        /**
+         * Calls wait in an unbounded queue.
+         */
+        UNBOUNDED,
+        /**
+         * Calls wait in a queue of a fixed capacity. Calls arriving at a full queue are rejected.
+         */
+        BOUNDED,
+        /**
+         * Calls are not queued. Calls arriving while all the workers are busy are rejected.
+         */
+        DIRECT
+    }
+
+    private final int poolSize;
+    private final QueueType queueType;
+    private final int queueCapacity;
+    private final boolean virtualThreads;
+
+    public WorkerPoolConfig(int poolSize, QueueType queueType, int queueCapacity) {
+        this(poolSize, queueType, queueCapacity, false);
+    }
+
+    public WorkerPoolConfig(int poolSize, QueueType queueType, int queueCapacity, boolean virtualThreads) {
+        this.poolSize = poolSize;
+        this.queueType = queueType;
+        this.queueCapacity = queueCapacity;
+        this.virtualThreads = virtualThreads;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Creates a worker pool as per this configuration, which keeps its worker threads alive while idle.
+     *
+     * @param threadGroup thread group of the platform worker threads.
+     * @param namePrefix  prefix of the worker thread names.
+     * @return worker pool.
+     */
+    ExecutorService newExecutor(ThreadGroup threadGroup, String namePrefix) {
+        return newExecutor(threadGroup, namePrefix, 0);
+    }
+
+    /**
+     * Creates a worker pool as per this configuration. Tasks which cannot be accepted by the pool are rejected with a
+     * {@link java.util.concurrent.RejectedExecutionException}. The active and queued tasks of the pool are reported
+     * as metrics, tagged with the thread name prefix, when metrics are enabled.
+     *
+     * <p>
+     * When virtual threads are enabled and supported by the JDK, each task is run in a new virtual thread and the pool
+     * size and queue settings do not apply. Otherwise a fixed pool of platform threads is used.
+     *
+     * @param threadGroup        thread group of the platform worker threads.
+     * @param namePrefix         prefix of the worker thread names.
+     * @param idleTimeoutSeconds time after which an idle platform worker thread exits, or 0 to keep them alive.
+     * @return worker pool.
+     */
+    ExecutorService newExecutor(ThreadGroup threadGroup, String namePrefix, long idleTimeoutSeconds) {
+        ExecutorService executor = createExecutor(threadGroup, namePrefix, idleTimeoutSeconds);
+        return ObserveUtils.isMetricsEnabled() ? new MeteredExecutorService(executor, namePrefix) : executor;
+    }
+
+    private ExecutorService createExecutor(ThreadGroup threadGroup, String namePrefix, long idleTimeoutSeconds) {
+        if (virtualThreads) {
+            ExecutorService executor = GrpcThreadFactory.newVirtualThreadPerTaskExecutor(namePrefix);
+            if (executor != null) {
+                return executor;
+            }
+            log.warn("Virtual threads are not supported by the JDK. gRPC workers of '{}' run on a pool of {} " +
+                    "platform threads", namePrefix, poolSize);
+        }
+        BlockingQueue<Runnable> workQueue;
+        switch (queueType) {
+            case BOUNDED:
+                workQueue = new ArrayBlockingQueue<>(queueCapacity);
+                break;
+            case DIRECT:
+                workQueue = new SynchronousQueue<>();
+                break;
+            default:
+                workQueue = new LinkedBlockingQueue<>();
+                break;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, idleTimeoutSeconds, TimeUnit.SECONDS,
+                workQueue, new GrpcThreadFactory(threadGroup, namePrefix), new ThreadPoolExecutor.AbortPolicy());
+        if (idleTimeoutSeconds > 0) {
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+}
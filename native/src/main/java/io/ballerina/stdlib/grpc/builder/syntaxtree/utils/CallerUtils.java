@@ -190,6 +190,30 @@ public class CallerUtils {
         isCancelled.addQualifiers(new String[]{"public", "isolated"});
         caller.addMember(isCancelled.getFunctionDefinitionNode());
 
+        Function isReady = new Function("isReady");
+        isReady.addReturns(TypeDescriptor.getBuiltinSimpleNameReferenceNode("boolean"));
+        isReady.addReturnStatement(
+                getMethodCallExpressionNode(
+                        getFieldAccessExpressionNode("self", "caller"),
+                        "isReady",
+                        new String[]{}
+                )
+        );
+        isReady.addQualifiers(new String[]{"public", "isolated"});
+        caller.addMember(isReady.getFunctionDefinitionNode());
+
+        Function awaitReady = new Function("awaitReady");
+        awaitReady.addReturns(SyntaxTreeConstants.SYNTAX_TREE_GRPC_ERROR_OPTIONAL);
+        awaitReady.addReturnStatement(
+                getMethodCallExpressionNode(
+                        getFieldAccessExpressionNode("self", "caller"),
+                        "awaitReady",
+                        new String[]{}
+                )
+        );
+        awaitReady.addQualifiers(new String[]{"public", "isolated"});
+        caller.addMember(awaitReady.getFunctionDefinitionNode());
+
         return caller;
     }
 }
@@ -132,6 +132,10 @@ public class ClientUtils {
 
         streamingClient.addMember(getCompleteFunction().getFunctionDefinitionNode());
 
+        streamingClient.addMember(getIsReadyFunction().getFunctionDefinitionNode());
+
+        streamingClient.addMember(getAwaitReadyFunction().getFunctionDefinitionNode());
+
         return streamingClient;
     }
 
@@ -521,4 +525,32 @@ public class ClientUtils {
         function.addQualifiers(new String[]{"isolated", "remote"});
         return function;
     }
+
+    private static Function getIsReadyFunction() {
+        Function function = new Function("isReady");
+        function.addReturns(getBuiltinSimpleNameReferenceNode("boolean"));
+        function.addReturnStatement(
+                getMethodCallExpressionNode(
+                        getFieldAccessExpressionNode("self", "sClient"),
+                        "isReady",
+                        new String[]{}
+                )
+        );
+        function.addQualifiers(new String[]{"public", "isolated"});
+        return function;
+    }
+
+    private static Function getAwaitReadyFunction() {
+        Function function = new Function("awaitReady");
+        function.addReturns(SyntaxTreeConstants.SYNTAX_TREE_GRPC_ERROR_OPTIONAL);
+        function.addReturnStatement(
+                getMethodCallExpressionNode(
+                        getFieldAccessExpressionNode("self", "sClient"),
+                        "awaitReady",
+                        new String[]{}
+                )
+        );
+        function.addQualifiers(new String[]{"public", "isolated"});
+        return function;
+    }
 }
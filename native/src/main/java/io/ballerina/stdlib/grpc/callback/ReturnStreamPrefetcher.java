@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc.callback;
+
+import com.google.protobuf.Descriptors;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.grpc.CallStreamObserver;
+import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.MessageUtils;
+import io.ballerina.stdlib.grpc.StreamObserver;
+import io.ballerina.stdlib.grpc.listener.ServerCallHandler;
+import io.netty.handler.codec.http.HttpHeaders;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.ballerina.stdlib.grpc.GrpcConstants.STREAMING_NEXT_FUNCTION;
+
+/**
+ * Call back class registered to send the stream returned by a remote function.
+ *
+ * <p>
+ * The next message of the stream is pulled as soon as the previous one is received, so that the stream produces the
+ * messages while the received ones are serialized and written. The messages received while a batch is being written
+ * are written together as the next batch, which is flushed once. Up to {@value #PREFETCH_SIZE} messages are pulled
+ * ahead of the writes, and pulling is paused while the call is not ready to send messages. Writing is paused while the
+ * outbound buffer of the call is full, when its overflow policy is to block the producer, and resumed once the buffer
+ * has room, without holding a thread meanwhile.
+ *
+ * @since 1.4.0
+ */
+public class ReturnStreamPrefetcher extends AbstractCallableUnitCallBack {
+
+    static final int PREFETCH_SIZE = 16;
+
+    private final StreamObserver responseSender;
+    private final Descriptors.Descriptor outputType;
+    // Calls the next function of the stream, which reports the next message to the given callback.
+    private final Function<Callback, BFuture> next;
+    private HttpHeaders headers;
+    private final Deque<Object> pulled = new ArrayDeque<>();
+    // Whether a call to the next function of the stream is in progress.
+    private boolean pulling;
+    private boolean awaitingReady;
+    private boolean awaitingCapacity;
+    private boolean draining;
+    private boolean ended;
+    private boolean terminated;
+    private BError failure;
+
+    public ReturnStreamPrefetcher(Runtime runtime, StreamObserver responseSender, Descriptors.Descriptor outputType,
+                                  BObject iterator, HttpHeaders headers) {
+        this(responseSender, outputType, nextFunction(runtime, iterator), headers);
+    }
+
+    ReturnStreamPrefetcher(StreamObserver responseSender, Descriptors.Descriptor outputType,
+                           Function<Callback, BFuture> next, HttpHeaders headers) {
+        this.responseSender = responseSender;
+        this.outputType = outputType;
+        this.next = next;
+        this.headers = headers;
+    }
+
+    private static Function<Callback, BFuture> nextFunction(Runtime runtime, BObject iterator) {
+        ObjectType iteratorType = iterator.getType();
+        if (iteratorType.isIsolated() && iteratorType.isIsolated(STREAMING_NEXT_FUNCTION)) {
+            return callback -> runtime.invokeMethodAsyncConcurrently(iterator, STREAMING_NEXT_FUNCTION, null, null,
+                    callback, null, PredefinedTypes.TYPE_NULL);
+        }
+        return callback -> runtime.invokeMethodAsyncSequentially(iterator, STREAMING_NEXT_FUNCTION, null, null,
+                callback, null, PredefinedTypes.TYPE_NULL);
+    }
+
+    /**
+     * Starts pulling the messages of the stream.
+     */
+    public void start() {
+        pullAhead();
+    }
+
+    @Override
+    public void notifySuccess(Object response) {
+        if (ServerCallHandler.isCancelled(responseSender)) {
+            // The client has cancelled the call, hence the rest of the stream is not pulled.
+            return;
+        }
+        synchronized (this) {
+            pulling = false;
+            if (response == null) {
+                ended = true;
+            } else if (response instanceof BError) {
+                failure = (BError) response;
+            } else {
+                pulled.add(response);
+            }
+        }
+        // The next message is pulled before the received ones are written, so that both are done at once.
+        pullAhead();
+        drain();
+    }
+
+    @Override
+    public void notifyFailure(BError error) {
+        synchronized (this) {
+            pulling = false;
+            failure = error;
+        }
+        drain();
+        super.notifyFailure(error);
+    }
+
+    private void pullAhead() {
+        boolean awaitReady = false;
+        synchronized (this) {
+            if (pulling || awaitingReady || ended || failure != null || pulled.size() >= PREFETCH_SIZE) {
+                return;
+            }
+            if (isReady()) {
+                pulling = true;
+            } else {
+                awaitingReady = true;
+                awaitReady = true;
+            }
+        }
+        if (awaitReady) {
+            ((CallStreamObserver) responseSender).notifyWhenReady(this::onReady);
+            return;
+        }
+        ServerCallHandler.trackResourceFuture(responseSender, next.apply(this));
+    }
+
+    private boolean isReady() {
+        return !(responseSender instanceof CallStreamObserver) || ((CallStreamObserver) responseSender).isReady();
+    }
+
+    private void onReady() {
+        synchronized (this) {
+            awaitingReady = false;
+        }
+        if (responseSender instanceof ServerCallHandler.ServerCallStreamObserver) {
+            ServerCallHandler.ServerCallStreamObserver observer =
+                    (ServerCallHandler.ServerCallStreamObserver) responseSender;
+            if (observer.isClosed() || observer.isCancelled()) {
+                return;
+            }
+        }
+        pullAhead();
+    }
+
+    private boolean hasCapacity() {
+        return !(responseSender instanceof ServerCallHandler.ServerCallStreamObserver) ||
+                ((ServerCallHandler.ServerCallStreamObserver) responseSender).hasCapacity();
+    }
+
+    private void onCapacity() {
+        synchronized (this) {
+            awaitingCapacity = false;
+        }
+        ServerCallHandler.ServerCallStreamObserver observer =
+                (ServerCallHandler.ServerCallStreamObserver) responseSender;
+        if (observer.isClosed() || observer.isCancelled()) {
+            return;
+        }
+        drain();
+    }
+
+    /**
+     * Writes the received messages, and completes the call once the stream is ended. Only one thread writes at a
+     * time. The messages received meanwhile are written by the same thread as the next batch.
+     */
+    private void drain() {
+        while (true) {
+            List<Object> batch;
+            BError error;
+            boolean awaitCapacity = false;
+            synchronized (this) {
+                if (draining || terminated || awaitingCapacity) {
+                    return;
+                }
+                if (pulled.isEmpty()) {
+                    if (!ended && failure == null) {
+                        return;
+                    }
+                    terminated = true;
+                    batch = null;
+                    error = failure;
+                } else if (!hasCapacity()) {
+                    awaitingCapacity = true;
+                    awaitCapacity = true;
+                    batch = null;
+                    error = null;
+                } else {
+                    batch = new ArrayList<>(pulled);
+                    pulled.clear();
+                    draining = true;
+                    error = null;
+                }
+            }
+            if (awaitCapacity) {
+                ((ServerCallHandler.ServerCallStreamObserver) responseSender).notifyWhenCapacity(this::onCapacity);
+                return;
+            }
+            if (batch == null) {
+                if (error != null) {
+                    handleFailure(responseSender, error);
+                } else {
+                    responseSender.onCompleted();
+                }
+                return;
+            }
+            try {
+                write(batch);
+            } finally {
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+            pullAhead();
+        }
+    }
+
+    private void write(List<Object> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (Object response : batch) {
+            Message msg;
+            if (MessageUtils.isRecordMapValue(response)) {
+                msg = new Message(outputType, ((BMap) response).get(StringUtils.fromString("value")));
+            } else {
+                msg = new Message(outputType, response);
+            }
+            if (headers != null) {
+                msg.setHeaders(headers);
+                headers = null;
+            }
+            messages.add(msg);
+        }
+        if (responseSender instanceof ServerCallHandler.ServerCallStreamObserver) {
+            ((ServerCallHandler.ServerCallStreamObserver) responseSender).onNext(messages);
+        } else {
+            for (Message message : messages) {
+                responseSender.onNext(message);
+            }
+        }
+    }
+}
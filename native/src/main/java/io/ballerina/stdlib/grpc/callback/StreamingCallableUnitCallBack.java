@@ -18,13 +18,10 @@
 package io.ballerina.stdlib.grpc.callback;
 
 import com.google.protobuf.Descriptors;
-import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.Runtime;
-import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
-import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.grpc.GrpcConstants;
@@ -38,7 +35,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
-import static io.ballerina.stdlib.grpc.GrpcConstants.STREAMING_NEXT_FUNCTION;
 
 /**
  * Call back class registered for streaming gRPC service in B7a executor.
@@ -72,7 +68,7 @@ public class StreamingCallableUnitCallBack extends AbstractCallableUnitCallBack
         if (responseSender instanceof ServerCallHandler.ServerCallStreamObserver) {
             ServerCallHandler.ServerCallStreamObserver serverCallStreamObserver = (ServerCallHandler
                     .ServerCallStreamObserver) responseSender;
-            if (!serverCallStreamObserver.isReady()) {
+            if (serverCallStreamObserver.isClosed()) {
                 return;
             }
             if (serverCallStreamObserver.isCancelled()) {
@@ -100,17 +96,8 @@ public class StreamingCallableUnitCallBack extends AbstractCallableUnitCallBack
         HttpHeaders headers = MessageUtils.convertToHttpHeaders(headerValues);
 
         if (content instanceof BStream) {
-            BObject bObject = ((BStream) content).getIteratorObj();
-            ReturnStreamUnitCallBack returnStreamUnitCallBack = new ReturnStreamUnitCallBack(
-                    runtime, responseSender, outputType, bObject, headers);
-            ObjectType serviceObjectType = bObject.getType();
-            if (serviceObjectType.isIsolated() && serviceObjectType.isIsolated(STREAMING_NEXT_FUNCTION)) {
-                runtime.invokeMethodAsyncConcurrently(bObject, STREAMING_NEXT_FUNCTION, null, null,
-                        returnStreamUnitCallBack, null, PredefinedTypes.TYPE_NULL);
-            } else {
-                runtime.invokeMethodAsyncSequentially(bObject, STREAMING_NEXT_FUNCTION, null, null,
-                        returnStreamUnitCallBack, null, PredefinedTypes.TYPE_NULL);
-            }
+            new ReturnStreamPrefetcher(runtime, responseSender, outputType, ((BStream) content).getIteratorObj(),
+                    headers).start();
         } else {
             // If content is null and remote function doesn't return empty response means. response is already sent
             // to client via caller object, but connection is not closed already by calling complete function.
@@ -135,7 +122,7 @@ public class StreamingCallableUnitCallBack extends AbstractCallableUnitCallBack
         if (responseSender instanceof ServerCallHandler.ServerCallStreamObserver) {
             ServerCallHandler.ServerCallStreamObserver serverCallStreamObserver = (ServerCallHandler
                     .ServerCallStreamObserver) responseSender;
-            if (!serverCallStreamObserver.isReady() || serverCallStreamObserver.isCancelled()) {
+            if (serverCallStreamObserver.isClosed() || serverCallStreamObserver.isCancelled()) {
                 LOG.warn("Call already closed");
                 return;
             }
@@ -148,59 +135,4 @@ public class StreamingCallableUnitCallBack extends AbstractCallableUnitCallBack
         }
         super.notifyFailure(error);
     }
-
-    /**
-     * Call back class registered to send returned stream from a remote function.
-     *
-     */
-    public class ReturnStreamUnitCallBack extends AbstractCallableUnitCallBack {
-        private StreamObserver requestSender;
-        private Descriptors.Descriptor outputType;
-        private Runtime runtime;
-        private BObject bObject;
-        private HttpHeaders headers;
-
-        public ReturnStreamUnitCallBack(Runtime runtime, StreamObserver requestSender,
-                                        Descriptors.Descriptor outputType, BObject bObject, HttpHeaders headers) {
-            this.runtime = runtime;
-            this.requestSender = requestSender;
-            this.outputType = outputType;
-            this.bObject = bObject;
-            this.headers = headers;
-        }
-
-        @Override
-        public void notifySuccess(Object response) {
-            if (response != null) {
-                Message msg;
-                if (MessageUtils.isRecordMapValue(response)) {
-                    msg = new Message(this.outputType,
-                            ((BMap) response).get(StringUtils.fromString("value")));
-                } else {
-                    msg = new Message(this.outputType, response);
-                }
-                if (headers != null) {
-                    msg.setHeaders(headers);
-                    headers = null;
-                }
-                requestSender.onNext(msg);
-                ObjectType serviceObjectType = bObject.getType();
-                if (serviceObjectType.isIsolated() && serviceObjectType.isIsolated(STREAMING_NEXT_FUNCTION)) {
-                    runtime.invokeMethodAsyncConcurrently(bObject, STREAMING_NEXT_FUNCTION, null,
-                            null, this, null, PredefinedTypes.TYPE_NULL);
-                } else {
-                    runtime.invokeMethodAsyncSequentially(bObject, STREAMING_NEXT_FUNCTION, null,
-                            null, this, null, PredefinedTypes.TYPE_NULL);
-                }
-            } else {
-                requestSender.onCompleted();
-            }
-
-        }
-
-        @Override
-        public void notifyFailure(BError error) {
-            super.notifyFailure(error);
-        }
-    }
 }
@@ -18,20 +18,18 @@
 package io.ballerina.stdlib.grpc.listener;
 
 import com.google.protobuf.Descriptors;
-import io.ballerina.runtime.api.PredefinedTypes;
-import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.async.Callback;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BFuture;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.observability.ObservabilityConstants;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.grpc.CallStreamObserver;
+import io.ballerina.stdlib.grpc.Deadlines;
 import io.ballerina.stdlib.grpc.GrpcConstants;
+import io.ballerina.stdlib.grpc.InvocationPlan;
 import io.ballerina.stdlib.grpc.Message;
 import io.ballerina.stdlib.grpc.MessageUtils;
 import io.ballerina.stdlib.grpc.ServerCall;
@@ -46,10 +44,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static io.ballerina.runtime.api.utils.TypeUtils.getReferredType;
 import static io.ballerina.stdlib.grpc.GrpcConstants.AUTHORIZATION;
 import static io.ballerina.stdlib.grpc.GrpcConstants.CONTENT_FIELD;
-import static io.ballerina.stdlib.grpc.GrpcUtil.getTypeName;
 import static io.ballerina.stdlib.grpc.nativeimpl.ModuleUtils.getModule;
 import static java.util.Map.entry;
 
@@ -65,7 +61,6 @@ public abstract class ServerCallHandler {
 
     static final String TOO_MANY_REQUESTS = "Too many requests";
     static final String MISSING_REQUEST = "Half-closed without a request";
-    static final String CALLER_TYPE = "Caller";
     protected Descriptors.MethodDescriptor methodDescriptor;
 
     ServerCallHandler(Descriptors.MethodDescriptor methodDescriptor) {
@@ -89,6 +84,7 @@ public abstract class ServerCallHandler {
         final ServerCall call;
         volatile boolean cancelled;
         private boolean sentHeaders;
+        private volatile BFuture resourceFuture;
 
         ServerCallStreamObserver(ServerCall call) {
             this.call = call;
@@ -111,8 +107,31 @@ public abstract class ServerCallHandler {
             call.sendMessage(response);
         }
 
+        /**
+         * Sends a batch of messages, which are flushed to the transport at once.
+         *
+         * @param responses response messages.
+         */
+        public void onNext(List<Message> responses) {
+            if (cancelled) {
+                throw Status.Code.CANCELLED.toStatus().withDescription("call already cancelled").asRuntimeException();
+            }
+            if (responses.isEmpty()) {
+                return;
+            }
+            if (!sentHeaders) {
+                call.sendHeaders(responses.get(0).getHeaders());
+                sentHeaders = true;
+            }
+            call.sendMessages(responses);
+        }
+
         @Override
         public void onError(Message error) {
+            if (call.isCancelled()) {
+                // The stream is already reset, e.g. since the deadline of the call is exceeded.
+                return;
+            }
             if (!sentHeaders) {
                 call.sendHeaders(error.getHeaders());
                 sentHeaders = true;
@@ -134,9 +153,88 @@ public abstract class ServerCallHandler {
             return call.isReady();
         }
 
+        @Override
+        public void notifyWhenReady(Runnable onReadyListener) {
+            call.notifyWhenReady(onReadyListener);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return call.isClosed();
+        }
+
+        /**
+         * Returns whether another response can be sent without exceeding the limits of the outbound buffer of the
+         * call.
+         *
+         * @return true if the outbound buffer has room for another response.
+         */
+        public boolean hasCapacity() {
+            return call.hasCapacity();
+        }
+
+        /**
+         * Runs the given listener once the outbound buffer of the call has room for another response, or the call
+         * is closed. Used to suspend the producer of the responses instead of blocking its thread.
+         *
+         * @param onCapacityListener listener to be notified.
+         */
+        public void notifyWhenCapacity(Runnable onCapacityListener) {
+            call.notifyWhenCapacity(onCapacityListener);
+        }
+
         public boolean isCancelled() {
             return call.isCancelled();
         }
+
+        /**
+         * Tracks the strand which runs the resource function, or pulls the next message of the stream returned by
+         * it, so that the strand is cancelled once the call is cancelled. A strand which is tracked after the call
+         * is cancelled is cancelled right away.
+         *
+         * @param future future of the strand.
+         */
+        public void setResourceFuture(BFuture future) {
+            resourceFuture = future;
+            if (future != null && (cancelled || isCancelled())) {
+                future.cancel();
+            }
+        }
+
+        /**
+         * Cancels the strand of the resource function, so that the work of a call which is cancelled by the client
+         * is not continued.
+         */
+        void cancel() {
+            cancelled = true;
+            BFuture future = resourceFuture;
+            if (future != null && !future.isDone()) {
+                future.cancel();
+            }
+        }
+    }
+
+    /**
+     * Tracks the strand which serves a call, if the call is served by a service.
+     *
+     * @param responseObserver client responder instance.
+     * @param future future of the strand.
+     */
+    public static void trackResourceFuture(StreamObserver responseObserver, BFuture future) {
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            ((ServerCallStreamObserver) responseObserver).setResourceFuture(future);
+        }
+    }
+
+    /**
+     * Checks whether a call which is served by a service is cancelled by the client.
+     *
+     * @param responseObserver client responder instance.
+     * @return true if the call is cancelled, false otherwise.
+     */
+    public static boolean isCancelled(StreamObserver responseObserver) {
+        return responseObserver instanceof ServerCallStreamObserver &&
+                ((ServerCallStreamObserver) responseObserver).isCancelled();
     }
 
     /**
@@ -152,13 +250,8 @@ public abstract class ServerCallHandler {
         clientEndpoint.set(GrpcConstants.CALLER_ID, responseObserver.hashCode());
         clientEndpoint.addNativeData(GrpcConstants.RESPONSE_OBSERVER, responseObserver);
         clientEndpoint.addNativeData(GrpcConstants.RESPONSE_MESSAGE_DEFINITION, methodDescriptor.getOutputType());
-        String serviceName = resource.getServiceName();
-        Type returnType = resource.getRpcOutputType() instanceof ArrayType ?
-                getReferredType(((ArrayType) resource.getRpcOutputType()).getElementType()) :
-                resource.getRpcOutputType();
-        String outputType = returnType != PredefinedTypes.TYPE_NULL ? getTypeName(returnType) : null;
-        return ValueCreator.createObjectValue(resource.getService().getType().getPackage(),
-                MessageUtils.getCallerTypeName(serviceName, outputType), clientEndpoint);
+        InvocationPlan plan = resource.getInvocationPlan();
+        return ValueCreator.createObjectValue(plan.getCallerPackage(), plan.getCallerTypeName(), clientEndpoint);
     }
 
     /**
@@ -182,66 +275,64 @@ public abstract class ServerCallHandler {
             properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, context);
         }
         properties.put(AUTHORIZATION, headers.get(AUTHORIZATION));
+        putInboundDeadline(properties, responseObserver);
 
         String functionName = resource.getFunctionName();
-        ObjectType serviceObjectType = resource.getService().getType();
-        if (serviceObjectType.isIsolated() && serviceObjectType.isIsolated(functionName)) {
-            resource.getRuntime().invokeMethodAsyncConcurrently(resource.getService(), functionName, null,
+        BFuture future;
+        if (resource.getInvocationPlan().isIsolated()) {
+            future = resource.getRuntime().invokeMethodAsyncConcurrently(resource.getService(), functionName, null,
                     GrpcConstants.ON_MESSAGE_METADATA, callback, properties,
                     resource.getReturnType(), requestParams);
         } else {
-            resource.getRuntime().invokeMethodAsyncSequentially(resource.getService(), functionName, null,
+            future = resource.getRuntime().invokeMethodAsyncSequentially(resource.getService(), functionName, null,
                     GrpcConstants.ON_MESSAGE_METADATA, callback, properties,
                     resource.getReturnType(), requestParams);
         }
+        trackResourceFuture(responseObserver, future);
+    }
+
+    /**
+     * Adds the deadline of the inbound call to the strand properties of the resource function, so that the calls
+     * made by the resource function do not outlive it.
+     *
+     * @param properties strand properties of the resource function.
+     * @param responseObserver client responder instance.
+     */
+    static void putInboundDeadline(Map<String, Object> properties, StreamObserver responseObserver) {
+        if (responseObserver instanceof ServerCallStreamObserver) {
+            long deadline = ((ServerCallStreamObserver) responseObserver).call.getDeadline();
+            if (deadline != Deadlines.NO_DEADLINE) {
+                properties.put(GrpcConstants.INBOUND_DEADLINE, deadline);
+            }
+        }
     }
 
     Object[] computeResourceParams(ServiceResource resource, Object requestParam, HttpHeaders headers,
                                    StreamObserver responseObserver) {
-        List<Type> signatureParams = resource.getParamTypes();
-        int signatureParamSize = signatureParams.size();
-        Object[] paramValues;
+        InvocationPlan plan = resource.getInvocationPlan();
+        Object[] paramValues = new Object[plan.getArgumentCount()];
         int i = 0;
-        if ((signatureParamSize >= 1) && (signatureParams.get(0).getTag() == TypeTags.OBJECT_TYPE_TAG) &&
-                signatureParams.get(0).getName().contains(CALLER_TYPE)) {
-            paramValues = new Object[signatureParams.size() * 2];
+        if (plan.isCallerRequired()) {
             paramValues[i] = getConnectionParameter(resource, responseObserver);
             paramValues[i + 1] = true;
             i = i + 2;
-        } else {
-            paramValues = new Object[2];
         }
         if (resource.isHeaderRequired()) {
-            BMap headerValues = MessageUtils.createHeaderMap(headers);
-            Map<String, Object> valueMap;
-            if (requestParam != null) {
-                valueMap = Map.ofEntries(
-                        entry(CONTENT_FIELD, requestParam),
-                        entry("headers", headerValues)
-                );
-            } else {
-                valueMap = Map.ofEntries(
-                        entry("headers", headerValues)
-                );
-            }
-            BMap contentContext;
-            if (signatureParamSize >= 1) {
-                Type inputParameter = signatureParams.get(signatureParamSize - 1);
-
-                // Here the logic is:
-                // IF (inputParaName contains stream) AND ((firstParam is recordType) OR (secondParam is recordType))
-                // ELSE part execute for non-streaming cases with context param
-                if (inputParameter.getName().contains("Stream") &&
-                        ((signatureParamSize == 1 && (signatureParams.get(0).getTag() == TypeTags.RECORD_TYPE_TAG)) ||
-                                (signatureParamSize > 1 &&
-                                        (signatureParams.get(1).getTag() == TypeTags.RECORD_TYPE_TAG)))) {
-                    contentContext = ValueCreator.createRecordValue(inputParameter.getPackage(),
-                            MessageUtils.getContextStreamTypeName(resource.getRpcInputType()), valueMap);
+            if (plan.getContextTypeName() != null) {
+                BMap headerValues = MessageUtils.createHeaderMap(headers);
+                Map<String, Object> valueMap;
+                if (requestParam != null) {
+                    valueMap = Map.ofEntries(
+                            entry(CONTENT_FIELD, requestParam),
+                            entry("headers", headerValues)
+                    );
                 } else {
-                    contentContext = ValueCreator.createRecordValue(inputParameter.getPackage(),
-                            MessageUtils.getContextTypeName(resource.getRpcInputType()), valueMap);
+                    valueMap = Map.ofEntries(
+                            entry("headers", headerValues)
+                    );
                 }
-                paramValues[i] = contentContext;
+                paramValues[i] = ValueCreator.createRecordValue(plan.getContextPackage(), plan.getContextTypeName(),
+                        valueMap);
                 paramValues[i + 1] = true;
             }
         } else if (requestParam != null) {
@@ -21,8 +21,8 @@ package io.ballerina.stdlib.grpc.listener;
 import com.google.protobuf.Descriptors;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BFuture;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
 import io.ballerina.runtime.observability.ObservabilityConstants;
@@ -30,6 +30,7 @@ import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.grpc.GrpcConstants;
 import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.MessageQueue;
 import io.ballerina.stdlib.grpc.MessageUtils;
 import io.ballerina.stdlib.grpc.ServerCall;
 import io.ballerina.stdlib.grpc.ServiceResource;
@@ -41,7 +42,6 @@ import io.netty.handler.codec.http.HttpHeaders;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 
 import static io.ballerina.stdlib.grpc.GrpcConstants.AUTHORIZATION;
 import static io.ballerina.stdlib.grpc.nativeimpl.ModuleUtils.getModule;
@@ -84,7 +84,9 @@ public class StreamingServerCallHandler extends ServerCallHandler {
         ObserverContext context = call.getObserverContext();
         BObject streamIterator = ValueCreator.createObjectValue(getModule(),
                 GrpcConstants.ITERATOR_OBJECT_NAME, new Object[1]);
-        BlockingQueue<Message> messageQueue = new LinkedBlockingQueue<>();
+        // The request messages are bounded by the inbound buffer of the listener, if it is configured.
+        BlockingQueue<Message> messageQueue = call.getInboundQueue() != null ? call.getInboundQueue() :
+                new MessageQueue();
         streamIterator.addNativeData(GrpcConstants.MESSAGE_QUEUE, messageQueue);
         streamIterator.addNativeData(GrpcConstants.CLIENT_ENDPOINT_RESPONSE_OBSERVER, responseObserver);
         BStream requestStream = ValueCreator.createStreamValue(TypeCreator.createStreamType(inputType),
@@ -107,6 +109,8 @@ public class StreamingServerCallHandler extends ServerCallHandler {
 
         @Override
         public void onError(Message error) {
+            // The pending messages are dropped, so that the stream is completed with the error right away.
+            messageQueue.clear();
             messageQueue.add(error);
         }
 
@@ -147,7 +151,7 @@ public class StreamingServerCallHandler extends ServerCallHandler {
 
         @Override
         public void onCancel(Message message) {
-            responseObserver.cancelled = true;
+            responseObserver.cancel();
             requestObserver.onError(message);
         }
 
@@ -180,19 +184,20 @@ public class StreamingServerCallHandler extends ServerCallHandler {
             properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, context);
         }
         properties.put(AUTHORIZATION, headers.get(AUTHORIZATION));
+        putInboundDeadline(properties, responseObserver);
         StreamingCallableUnitCallBack callback = new StreamingCallableUnitCallBack(resource.getRuntime(),
                 responseObserver, isEmptyResponse(), this.methodDescriptor.getOutputType(), context);
 
-        String functionName = resource.getFunctionName();
-        ObjectType serviceObjectType = resource.getService().getType();
-        if (serviceObjectType.isIsolated() && serviceObjectType.isIsolated(functionName)) {
-            resource.getRuntime().invokeMethodAsyncConcurrently(resource.getService(), resource.getFunctionName(), null,
-                    GrpcConstants.ON_MESSAGE_METADATA, callback, properties,
+        BFuture future;
+        if (resource.getInvocationPlan().isIsolated()) {
+            future = resource.getRuntime().invokeMethodAsyncConcurrently(resource.getService(),
+                    resource.getFunctionName(), null, GrpcConstants.ON_MESSAGE_METADATA, callback, properties,
                     resource.getReturnType(), requestParams);
         } else {
-            resource.getRuntime().invokeMethodAsyncSequentially(resource.getService(), resource.getFunctionName(), null,
-                    GrpcConstants.ON_MESSAGE_METADATA, callback, properties,
+            future = resource.getRuntime().invokeMethodAsyncSequentially(resource.getService(),
+                    resource.getFunctionName(), null, GrpcConstants.ON_MESSAGE_METADATA, callback, properties,
                     resource.getReturnType(), requestParams);
         }
+        trackResourceFuture(responseObserver, future);
     }
 }
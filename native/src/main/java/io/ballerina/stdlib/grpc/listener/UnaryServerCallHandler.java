@@ -97,8 +97,8 @@ public class UnaryServerCallHandler extends ServerCallHandler {
 
         @Override
         public void onCancel(Message message) {
-            // This method is not invoked in unary and server streaming services. 
-            // The call stream is cancelled via halfclosed().
+            // Stops the resource function, or the stream returned by it, once the client cancels the call.
+            responseObserver.cancel();
         }
 
         @Override
@@ -18,6 +18,7 @@ package io.ballerina.stdlib.grpc.nativeimpl.caller;
 
 import com.google.protobuf.Descriptors;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
@@ -107,6 +108,27 @@ public class FunctionUtils {
         }
     }
 
+    /**
+     * Extern function to check whether the caller is ready to receive more messages.
+     *
+     * @param endpointClient caller instance.
+     * @return True if messages can be sent without queueing them in the transport, false otherwise.
+     */
+    public static boolean externIsReady(BObject endpointClient) {
+        return MessageUtils.isReady(MessageUtils.getResponseObserver(endpointClient));
+    }
+
+    /**
+     * Extern function to wait until the caller is ready to receive more messages.
+     *
+     * @param env environment.
+     * @param endpointClient caller instance.
+     * @return Error if the call is closed while waiting, else returns nil
+     */
+    public static Object externAwaitReady(Environment env, BObject endpointClient) {
+        return MessageUtils.awaitReady(env, MessageUtils.getResponseObserver(endpointClient));
+    }
+
     /**
      * Extern function to respond the caller.
      *
@@ -124,33 +146,49 @@ public class FunctionUtils {
             return MessageUtils.getConnectorError(new StatusRuntimeException(Status
                     .fromCode(Status.Code.INTERNAL.toStatus().getCode()).withDescription("Error while initializing " +
                             "connector. Response sender does not exist")));
-        } else {
-            try {
-                // If there is no response message like conn -> send(), system doesn't send the message.
-                if (!MessageUtils.isEmptyResponse(outputType)) {
-                    Object content;
-                    BMap headerValues = null;
-                    if (isContextRecordByValue(responseValue)) {
-                        content = ((BMap) responseValue).get(StringUtils.fromString(CONTENT));
-                        headerValues = ((BMap) responseValue).getMapValue(StringUtils.fromString(HEADER_FIELD));
-                    } else {
-                        content = responseValue;
-                    }
-                    //Message responseMessage = MessageUtils.generateProtoMessage(responseValue, outputType);
-                    Message responseMessage = new Message(outputType, content);
-                    // Update response headers when request headers exists in the context.
-                    HttpHeaders headers = convertToHttpHeaders(headerValues);
-                    responseMessage.setHeaders(headers);
-                    if (observerContext != null) {
-                        headers.entries().forEach(
-                                x -> observerContext.addTag(x.getKey(), x.getValue()));
-                    }
-                    responseObserver.onNext(responseMessage);
+        }
+        if (responseObserver instanceof ServerCallHandler.ServerCallStreamObserver) {
+            ServerCallHandler.ServerCallStreamObserver serverCallStreamObserver =
+                    (ServerCallHandler.ServerCallStreamObserver) responseObserver;
+            if (!serverCallStreamObserver.hasCapacity()) {
+                // The outbound buffer of the call is full. The strand is suspended until the buffer has room for the
+                // response, rather than blocking a thread of the scheduler.
+                Future balFuture = env.markAsync();
+                serverCallStreamObserver.notifyWhenCapacity(() -> balFuture.complete(
+                        send(responseObserver, outputType, observerContext, responseValue)));
+                return null;
+            }
+        }
+        return send(responseObserver, outputType, observerContext, responseValue);
+    }
+
+    private static Object send(StreamObserver responseObserver, Descriptors.Descriptor outputType,
+                               ObserverContext observerContext, Object responseValue) {
+        try {
+            // If there is no response message like conn -> send(), system doesn't send the message.
+            if (!MessageUtils.isEmptyResponse(outputType)) {
+                Object content;
+                BMap headerValues = null;
+                if (isContextRecordByValue(responseValue)) {
+                    content = ((BMap) responseValue).get(StringUtils.fromString(CONTENT));
+                    headerValues = ((BMap) responseValue).getMapValue(StringUtils.fromString(HEADER_FIELD));
+                } else {
+                    content = responseValue;
                 }
-            } catch (Exception e) {
-                LOG.error("Error while sending client response.", e);
-                return MessageUtils.getConnectorError(e);
+                //Message responseMessage = MessageUtils.generateProtoMessage(responseValue, outputType);
+                Message responseMessage = new Message(outputType, content);
+                // Update response headers when request headers exists in the context.
+                HttpHeaders headers = convertToHttpHeaders(headerValues);
+                responseMessage.setHeaders(headers);
+                if (observerContext != null) {
+                    headers.entries().forEach(
+                            x -> observerContext.addTag(x.getKey(), x.getValue()));
+                }
+                responseObserver.onNext(responseMessage);
             }
+        } catch (Exception e) {
+            LOG.error("Error while sending client response.", e);
+            return MessageUtils.getConnectorError(e);
         }
         return null;
     }
@@ -25,7 +25,10 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.grpc.ClientConnectorListener;
 import io.ballerina.stdlib.grpc.DataContext;
+import io.ballerina.stdlib.grpc.Deadlines;
+import io.ballerina.stdlib.grpc.InboundBufferConfig;
 import io.ballerina.stdlib.grpc.Message;
 import io.ballerina.stdlib.grpc.MessageRegistry;
 import io.ballerina.stdlib.grpc.MessageUtils;
@@ -50,14 +53,22 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import static io.ballerina.stdlib.grpc.GrpcConstants.CLIENT_CALL_TIMEOUT;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CLIENT_INBOUND_BUFFER;
 import static io.ballerina.stdlib.grpc.GrpcConstants.CLIENT_CONNECTOR;
+import static io.ballerina.stdlib.grpc.GrpcConstants.CLIENT_WORKER_EXECUTOR;
 import static io.ballerina.stdlib.grpc.GrpcConstants.CONFIG;
 import static io.ballerina.stdlib.grpc.GrpcConstants.ENDPOINT_URL;
 import static io.ballerina.stdlib.grpc.GrpcConstants.MAX_INBOUND_MESSAGE_SIZE;
 import static io.ballerina.stdlib.grpc.GrpcConstants.METHOD_DESCRIPTORS;
 import static io.ballerina.stdlib.grpc.GrpcConstants.SERVICE_STUB;
+import static io.ballerina.stdlib.grpc.GrpcConstants.WORKER_POOL;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getCallTimeout;
 import static io.ballerina.stdlib.grpc.GrpcUtil.getConnectionManager;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getInboundBufferConfig;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getWorkerPoolConfig;
 import static io.ballerina.stdlib.grpc.GrpcUtil.populatePoolingConfig;
 import static io.ballerina.stdlib.grpc.GrpcUtil.populateSenderConfigurations;
 import static io.ballerina.stdlib.grpc.MessageUtils.convertToHttpHeaders;
@@ -136,6 +147,12 @@ public class FunctionUtils extends AbstractExecute {
 
             clientEndpoint.addNativeData(CLIENT_CONNECTOR, clientConnector);
             clientEndpoint.addNativeData(ENDPOINT_URL, urlString.getValue());
+            clientEndpoint.addNativeData(CLIENT_CALL_TIMEOUT, getCallTimeout(clientEndpointConfig));
+            clientEndpoint.addNativeData(CLIENT_INBOUND_BUFFER, getInboundBufferConfig(clientEndpointConfig));
+            if (clientEndpointConfig.getMapValue(WORKER_POOL) != null) {
+                clientEndpoint.addNativeData(CLIENT_WORKER_EXECUTOR, ClientConnectorListener.newClientWorkerExecutor(
+                        getWorkerPoolConfig(clientEndpointConfig)));
+            }
         } catch (BError ex) {
             return ex;
         } catch (RuntimeException ex) {
@@ -159,6 +176,10 @@ public class FunctionUtils extends AbstractExecute {
 
         HttpClientConnector clientConnector = (HttpClientConnector) genericEndpoint.getNativeData(CLIENT_CONNECTOR);
         String urlString = (String) genericEndpoint.getNativeData(ENDPOINT_URL);
+        Executor workerExecutor = (Executor) genericEndpoint.getNativeData(CLIENT_WORKER_EXECUTOR);
+        Object callTimeout = genericEndpoint.getNativeData(CLIENT_CALL_TIMEOUT);
+        InboundBufferConfig inboundBufferConfig = (InboundBufferConfig) genericEndpoint.getNativeData(
+                CLIENT_INBOUND_BUFFER);
 
         if (rootDescriptor == null || descriptorMap == null) {
             return MessageUtils.getConnectorError(new StatusRuntimeException(Status
@@ -173,7 +194,8 @@ public class FunctionUtils extends AbstractExecute {
                     serviceDefinition.getMethodDescriptors(clientEndpoint.getType());
 
             genericEndpoint.addNativeData(METHOD_DESCRIPTORS, methodDescriptorMap);
-            Stub stub = new Stub(clientConnector, urlString);
+            Stub stub = new Stub(clientConnector, urlString, workerExecutor,
+                    callTimeout != null ? (Long) callTimeout : Deadlines.NO_DEADLINE, inboundBufferConfig);
             genericEndpoint.addNativeData(SERVICE_STUB, stub);
         } catch (RuntimeException | GrpcClientException e) {
             return MessageUtils.getConnectorError(e);
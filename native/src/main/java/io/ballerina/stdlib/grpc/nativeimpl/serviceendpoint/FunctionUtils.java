@@ -19,20 +19,28 @@
 package io.ballerina.stdlib.grpc.nativeimpl.serviceendpoint;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.grpc.AdaptiveLimitConfig;
+import io.ballerina.stdlib.grpc.AdmissionConfig;
 import io.ballerina.stdlib.grpc.GrpcConstants;
+import io.ballerina.stdlib.grpc.InboundBufferConfig;
+import io.ballerina.stdlib.grpc.LazyHeaderMap;
 import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.MessageQueue;
 import io.ballerina.stdlib.grpc.MessageUtils;
+import io.ballerina.stdlib.grpc.OutboundBufferConfig;
 import io.ballerina.stdlib.grpc.ServerConnectorListener;
 import io.ballerina.stdlib.grpc.ServerConnectorPortBindingListener;
 import io.ballerina.stdlib.grpc.ServicesBuilderUtils;
 import io.ballerina.stdlib.grpc.ServicesRegistry;
 import io.ballerina.stdlib.grpc.Status;
+import io.ballerina.stdlib.grpc.WorkerPoolConfig;
 import io.ballerina.stdlib.grpc.exception.GrpcServerException;
 import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
 import io.ballerina.stdlib.grpc.nativeimpl.AbstractGrpcNativeFunction;
@@ -49,10 +57,17 @@ import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
 import static io.ballerina.stdlib.grpc.GrpcConstants.ANN_DESCRIPTOR_FQN;
+import static io.ballerina.stdlib.grpc.GrpcConstants.ANN_SERVICE_CONFIG_FQN;
 import static io.ballerina.stdlib.grpc.GrpcConstants.ANN_SERVICE_DESCRIPTOR_FQN;
 import static io.ballerina.stdlib.grpc.GrpcConstants.CONFIG;
 import static io.ballerina.stdlib.grpc.GrpcConstants.MAX_INBOUND_MESSAGE_SIZE;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getAdaptiveLimitConfig;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getAdmissionConfig;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getGracefulStopTimeout;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getInboundBufferConfig;
 import static io.ballerina.stdlib.grpc.GrpcUtil.getListenerConfig;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getOutboundBufferConfig;
+import static io.ballerina.stdlib.grpc.GrpcUtil.getWorkerPoolConfig;
 import static io.ballerina.stdlib.grpc.nativeimpl.caller.FunctionUtils.externComplete;
 import static io.ballerina.stdlib.http.api.HttpConstants.ENDPOINT_CONFIG_PORT;
 
@@ -115,14 +130,20 @@ public class FunctionUtils extends AbstractGrpcNativeFunction {
                         .fromCode(Status.Code.INTERNAL.toStatus().getCode()).withDescription("Error when " +
                                 "initializing service register builder.")));
             } else {
+                // The adaptive concurrency limiters of the remote functions are created along with their
+                // definitions, so that the calls do not look them up.
+                AdaptiveLimitConfig adaptiveLimitConfig = getAdaptiveLimitConfig(listenerObject.getMapValue(CONFIG));
                 servicesRegistryBuilder.addService(ServicesBuilderUtils.getServiceDefinition(
-                        Runtime.getCurrentRuntime(), service, servicePath, getDescriptorAnnotation(service.getType())));
+                        Runtime.getCurrentRuntime(), service, servicePath, getDescriptorAnnotation(service.getType()),
+                        service.getType().getAnnotation(ANN_SERVICE_CONFIG_FQN), adaptiveLimitConfig));
                 return null;
             }
         } catch (GrpcServerException e) {
             return MessageUtils.getConnectorError(new StatusRuntimeException(Status
                     .fromCode(Status.Code.INTERNAL.toStatus().getCode()).withDescription("Error while registering " +
                             "the service. " + e.getLocalizedMessage())));
+        } catch (RuntimeException e) {
+            return MessageUtils.getConnectorError(e);
         }
     }
 
@@ -132,9 +153,28 @@ public class FunctionUtils extends AbstractGrpcNativeFunction {
         messageSizeMap.put(MAX_INBOUND_MESSAGE_SIZE, (Long) listener.getMapValue(CONFIG)
                 .get(StringUtils.fromString((MAX_INBOUND_MESSAGE_SIZE))));
 
+        OutboundBufferConfig outboundBufferConfig;
+        InboundBufferConfig inboundBufferConfig;
+        WorkerPoolConfig workerPoolConfig;
+        AdmissionConfig admissionConfig;
+        long gracefulStopTimeout;
+        try {
+            outboundBufferConfig = getOutboundBufferConfig(listener.getMapValue(CONFIG));
+            inboundBufferConfig = getInboundBufferConfig(listener.getMapValue(CONFIG));
+            workerPoolConfig = getWorkerPoolConfig(listener.getMapValue(CONFIG));
+            admissionConfig = getAdmissionConfig(listener.getMapValue(CONFIG));
+            gracefulStopTimeout = getGracefulStopTimeout(listener.getMapValue(CONFIG));
+        } catch (RuntimeException e) {
+            return MessageUtils.getConnectorError(e);
+        }
+
         ServerConnector serverConnector = getServerConnector(listener);
         ServerConnectorFuture serverConnectorFuture = serverConnector.start();
-        serverConnectorFuture.setHttpConnectorListener(new ServerConnectorListener(servicesRegistry, messageSizeMap));
+        ServerConnectorListener connectorListener = new ServerConnectorListener(servicesRegistry, messageSizeMap,
+                outboundBufferConfig, inboundBufferConfig, workerPoolConfig, admissionConfig);
+        serverConnectorFuture.setHttpConnectorListener(connectorListener);
+        listener.addNativeData(GrpcConstants.SERVER_CONNECTOR_LISTENER, connectorListener);
+        listener.addNativeData(GrpcConstants.GRACEFUL_STOP_TIMEOUT_NANOS, gracefulStopTimeout);
 
         serverConnectorFuture.setPortBindingEventListener(new ServerConnectorPortBindingListener());
         try {
@@ -181,29 +221,82 @@ public class FunctionUtils extends AbstractGrpcNativeFunction {
     public static Object externStop(BObject serverEndpoint) {
 
         getServerConnector(serverEndpoint).stop();
+        ServerConnectorListener connectorListener = getServerConnectorListener(serverEndpoint);
+        if (connectorListener != null) {
+            connectorListener.shutdownNow();
+        }
         serverEndpoint.addNativeData(HttpConstants.CONNECTOR_STARTED, false);
         return null;
     }
 
-    public static Object nextResult(BObject streamIterator) {
+    /**
+     * Extern function to stop gRPC server instance gracefully. The new calls are refused, and the calls which are
+     * already accepted are given the configured grace period to complete. The calls which are not completed by then
+     * are cancelled.
+     *
+     * @param env            current environment.
+     * @param serverEndpoint service listener instance.
+     * @return Error if there is an error while stopping the server, else returns nil.
+     */
+    public static Object externGracefulStop(Environment env, BObject serverEndpoint) {
 
-        BlockingQueue<?> messageQueue = (BlockingQueue<?>) streamIterator.getNativeData(GrpcConstants.MESSAGE_QUEUE);
-        try {
-            Message nextMessage = (Message) messageQueue.take();
-            if (nextMessage.getHeaders() != null) {
-                streamIterator.addNativeData(GrpcConstants.HEADERS,
-                        MessageUtils.createHeaderMap(nextMessage.getHeaders()));
-            }
-            if (nextMessage.isError()) {
-                return MessageUtils.getConnectorError(nextMessage.getError());
-            } else {
-                return nextMessage.getbMessage();
+        getServerConnector(serverEndpoint).stop();
+        serverEndpoint.addNativeData(HttpConstants.CONNECTOR_STARTED, false);
+        ServerConnectorListener connectorListener = getServerConnectorListener(serverEndpoint);
+        if (connectorListener == null) {
+            return null;
+        }
+        connectorListener.shutdown();
+        long gracefulStopTimeout = (Long) serverEndpoint.getNativeData(GrpcConstants.GRACEFUL_STOP_TIMEOUT_NANOS);
+        // The calls are drained in a separate thread, so that the strand does not hold a scheduler thread which
+        // the calls being drained may need.
+        Future balFuture = env.markAsync();
+        Thread drainer = new Thread(() -> {
+            try {
+                if (!connectorListener.awaitCalls(gracefulStopTimeout)) {
+                    LOG.warn("Cancelling the in-flight calls since they are not completed within the graceful " +
+                            "stop timeout");
+                    connectorListener.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                connectorListener.shutdownNow();
+            } finally {
+                balFuture.complete(null);
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            String message = "Internal error occurred. The current thread got interrupted";
-            throw MessageUtils.getConnectorError(new StatusRuntimeException(Status
-                    .fromCode(Status.Code.INTERNAL.toStatus().getCode()).withDescription(message)));
+        }, "grpc-graceful-stop");
+        drainer.start();
+        return null;
+    }
+
+    private static ServerConnectorListener getServerConnectorListener(BObject serverEndpoint) {
+
+        return (ServerConnectorListener) serverEndpoint.getNativeData(GrpcConstants.SERVER_CONNECTOR_LISTENER);
+    }
+
+    public static Object nextResult(Environment env, BObject streamIterator) {
+
+        MessageQueue messageQueue = (MessageQueue) streamIterator.getNativeData(GrpcConstants.MESSAGE_QUEUE);
+        Message nextMessage = messageQueue.poll();
+        if (nextMessage != null) {
+            return getResult(streamIterator, nextMessage);
+        }
+        // The strand is suspended until the next message arrives, so that no thread is held while waiting for it.
+        Future balFuture = env.markAsync();
+        messageQueue.receive(message -> balFuture.complete(getResult(streamIterator, message)));
+        return null;
+    }
+
+    private static Object getResult(BObject streamIterator, Message nextMessage) {
+
+        if (nextMessage.getHeaders() != null) {
+            streamIterator.addNativeData(GrpcConstants.HEADERS, LazyHeaderMap.of(
+                    streamIterator.getNativeData(GrpcConstants.HEADERS), nextMessage.getHeaders()));
+        }
+        if (nextMessage.isError()) {
+            return MessageUtils.getConnectorError(nextMessage.getError());
+        } else {
+            return nextMessage.getbMessage();
         }
     }
 
@@ -20,6 +20,7 @@ package io.ballerina.stdlib.grpc.nativeimpl.streamingclient;
 
 import com.google.protobuf.Descriptors;
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
@@ -30,7 +31,9 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.ballerina.stdlib.grpc.GrpcConstants;
+import io.ballerina.stdlib.grpc.LazyHeaderMap;
 import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.MessageQueue;
 import io.ballerina.stdlib.grpc.MessageUtils;
 import io.ballerina.stdlib.grpc.Status;
 import io.ballerina.stdlib.grpc.StreamObserver;
@@ -94,6 +97,28 @@ public class FunctionUtils {
         return null;
     }
 
+    /**
+     * Extern function to check whether the server is ready to receive more messages.
+     *
+     * @param streamConnection streaming connection instance.
+     * @return True if messages can be sent without queueing them in the transport, false otherwise.
+     */
+    public static boolean streamIsReady(BObject streamConnection) {
+        return MessageUtils.isReady((StreamObserver) streamConnection.getNativeData(GrpcConstants.REQUEST_SENDER));
+    }
+
+    /**
+     * Extern function to wait until the server is ready to receive more messages.
+     *
+     * @param env              environment.
+     * @param streamConnection streaming connection instance.
+     * @return Error if the stream is closed while waiting, else returns nil.
+     */
+    public static Object streamAwaitReady(Environment env, BObject streamConnection) {
+        return MessageUtils.awaitReady(env,
+                (StreamObserver) streamConnection.getNativeData(GrpcConstants.REQUEST_SENDER));
+    }
+
     /**
      * Extern function to send a error message to the server.
      *
@@ -174,7 +199,7 @@ public class FunctionUtils {
      * @param streamingConnection streaming connection instance.
      * @return In streaming scenarios, return an `anydata`.
      */
-    public static Object externReceive(BObject streamingConnection) {
+    public static Object externReceive(Environment env, BObject streamingConnection) {
 
         Boolean isStreamCancelled = (Boolean) streamingConnection.getNativeData(GrpcConstants.IS_STREAM_CANCELLED);
         if (isStreamCancelled != null && isStreamCancelled) {
@@ -199,14 +224,15 @@ public class FunctionUtils {
                     return ValueCreator.createStreamValue(TypeCreator.createStreamType(PredefinedTypes.TYPE_ANYDATA),
                             streamIterator);
                 } else {
-                    Message nextMessage = (Message) messageQueue.take();
-                    streamingConnection.addNativeData(GrpcConstants.HEADERS,
-                            MessageUtils.createHeaderMap(nextMessage.getHeaders()));
-                    if (nextMessage.isError()) {
-                        return MessageUtils.getConnectorError(nextMessage.getError());
-                    } else {
-                        return nextMessage.getbMessage();
+                    MessageQueue responseQueue = (MessageQueue) messageQueue;
+                    Message nextMessage = responseQueue.poll();
+                    if (nextMessage != null) {
+                        return getResponse(streamingConnection, nextMessage);
                     }
+                    // The strand is suspended until the response arrives, so that no thread is held while waiting.
+                    Future balFuture = env.markAsync();
+                    responseQueue.receive(message -> balFuture.complete(getResponse(streamingConnection, message)));
+                    return null;
                 }
             } catch (Exception e) {
                 LOG.error("Error while sending request message to server.", e);
@@ -215,6 +241,17 @@ public class FunctionUtils {
         }
     }
 
+    private static Object getResponse(BObject streamingConnection, Message nextMessage) {
+
+        streamingConnection.addNativeData(GrpcConstants.HEADERS, LazyHeaderMap.of(
+                streamingConnection.getNativeData(GrpcConstants.HEADERS), nextMessage.getHeaders()));
+        if (nextMessage.isError()) {
+            return MessageUtils.getConnectorError(nextMessage.getError());
+        } else {
+            return nextMessage.getbMessage();
+        }
+    }
+
     /**
      * Extern function to get response header values of streaming client.
      *
@@ -228,8 +265,8 @@ public class FunctionUtils {
         if (isBidirectional) {
             BObject streamingIterator = (BObject) streamingConnection.getNativeData(
                     GrpcConstants.ITERATOR_OBJECT_ENTRY);
-            return streamingIterator.getNativeData(GrpcConstants.HEADERS);
+            return LazyHeaderMap.resolve(streamingIterator.getNativeData(GrpcConstants.HEADERS));
         }
-        return streamingConnection.getNativeData(GrpcConstants.HEADERS);
+        return LazyHeaderMap.resolve(streamingConnection.getNativeData(GrpcConstants.HEADERS));
     }
 }
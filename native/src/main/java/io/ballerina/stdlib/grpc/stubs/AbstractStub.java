@@ -18,6 +18,8 @@
 package io.ballerina.stdlib.grpc.stubs;
 
 import io.ballerina.stdlib.grpc.ClientCall;
+import io.ballerina.stdlib.grpc.Deadlines;
+import io.ballerina.stdlib.grpc.InboundBufferConfig;
 import io.ballerina.stdlib.grpc.Message;
 import io.ballerina.stdlib.grpc.MessageUtils;
 import io.ballerina.stdlib.grpc.OutboundMessage;
@@ -31,6 +33,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -51,6 +54,9 @@ public abstract class AbstractStub {
     private static final Logger logger = Logger.getLogger(AbstractStub.class.getName());
     private final HttpClientConnector connector;
     private String urlString;
+    private final Executor workerExecutor;
+    private final long callTimeout;
+    private final InboundBufferConfig inboundBufferConfig;
     private static final String CACHE_BALLERINA_VERSION;
 
     static {
@@ -63,8 +69,46 @@ public abstract class AbstractStub {
      * @param connector the client connector which use to communicate.
      */
     AbstractStub(HttpClientConnector connector, String url) {
+        this(connector, url, null);
+    }
+
+    /**
+     * Constructor for use by subclasses.
+     *
+     * @param connector      the client connector which use to communicate.
+     * @param workerExecutor worker pool which processes the responses, or null to use the shared worker pool.
+     */
+    AbstractStub(HttpClientConnector connector, String url, Executor workerExecutor) {
+        this(connector, url, workerExecutor, Deadlines.NO_DEADLINE);
+    }
+
+    /**
+     * Constructor for use by subclasses.
+     *
+     * @param connector      the client connector which use to communicate.
+     * @param workerExecutor worker pool which processes the responses, or null to use the shared worker pool.
+     * @param callTimeout    timeout of the calls in nanoseconds, or {@link Deadlines#NO_DEADLINE}.
+     */
+    AbstractStub(HttpClientConnector connector, String url, Executor workerExecutor, long callTimeout) {
+        this(connector, url, workerExecutor, callTimeout, null);
+    }
+
+    /**
+     * Constructor for use by subclasses.
+     *
+     * @param connector           the client connector which use to communicate.
+     * @param workerExecutor      worker pool which processes the responses, or null to use the shared worker pool.
+     * @param callTimeout         timeout of the calls in nanoseconds, or {@link Deadlines#NO_DEADLINE}.
+     * @param inboundBufferConfig limits of the buffer holding the streamed responses of a call, or null if the
+     *                            buffer is unbounded.
+     */
+    AbstractStub(HttpClientConnector connector, String url, Executor workerExecutor, long callTimeout,
+                 InboundBufferConfig inboundBufferConfig) {
         this.connector = connector;
         this.urlString = url;
+        this.workerExecutor = workerExecutor;
+        this.callTimeout = callTimeout;
+        this.inboundBufferConfig = inboundBufferConfig;
     }
 
     /**
@@ -77,6 +121,33 @@ public abstract class AbstractStub {
         return connector;
     }
 
+    /**
+     * The worker pool of the stub.
+     *
+     * @return worker pool, or null if the stub uses the shared worker pool
+     */
+    public final Executor getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    /**
+     * The timeout of the calls of the stub.
+     *
+     * @return timeout in nanoseconds, or {@link Deadlines#NO_DEADLINE} if the calls have no timeout
+     */
+    public final long getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * The limits of the buffer holding the streamed responses of a call.
+     *
+     * @return inbound buffer limits, or null if the buffer is unbounded
+     */
+    public final InboundBufferConfig getInboundBufferConfig() {
+        return inboundBufferConfig;
+    }
+
     OutboundMessage createOutboundRequest(HttpHeaders httpHeaders) {
         try {
             HttpCarbonMessage carbonMessage = MessageUtils.createHttpCarbonMessage(true);
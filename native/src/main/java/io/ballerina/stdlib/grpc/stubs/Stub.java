@@ -29,9 +29,14 @@ import io.ballerina.stdlib.grpc.CallStreamObserver;
 import io.ballerina.stdlib.grpc.ClientCall;
 import io.ballerina.stdlib.grpc.DataContext;
 import io.ballerina.stdlib.grpc.GrpcConstants;
+import io.ballerina.stdlib.grpc.InboundBufferConfig;
+import io.ballerina.stdlib.grpc.InboundMessageQueue;
+import io.ballerina.stdlib.grpc.LazyHeaderMap;
 import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.MessageQueue;
 import io.ballerina.stdlib.grpc.MessageUtils;
 import io.ballerina.stdlib.grpc.MethodDescriptor;
+import io.ballerina.stdlib.grpc.OutboundMessage;
 import io.ballerina.stdlib.grpc.Status;
 import io.ballerina.stdlib.http.transport.contract.HttpClientConnector;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -39,7 +44,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Executor;
 
 import static io.ballerina.stdlib.grpc.nativeimpl.ModuleUtils.getModule;
 
@@ -54,6 +59,44 @@ public class Stub extends AbstractStub {
         super(clientConnector, url);
     }
 
+    public Stub(HttpClientConnector clientConnector, String url, Executor workerExecutor) {
+        super(clientConnector, url, workerExecutor);
+    }
+
+    public Stub(HttpClientConnector clientConnector, String url, Executor workerExecutor, long callTimeout) {
+        super(clientConnector, url, workerExecutor, callTimeout);
+    }
+
+    public Stub(HttpClientConnector clientConnector, String url, Executor workerExecutor, long callTimeout,
+                InboundBufferConfig inboundBufferConfig) {
+        super(clientConnector, url, workerExecutor, callTimeout, inboundBufferConfig);
+    }
+
+    private ClientCall newCall(OutboundMessage outboundMessage, MethodDescriptor methodDescriptor,
+                               DataContext context, Map<String, Long> messageSizeMap) {
+        return newCall(outboundMessage, methodDescriptor, context, messageSizeMap, null);
+    }
+
+    private ClientCall newCall(OutboundMessage outboundMessage, MethodDescriptor methodDescriptor,
+                               DataContext context, Map<String, Long> messageSizeMap,
+                               InboundMessageQueue inboundQueue) {
+        ClientCall call = new ClientCall(getConnector(), outboundMessage, methodDescriptor, context, messageSizeMap,
+                getWorkerExecutor());
+        call.setTimeout(getCallTimeout());
+        call.setInboundQueue(inboundQueue);
+        return call;
+    }
+
+    /**
+     * Creates the bounded queue which buffers the streamed responses of a call.
+     *
+     * @return inbound message queue, or null if the client does not bound the streamed responses.
+     */
+    private InboundMessageQueue newInboundQueue() {
+        InboundBufferConfig inboundBufferConfig = getInboundBufferConfig();
+        return inboundBufferConfig != null ? new InboundMessageQueue(inboundBufferConfig) : null;
+    }
+
     /**
      * Executes a unary call and blocks on the response.
      *
@@ -64,9 +107,12 @@ public class Stub extends AbstractStub {
      */
     public void executeUnary(Message request, MethodDescriptor methodDescriptor,
                              DataContext dataContext, Map<String, Long> messageSizeMap) throws Exception {
-        ClientCall call = new ClientCall(getConnector(), createOutboundRequest(request.getHeaders()),
-                methodDescriptor, dataContext, messageSizeMap);
-        call.start(new UnaryCallListener(dataContext));
+        ClientCall call = newCall(createOutboundRequest(request.getHeaders()), methodDescriptor, dataContext,
+                messageSizeMap);
+        if (!call.start(new UnaryCallListener(dataContext))) {
+            // The call is already completed, e.g. its deadline has passed before it was started.
+            return;
+        }
         try {
             call.sendMessage(request);
             call.halfClose();
@@ -85,10 +131,15 @@ public class Stub extends AbstractStub {
      */
     public void executeServerStreaming(Message request, MethodDescriptor methodDescriptor,
                                          DataContext context, Map<String, Long> messageSizeMap) throws Exception {
-        ClientCall call = new ClientCall(getConnector(), createOutboundRequest(request.getHeaders()),
-                methodDescriptor, context, messageSizeMap);
-        Stub.ServerStreamingCallListener streamingCallListener = new Stub.ServerStreamingCallListener(context);
-        call.start(streamingCallListener);
+        InboundMessageQueue inboundQueue = newInboundQueue();
+        ClientCall call = newCall(createOutboundRequest(request.getHeaders()), methodDescriptor, context,
+                messageSizeMap, inboundQueue);
+        Stub.ServerStreamingCallListener streamingCallListener = new Stub.ServerStreamingCallListener(context,
+                inboundQueue);
+        if (!call.start(streamingCallListener)) {
+            // The call is already completed, e.g. its deadline has passed before it was started.
+            return;
+        }
         try {
             call.sendMessage(request);
             call.halfClose();
@@ -106,10 +157,9 @@ public class Stub extends AbstractStub {
      */
     public BObject executeClientStreaming(HttpHeaders requestHeaders, MethodDescriptor methodDescriptor,
                                           DataContext context, Map<String, Long> messageSizeMap) {
-        ClientCall call = new ClientCall(getConnector(), createOutboundRequest(requestHeaders),
-                methodDescriptor, context, messageSizeMap);
+        ClientCall call = newCall(createOutboundRequest(requestHeaders), methodDescriptor, context, messageSizeMap);
         ClientCallStreamObserver streamObserver = new ClientCallStreamObserver(call);
-        Stub.StreamingCallListener streamingCallListener = new Stub.StreamingCallListener(false);
+        Stub.StreamingCallListener streamingCallListener = new Stub.StreamingCallListener(false, null);
         call.start(streamingCallListener);
 
         BObject streamingConnection = ValueCreator.createObjectValue(getModule(), GrpcConstants.STREAMING_CLIENT);
@@ -132,10 +182,11 @@ public class Stub extends AbstractStub {
      */
     public BObject executeBidirectionalStreaming(HttpHeaders requestHeaders, MethodDescriptor methodDescriptor,
                                                  DataContext context, Map<String, Long> messageSizeMap) {
-        ClientCall call = new ClientCall(getConnector(), createOutboundRequest(requestHeaders), methodDescriptor,
-                context, messageSizeMap);
+        InboundMessageQueue inboundQueue = newInboundQueue();
+        ClientCall call = newCall(createOutboundRequest(requestHeaders), methodDescriptor, context, messageSizeMap,
+                inboundQueue);
         ClientCallStreamObserver streamObserver = new ClientCallStreamObserver(call);
-        Stub.StreamingCallListener streamingCallListener = new Stub.StreamingCallListener(true);
+        Stub.StreamingCallListener streamingCallListener = new Stub.StreamingCallListener(true, inboundQueue);
         call.start(streamingCallListener);
 
         BObject streamingConnection = ValueCreator.createObjectValue(getModule(), GrpcConstants.STREAMING_CLIENT);
@@ -214,13 +265,13 @@ public class Stub extends AbstractStub {
 
         private final boolean streamingResponse;
         BlockingQueue<Message> messageQueue;
-        BMap headerMap = null;
+        LazyHeaderMap headerMap = null;
         private boolean firstResponseReceived;
 
         // Non private to avoid synthetic class
-        StreamingCallListener(boolean streamingResponse) {
+        StreamingCallListener(boolean streamingResponse, BlockingQueue<Message> messageQueue) {
             this.streamingResponse = streamingResponse;
-            this.messageQueue = new LinkedBlockingQueue<>();
+            this.messageQueue = messageQueue != null ? messageQueue : new MessageQueue();
         }
 
         @Override
@@ -238,7 +289,7 @@ public class Stub extends AbstractStub {
 
             if (!firstResponseReceived) {
                 // Set response headers, when response headers exists in the message context.
-                headerMap = MessageUtils.createHeaderMap(message.getHeaders());
+                headerMap = LazyHeaderMap.of(null, message.getHeaders());
                 firstResponseReceived = true;
             }
             messageQueue.add(message);
@@ -259,7 +310,7 @@ public class Stub extends AbstractStub {
             return messageQueue;
         }
 
-        BMap getHeaderMap() {
+        LazyHeaderMap getHeaderMap() {
             return headerMap;
         }
     }
@@ -276,8 +327,8 @@ public class Stub extends AbstractStub {
         Type streamType = TypeCreator.createStreamType(PredefinedTypes.TYPE_ANYDATA);
 
         // Non private to avoid synthetic class
-        ServerStreamingCallListener(DataContext dataContext) {
-            this.messageQueue = new LinkedBlockingQueue<>();
+        ServerStreamingCallListener(DataContext dataContext, BlockingQueue<Message> messageQueue) {
+            this.messageQueue = messageQueue != null ? messageQueue : new MessageQueue();
             this.dataContext = dataContext;
 
             BObject streamIterator = ValueCreator.createObjectValue(getModule(),
@@ -361,6 +412,16 @@ public class Stub extends AbstractStub {
             return call.isReady();
         }
 
+        @Override
+        public void notifyWhenReady(Runnable onReadyListener) {
+            call.notifyWhenReady(onReadyListener);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return call.isClosed();
+        }
+
         @Override
         public void setMessageCompression(boolean enable) {
             call.setMessageCompression(enable);
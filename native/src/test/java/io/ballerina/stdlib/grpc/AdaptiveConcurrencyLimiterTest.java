@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test AdaptiveConcurrencyLimiter class functions.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test(description = "Test whether the calls over the limit are rejected")
+    public void testRejection() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", new AdaptiveLimitConfig(2, 1,
+                10));
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.release(-1);
+        assertEquals(limiter.getInflightCalls(), 1);
+        assertEquals(limiter.getLimit(), 2);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test(description = "Test whether the limit grows while the latency stays at the no-load latency")
+    public void testLimitIncrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", new AdaptiveLimitConfig(10, 1,
+                100));
+        runCalls(limiter, LATENCY, 50);
+        assertTrue(limiter.getLimit() > 10);
+        assertTrue(limiter.getLimit() <= 100);
+    }
+
+    @Test(description = "Test whether the limit shrinks once the latency grows")
+    public void testLimitDecrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", new AdaptiveLimitConfig(50, 5,
+                100));
+        runCalls(limiter, LATENCY, 1);
+        int limit = limiter.getLimit();
+        runCalls(limiter, LATENCY * 10, 20);
+        assertTrue(limiter.getLimit() < limit);
+        assertTrue(limiter.getLimit() >= 5);
+    }
+
+    // Runs rounds of calls which use the whole limit and complete with the given latency.
+    private static void runCalls(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            int calls = 0;
+            while (limiter.tryAcquire()) {
+                calls++;
+            }
+            for (int j = 0; j < calls; j++) {
+                limiter.release(latencyNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * A test class to test AdmissionController class functions.
+ */
+public class AdmissionControllerTest {
+
+    @Test(description = "Test whether the calls over the in-flight limit are rejected")
+    public void testInflightLimit() {
+        AdmissionController controller = new AdmissionController(new AdmissionConfig(2, 10, 0,
+                Status.Code.UNAVAILABLE, 500));
+        assertNull(controller.admit());
+        assertNull(controller.admit());
+        Status rejection = controller.admit();
+        assertNotNull(rejection);
+        assertEquals(rejection.getCode(), Status.Code.UNAVAILABLE);
+        assertEquals(controller.getRetryPushback(), "500");
+        assertEquals(controller.getInflightCalls(), 2);
+
+        assertNull(controller.dequeue(System.nanoTime()));
+        controller.release();
+        assertEquals(controller.getInflightCalls(), 1);
+        assertNull(controller.admit());
+    }
+
+    @Test(description = "Test whether the calls over the queue limit are rejected")
+    public void testQueueLimit() {
+        AdmissionController controller = new AdmissionController(new AdmissionConfig(10, 1, 0,
+                Status.Code.RESOURCE_EXHAUSTED, 1000));
+        assertNull(controller.admit());
+        Status rejection = controller.admit();
+        assertNotNull(rejection);
+        assertEquals(rejection.getCode(), Status.Code.RESOURCE_EXHAUSTED);
+        assertEquals(controller.getInflightCalls(), 1);
+        assertEquals(controller.getQueuedCalls(), 1);
+
+        controller.abandon();
+        assertEquals(controller.getInflightCalls(), 0);
+        assertEquals(controller.getQueuedCalls(), 0);
+        assertNull(controller.admit());
+    }
+
+    @Test(description = "Test whether the calls which waited too long for a worker are rejected")
+    public void testQueueTimeLimit() {
+        AdmissionController controller = new AdmissionController(new AdmissionConfig(10, 10,
+                TimeUnit.MILLISECONDS.toNanos(100), Status.Code.RESOURCE_EXHAUSTED, 1000));
+        assertNull(controller.admit());
+        assertNull(controller.dequeue(System.nanoTime()));
+        assertNull(controller.admit());
+        Status rejection = controller.dequeue(System.nanoTime() - TimeUnit.SECONDS.toNanos(1));
+        assertNotNull(rejection);
+        assertEquals(rejection.getCode(), Status.Code.RESOURCE_EXHAUSTED);
+        assertEquals(controller.getQueuedCalls(), 0);
+        assertEquals(controller.getInflightCalls(), 2);
+    }
+}
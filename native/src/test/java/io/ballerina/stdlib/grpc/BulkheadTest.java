@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test Bulkhead class functions.
+ */
+public class BulkheadTest {
+
+    @Test(description = "Test whether the calls over the limit wait for a permit in arrival order")
+    public void testQueuedCalls() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 2, 0);
+        List<Integer> started = new ArrayList<>();
+        assertTrue(bulkhead.tryAcquire(() -> started.add(1)));
+        assertTrue(bulkhead.tryAcquire(() -> started.add(2)));
+        assertTrue(bulkhead.tryAcquire(() -> started.add(3)));
+        assertEquals(started, List.of(1));
+        assertEquals(bulkhead.getActiveCalls(), 1);
+        assertEquals(bulkhead.getQueuedCalls(), 2);
+
+        bulkhead.release();
+        assertEquals(started, List.of(1, 2));
+        bulkhead.release();
+        assertEquals(started, List.of(1, 2, 3));
+        assertEquals(bulkhead.getActiveCalls(), 1);
+        assertEquals(bulkhead.getQueuedCalls(), 0);
+        bulkhead.release();
+        assertEquals(bulkhead.getActiveCalls(), 0);
+    }
+
+    @Test(description = "Test whether the calls are rejected once the queue is full")
+    public void testRejectedCalls() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 0, 0);
+        assertTrue(bulkhead.tryAcquire(() -> { }));
+        assertFalse(bulkhead.tryAcquire(() -> { }));
+        assertEquals(bulkhead.getRejectionStatus().getCode(), Status.Code.RESOURCE_EXHAUSTED);
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire(() -> { }));
+    }
+
+    @Test(description = "Test whether a call which is given up while waiting does not take a permit")
+    public void testCancelledCall() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, 0);
+        List<Integer> started = new ArrayList<>();
+        assertTrue(bulkhead.tryAcquire(() -> started.add(1)));
+        Runnable cancelled = () -> started.add(2);
+        assertTrue(bulkhead.tryAcquire(cancelled));
+        assertTrue(bulkhead.cancel(cancelled));
+        assertFalse(bulkhead.cancel(cancelled));
+        assertEquals(bulkhead.getQueuedCalls(), 0);
+
+        bulkhead.release();
+        assertEquals(started, List.of(1));
+        assertEquals(bulkhead.getActiveCalls(), 0);
+    }
+
+    @Test(description = "Test whether a dedicated executor is created only when dedicated workers are configured")
+    public void testDedicatedExecutor() {
+        assertNull(new Bulkhead("shared", 1, 0, 0).getExecutor());
+        Bulkhead bulkhead = new Bulkhead("dedicated", 1, 0, 2);
+        assertNotNull(bulkhead.getExecutor());
+        bulkhead.shutdownNow();
+        assertTrue(bulkhead.getExecutor().isShutdown());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+/**
+ * A test class to test CallCoalescer class functions.
+ */
+public class CallCoalescerTest {
+
+    @Test(description = "Test whether the identical calls follow the flight of the first call")
+    public void testFollowers() {
+        CallCoalescer coalescer = new CallCoalescer("test", List.of());
+        List<byte[]> responses = new ArrayList<>();
+        CallCoalescer.Flight flight = coalescer.join(coalescer.newKey(null, new byte[]{1}), responses::add);
+        assertNotNull(flight);
+        assertNull(coalescer.join(coalescer.newKey(null, new byte[]{1}), responses::add));
+        assertNull(coalescer.join(coalescer.newKey(null, new byte[]{1}), responses::add));
+        assertNotNull(coalescer.join(coalescer.newKey(null, new byte[]{2}), responses::add));
+        assertEquals(coalescer.inflight(), 2);
+
+        coalescer.land(flight, new byte[]{9});
+        assertEquals(responses.size(), 2);
+        assertEquals(responses.get(0), new byte[]{9});
+        assertEquals(responses.get(1), new byte[]{9});
+        assertEquals(coalescer.inflight(), 1);
+    }
+
+    @Test(description = "Test whether the followers are notified when the response cannot be shared")
+    public void testUnsharedResponse() {
+        CallCoalescer coalescer = new CallCoalescer("test", List.of());
+        List<byte[]> responses = new ArrayList<>();
+        CallCoalescer.Flight flight = coalescer.join(coalescer.newKey(null, new byte[]{1}), responses::add);
+        coalescer.join(coalescer.newKey(null, new byte[]{1}), responses::add);
+        coalescer.land(flight, null);
+        assertEquals(responses.size(), 1);
+        assertNull(responses.get(0));
+    }
+
+    @Test(description = "Test whether a call leads a new flight once the previous flight is landed")
+    public void testNewFlight() {
+        CallCoalescer coalescer = new CallCoalescer("test", List.of());
+        CallCoalescer.Flight flight = coalescer.join(coalescer.newKey(null, new byte[]{1}), response -> { });
+        coalescer.land(flight, new byte[]{9});
+        assertEquals(coalescer.inflight(), 0);
+        assertNotNull(coalescer.join(coalescer.newKey(null, new byte[]{1}), response -> { }));
+    }
+
+    @Test(description = "Test whether the calls of different credentials are not coalesced")
+    public void testCredentials() {
+        CallCoalescer coalescer = new CallCoalescer("test", List.of());
+        assertNotNull(coalescer.join(coalescer.newKey(new DefaultHttpHeaders()
+                .add(CallKey.AUTHORIZATION_HEADER, "Bearer a"), new byte[]{1}), response -> { }));
+        assertNotNull(coalescer.join(coalescer.newKey(new DefaultHttpHeaders()
+                .add(CallKey.AUTHORIZATION_HEADER, "Bearer b"), new byte[]{1}), response -> { }));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
+import io.ballerina.stdlib.grpc.stubs.AbstractStub;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static io.ballerina.stdlib.grpc.MessageUtils.createHttpCarbonMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test ClientCall class functions.
+ */
+public class ClientCallTest {
+
+    @Test(description = "Test whether a call with an already expired deadline is completed without being sent")
+    public void testExpiredDeadline() {
+        testExpiredDeadline(null, 0);
+    }
+
+    @Test(description = "Test whether a call with an already expired grpc-timeout header is completed without " +
+            "being sent")
+    public void testExpiredTimeoutHeader() {
+        testExpiredDeadline("0n", Deadlines.NO_DEADLINE);
+    }
+
+    private static void testExpiredDeadline(String timeoutHeader, long timeoutNanos) {
+        OutboundMessage outboundMessage = new OutboundMessage(createHttpCarbonMessage(true));
+        if (timeoutHeader != null) {
+            outboundMessage.setHeader(Deadlines.TIMEOUT_KEY, timeoutHeader);
+        }
+        MethodDescriptor method = MethodDescriptor.newBuilder().setFullMethodName("TestService/TestMethod")
+                .setType(MethodDescriptor.MethodType.UNARY).build();
+        ClientCall call = new ClientCall(null, outboundMessage, method, new DataContext(null, null),
+                new HashMap<>());
+        call.setTimeout(timeoutNanos);
+        List<Status> statuses = new ArrayList<>();
+        boolean started = call.start(new AbstractStub.Listener() {
+            @Override
+            public void onHeaders(HttpHeaders headers) {
+                fail("Headers are received for a call which is not sent");
+            }
+
+            @Override
+            public void onMessage(Message message) {
+                fail("A message is received for a call which is not sent");
+            }
+
+            @Override
+            public void onClose(Status status, HttpHeaders trailers) {
+                statuses.add(status);
+            }
+        });
+
+        assertFalse(started);
+        assertEquals(statuses.size(), 1);
+        assertEquals(statuses.get(0).getCode(), Status.Code.DEADLINE_EXCEEDED);
+        try {
+            call.sendMessage(new Message(new Throwable("Request")));
+            fail("Message is sent for a call which is already completed");
+        } catch (StatusRuntimeException e) {
+            assertEquals(e.getStatus().getDescription(), "Client call was already cancelled.");
+        }
+        assertEquals(statuses.size(), 1);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.grpc.stubs.AbstractStub;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static io.ballerina.stdlib.grpc.GrpcConstants.MAX_INBOUND_MESSAGE_SIZE;
+import static io.ballerina.stdlib.grpc.MessageUtils.createHttpCarbonMessage;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * A test class to test ClientConnectorListener class functions.
+ */
+public class ClientConnectorListenerTest {
+
+    private static final long MAX_MESSAGE_SIZE = 1024;
+
+    @Test(description = "Test whether the contents held back while the inbound buffer is full are released once " +
+            "the call is closed")
+    public void testDiscardHeldContentsOnClose() {
+        List<Status> statuses = new ArrayList<>();
+        ClientCall.ClientStreamListener streamListener = newCall().new ClientStreamListener(listener(statuses));
+        InboundMessageQueue inboundQueue = fullQueue();
+        ClientConnectorListener connectorListener = newConnectorListener(streamListener, inboundQueue);
+        HttpCarbonMessage response = response(connectorListener);
+
+        HttpContent held = content();
+        response.addHttpContent(held);
+        assertEquals(held.refCnt(), 1);
+
+        streamListener.closed(Status.Code.DEADLINE_EXCEEDED.toStatus(), new DefaultHttpHeaders());
+        assertEquals(statuses.size(), 1);
+        assertEquals(held.refCnt(), 0);
+        HttpContent late = content();
+        response.addHttpContent(late);
+        assertEquals(late.refCnt(), 0);
+    }
+
+    @Test(description = "Test whether the contents held back while the inbound buffer is full are released once " +
+            "the call is cancelled")
+    public void testDiscardHeldContentsOnCancel() {
+        List<Status> statuses = new ArrayList<>();
+        ClientCall.ClientStreamListener streamListener = newCall().new ClientStreamListener(listener(statuses));
+        InboundMessageQueue inboundQueue = fullQueue();
+        ClientConnectorListener connectorListener = newConnectorListener(streamListener, inboundQueue);
+        HttpCarbonMessage response = response(connectorListener);
+
+        HttpContent held = content();
+        response.addHttpContent(held);
+        assertEquals(held.refCnt(), 1);
+
+        connectorListener.discardHeldContents();
+        assertEquals(held.refCnt(), 0);
+        HttpContent late = content();
+        response.addHttpContent(late);
+        assertEquals(late.refCnt(), 0);
+    }
+
+    @Test(description = "Test whether the contents received after the call is closed are released, when the call " +
+            "is closed before the response headers are received")
+    public void testDiscardBeforeResponse() {
+        List<Status> statuses = new ArrayList<>();
+        ClientCall.ClientStreamListener streamListener = newCall().new ClientStreamListener(listener(statuses));
+        ClientConnectorListener connectorListener = newConnectorListener(streamListener, fullQueue());
+        streamListener.closed(Status.Code.CANCELLED.toStatus(), new DefaultHttpHeaders());
+
+        HttpCarbonMessage response = response(connectorListener);
+        HttpContent late = content();
+        response.addHttpContent(late);
+        assertEquals(late.refCnt(), 0);
+    }
+
+    @Test(description = "Test whether the call is failed once and the contents are released when the worker pool " +
+            "rejects the contents of the call")
+    public void testRejectedContents() {
+        List<Status> statuses = new ArrayList<>();
+        ClientCall.ClientStreamListener streamListener = newCall().new ClientStreamListener(listener(statuses));
+        ClientConnectorListener connectorListener = newConnectorListener(streamListener, null, command -> {
+            throw new RejectedExecutionException("Rejected");
+        });
+        HttpCarbonMessage response = response(connectorListener);
+
+        HttpContent first = content();
+        response.addHttpContent(first);
+        HttpContent second = content();
+        response.addHttpContent(second);
+        assertEquals(first.refCnt(), 0);
+        assertEquals(second.refCnt(), 0);
+        assertEquals(statuses.size(), 1);
+        assertEquals(statuses.get(0).getCode(), Status.Code.RESOURCE_EXHAUSTED);
+    }
+
+    private static ClientCall newCall() {
+        MethodDescriptor method = MethodDescriptor.newBuilder().setFullMethodName("TestService/TestMethod")
+                .setType(MethodDescriptor.MethodType.SERVER_STREAMING).build();
+        Map<String, Long> messageSizeMap = new HashMap<>();
+        messageSizeMap.put(MAX_INBOUND_MESSAGE_SIZE, MAX_MESSAGE_SIZE);
+        return new ClientCall(null, new OutboundMessage(createHttpCarbonMessage(true)), method,
+                new DataContext(null, null), messageSizeMap, Runnable::run);
+    }
+
+    private static ClientConnectorListener newConnectorListener(ClientCall.ClientStreamListener streamListener,
+                                                                InboundMessageQueue inboundQueue) {
+        // The call executor runs the tasks of the call in the calling thread.
+        return newConnectorListener(streamListener, inboundQueue, Runnable::run);
+    }
+
+    private static ClientConnectorListener newConnectorListener(ClientCall.ClientStreamListener streamListener,
+                                                                InboundMessageQueue inboundQueue,
+                                                                Executor workerExecutor) {
+        ClientConnectorListener connectorListener = new ClientConnectorListener(streamListener, MAX_MESSAGE_SIZE,
+                workerExecutor);
+        connectorListener.setInboundQueue(inboundQueue);
+        return connectorListener;
+    }
+
+    private static InboundMessageQueue fullQueue() {
+        InboundMessageQueue inboundQueue = new InboundMessageQueue(new InboundBufferConfig(MAX_MESSAGE_SIZE, 1));
+        inboundQueue.add(new Message(new Throwable("Buffered response")));
+        return inboundQueue;
+    }
+
+    private static HttpCarbonMessage response(ClientConnectorListener connectorListener) {
+        HttpCarbonMessage response = createHttpCarbonMessage(false);
+        response.setHttpStatusCode(200);
+        response.setHeader("content-type", GrpcConstants.CONTENT_TYPE_GRPC);
+        connectorListener.onMessage(response);
+        return response;
+    }
+
+    private static HttpContent content() {
+        return new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[]{0, 0, 0, 0, 1, 1}));
+    }
+
+    private static AbstractStub.Listener listener(List<Status> statuses) {
+        return new AbstractStub.Listener() {
+            @Override
+            public void onHeaders(HttpHeaders headers) {
+            }
+
+            @Override
+            public void onMessage(Message message) {
+            }
+
+            @Override
+            public void onClose(Status status, HttpHeaders trailers) {
+                statuses.add(status);
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test Codec class functions.
+ */
+public class CodecTest {
+
+    private static final byte[] MESSAGE = "Test Message Test Message Test Message".getBytes(StandardCharsets.UTF_8);
+
+    @Test(description = "Test whether the pooled gzip codec can read back its own output repeatedly")
+    public void testGzipRoundTrip() throws IOException {
+        Codec codec = new Codec.Gzip();
+        for (int i = 0; i < 10; i++) {
+            byte[] compressed = compress(codec, MESSAGE);
+            try (InputStream decompressed = codec.decompress(new ByteArrayInputStream(compressed))) {
+                assertEquals(decompressed.readAllBytes(), MESSAGE);
+            }
+        }
+    }
+
+    @Test(description = "Test whether the pooled gzip codec is compatible with the JDK gzip streams")
+    public void testGzipInteroperability() throws IOException {
+        Codec codec = new Codec.Gzip();
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compress(codec, MESSAGE)))) {
+            assertEquals(in.readAllBytes(), MESSAGE);
+        }
+        ByteArrayOutputStream jdkCompressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(jdkCompressed)) {
+            out.write(MESSAGE);
+        }
+        try (InputStream in = codec.decompress(new ByteArrayInputStream(jdkCompressed.toByteArray()))) {
+            assertEquals(in.readAllBytes(), MESSAGE);
+        }
+    }
+
+    @Test(description = "Test whether a corrupted gzip trailer is detected",
+            expectedExceptions = ZipException.class)
+    public void testGzipCorruptedTrailer() throws IOException {
+        Codec codec = new Codec.Gzip();
+        byte[] compressed = compress(codec, MESSAGE);
+        compressed[compressed.length - 1] ^= 1;
+        try (InputStream in = codec.decompress(new ByteArrayInputStream(compressed))) {
+            in.readAllBytes();
+        }
+    }
+
+    @Test(description = "Test whether the decompressed message size is bounded by the max inbound message size")
+    public void testDecompressedSizeLimit() throws IOException {
+        Codec codec = new Codec.Gzip();
+        byte[] compressed = compress(codec, new byte[1024 * 1024]);
+        try (InputStream in = new MessageDeframer.SizeEnforcingInputStream(
+                codec.decompress(new ByteArrayInputStream(compressed)), 4096)) {
+            in.readAllBytes();
+            fail("Expected the decompressed size limit to be exceeded");
+        } catch (StatusRuntimeException e) {
+            assertEquals(e.getStatus().getCode(), Status.Code.RESOURCE_EXHAUSTED);
+        }
+    }
+
+    private static byte[] compress(Codec codec, byte[] message) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = codec.compress(compressed)) {
+            out.write(message);
+        }
+        return compressed.toByteArray();
+    }
+}
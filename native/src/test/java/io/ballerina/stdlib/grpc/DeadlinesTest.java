@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
+import io.netty.util.Timeout;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test Deadlines class functions.
+ */
+public class DeadlinesTest {
+
+    @Test(description = "Test whether the grpc-timeout header values are parsed as per their units")
+    public void testParseTimeout() {
+        assertEquals(Deadlines.parseTimeout("2H"), TimeUnit.HOURS.toNanos(2));
+        assertEquals(Deadlines.parseTimeout("3M"), TimeUnit.MINUTES.toNanos(3));
+        assertEquals(Deadlines.parseTimeout("10S"), TimeUnit.SECONDS.toNanos(10));
+        assertEquals(Deadlines.parseTimeout("250m"), TimeUnit.MILLISECONDS.toNanos(250));
+        assertEquals(Deadlines.parseTimeout("99999999u"), TimeUnit.MICROSECONDS.toNanos(99999999));
+        assertEquals(Deadlines.parseTimeout("5n"), 5);
+    }
+
+    @Test(description = "Test whether the invalid grpc-timeout header values are rejected")
+    public void testInvalidTimeout() {
+        for (String value : new String[]{"", "S", "10", "10s", "-1S", "123456789S"}) {
+            try {
+                Deadlines.parseTimeout(value);
+                fail("Expected an error for " + value);
+            } catch (StatusRuntimeException e) {
+                assertEquals(e.getStatus().getCode(), Status.Code.INTERNAL);
+            }
+        }
+    }
+
+    @Test(description = "Test whether timeouts are formatted with the finest unit which fits in 8 digits")
+    public void testToTimeoutHeader() {
+        assertEquals(Deadlines.toTimeoutHeader(5), "5n");
+        assertEquals(Deadlines.toTimeoutHeader(-5), "0n");
+        assertEquals(Deadlines.toTimeoutHeader(TimeUnit.MILLISECONDS.toNanos(250)), "250000u");
+        assertEquals(Deadlines.toTimeoutHeader(TimeUnit.SECONDS.toNanos(10)), "10000000u");
+        assertEquals(Deadlines.toTimeoutHeader(TimeUnit.HOURS.toNanos(2)), "7200000m");
+        assertEquals(Deadlines.toTimeoutHeader(TimeUnit.DAYS.toNanos(1200)), "1728000M");
+        assertEquals(Deadlines.toTimeoutHeader(Long.MAX_VALUE), "2562047H");
+        for (long timeout : new long[]{1, 999_999_000L, TimeUnit.MINUTES.toNanos(90)}) {
+            assertEquals(Deadlines.parseTimeout(Deadlines.toTimeoutHeader(timeout)), timeout);
+        }
+    }
+
+    @Test(description = "Test whether a task is run once its deadline is passed, unless it is cancelled")
+    public void testSchedule() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Deadlines.schedule(latch::countDown, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch cancelled = new CountDownLatch(1);
+        Timeout timeout = Deadlines.schedule(cancelled::countDown,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200));
+        timeout.cancel();
+        assertFalse(cancelled.await(400, TimeUnit.MILLISECONDS));
+    }
+}
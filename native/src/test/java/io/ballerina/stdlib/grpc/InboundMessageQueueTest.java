@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test InboundMessageQueue class functions.
+ */
+public class InboundMessageQueueTest {
+
+    @Test(description = "Test whether the queue is full once the message limit is reached")
+    public void testMaxMessages() throws InterruptedException {
+        InboundMessageQueue queue = new InboundMessageQueue(new InboundBufferConfig(1024, 2));
+        queue.add(message(1));
+        assertFalse(queue.isFull());
+        queue.add(message(1));
+        assertTrue(queue.isFull());
+        queue.take();
+        assertFalse(queue.isFull());
+    }
+
+    @Test(description = "Test whether the queue is full once the byte limit is reached")
+    public void testMaxBytes() {
+        InboundMessageQueue queue = new InboundMessageQueue(new InboundBufferConfig(10, 100));
+        queue.add(message(6));
+        assertFalse(queue.isFull());
+        queue.add(message(6));
+        assertTrue(queue.isFull());
+        assertEquals(queue.bytes(), 12);
+        queue.poll();
+        assertFalse(queue.isFull());
+        assertEquals(queue.bytes(), 6);
+    }
+
+    @Test(description = "Test whether the listener is notified once the queue is not full")
+    public void testNotifyWhenNotFull() throws InterruptedException {
+        InboundMessageQueue queue = new InboundMessageQueue(new InboundBufferConfig(1024, 2));
+        AtomicInteger notified = new AtomicInteger();
+        queue.add(message(1));
+        queue.add(message(1));
+        queue.add(message(1));
+        queue.notifyWhenNotFull(notified::incrementAndGet);
+        assertEquals(notified.get(), 0);
+        queue.take();
+        assertEquals(notified.get(), 0);
+        queue.take();
+        assertEquals(notified.get(), 1);
+        queue.take();
+        assertEquals(notified.get(), 1);
+
+        queue.notifyWhenNotFull(notified::incrementAndGet);
+        assertEquals(notified.get(), 2);
+    }
+
+    @Test(description = "Test whether a cancelled listener is not notified once the queue is not full")
+    public void testCancelNotifyWhenNotFull() throws InterruptedException {
+        InboundMessageQueue queue = new InboundMessageQueue(new InboundBufferConfig(1024, 1));
+        AtomicInteger notified = new AtomicInteger();
+        queue.add(message(1));
+        queue.notifyWhenNotFull(notified::incrementAndGet);
+        queue.cancelNotifyWhenNotFull();
+        queue.take();
+        assertEquals(notified.get(), 0);
+    }
+
+    @Test(description = "Test whether clearing the queue releases its bytes and notifies the listener")
+    public void testClear() {
+        InboundMessageQueue queue = new InboundMessageQueue(new InboundBufferConfig(10, 100));
+        AtomicInteger notified = new AtomicInteger();
+        queue.add(message(20));
+        queue.notifyWhenNotFull(notified::incrementAndGet);
+        queue.clear();
+        assertEquals(queue.bytes(), 0);
+        assertEquals(notified.get(), 1);
+    }
+
+    private static Message message(int inboundSize) {
+        Message message = new Message(new RuntimeException());
+        message.setInboundSize(inboundSize);
+        return message;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test InvocationPlan class functions.
+ */
+public class InvocationPlanTest {
+
+    private static final Module MODULE = new Module("test", "service", "1.0.0");
+
+    @Test(description = "Test the plan of a remote function which takes the caller and the request")
+    public void testCallerAndRequest() {
+        Type[] paramTypes = {newType(TypeTags.OBJECT_TYPE_TAG, "HelloWorldStringCaller"),
+                PredefinedTypes.TYPE_STRING};
+        InvocationPlan plan = new InvocationPlan(newServiceType(true, true), "helloWorld", "hello", paramTypes,
+                false, PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_STRING);
+        assertTrue(plan.isCallerRequired());
+        assertEquals(plan.getArgumentCount(), 4);
+        assertSame(plan.getCallerPackage(), MODULE);
+        assertEquals(plan.getCallerTypeName(), "HelloWorldStringCaller");
+        assertNull(plan.getContextTypeName());
+        assertTrue(plan.isIsolated());
+    }
+
+    @Test(description = "Test the plan of a remote function which takes the request along with its headers")
+    public void testContext() {
+        Type[] paramTypes = {newType(TypeTags.RECORD_TYPE_TAG, "ContextString")};
+        InvocationPlan plan = new InvocationPlan(newServiceType(true, false), "helloWorld", "hello", paramTypes,
+                true, PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL);
+        assertFalse(plan.isCallerRequired());
+        assertEquals(plan.getArgumentCount(), 2);
+        assertEquals(plan.getCallerTypeName(), "HelloWorldNilCaller");
+        assertSame(plan.getContextPackage(), MODULE);
+        assertEquals(plan.getContextTypeName(), "ContextString");
+        assertFalse(plan.isIsolated());
+    }
+
+    private static Type newType(int tag, String name) {
+        return (Type) Proxy.newProxyInstance(Type.class.getClassLoader(), new Class<?>[]{Type.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTag":
+                            return tag;
+                        case "getName":
+                            return name;
+                        case "getPackage":
+                            return MODULE;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static ObjectType newServiceType(boolean isolated, boolean isolatedFunction) {
+        return (ObjectType) Proxy.newProxyInstance(ObjectType.class.getClassLoader(),
+                new Class<?>[]{ObjectType.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isIsolated":
+                            return args == null ? isolated : isolatedFunction;
+                        case "getPackage":
+                            return MODULE;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
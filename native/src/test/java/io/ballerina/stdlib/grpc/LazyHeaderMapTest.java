@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * A test class to test LazyHeaderMap class functions.
+ */
+public class LazyHeaderMapTest {
+
+    @Test(description = "Test whether the holder of a stream is reused for the next message until it is read")
+    public void testReuse() {
+        HttpHeaders headers = new DefaultHttpHeaders().add("tenant", "a");
+        LazyHeaderMap holder = LazyHeaderMap.of(null, headers);
+        assertSame(LazyHeaderMap.of(holder, headers), holder);
+        assertNotSame(LazyHeaderMap.of(holder, new DefaultHttpHeaders()), holder);
+    }
+
+    @Test(description = "Test whether the headers updated after they are read are resolved for the next message")
+    public void testLatestHeaders() {
+        HttpHeaders headers = new DefaultHttpHeaders().add("tenant", "a");
+        LazyHeaderMap holder = LazyHeaderMap.of(null, headers);
+        assertEquals(getHeader(holder, "tenant"), "a");
+        headers.set("tenant", "b");
+        LazyHeaderMap next = LazyHeaderMap.of(holder, headers);
+        assertNotSame(next, holder);
+        assertEquals(getHeader(next, "tenant"), "b");
+    }
+
+    @Test(description = "Test whether the values which are not holders are resolved as they are")
+    public void testResolve() {
+        LazyHeaderMap holder = LazyHeaderMap.of(null, new DefaultHttpHeaders().add("tenant", "a"));
+        BMap headerMap = holder.getHeaderMap();
+        assertSame(LazyHeaderMap.resolve(holder), headerMap);
+        assertSame(LazyHeaderMap.resolve(headerMap), headerMap);
+        assertNull(LazyHeaderMap.resolve(null));
+    }
+
+    private static String getHeader(LazyHeaderMap holder, String name) {
+        BMap headerMap = (BMap) LazyHeaderMap.resolve(holder);
+        return ((BString) headerMap.get(StringUtils.fromString(name))).getValue();
+    }
+}
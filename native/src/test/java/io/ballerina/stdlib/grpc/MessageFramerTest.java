@@ -18,11 +18,18 @@
 
 package io.ballerina.stdlib.grpc;
 
+import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
 import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.HttpContent;
 import org.testng.annotations.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static io.ballerina.stdlib.grpc.MessageUtils.createHttpCarbonMessage;
 import static org.testng.Assert.assertEquals;
@@ -68,4 +75,65 @@ public class MessageFramerTest {
             fail(e.getMessage());
         }
     }
+
+    @Test(description = "Test whether a batch of messages is handed over to the transport as a single content")
+    public void testWritePayloads() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        List<HttpContent> transport = new ArrayList<>();
+        MessageFramer framer = new MessageFramer(new OutboundBuffer(transport::add, flowController, null));
+        framer.setMessageCompression(false);
+        framer.writePayloads(Arrays.asList(message("first"), message("second"), message("third")));
+
+        assertEquals(transport.size(), 1);
+        assertEquals(flowController.getQueuedFrames(), 3);
+        ByteBuf content = transport.get(0).content();
+        assertFrame(content, "first");
+        assertFrame(content, "second");
+        assertFrame(content, "third");
+        assertEquals(content.readableBytes(), 0);
+        transport.get(0).release();
+        assertEquals(flowController.getQueuedFrames(), 0);
+    }
+
+    @Test(description = "Test whether the messages written before a failed message of a batch are still handed " +
+            "over, without the partly written frame of the failed message")
+    public void testWritePayloadsFailure() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        List<HttpContent> transport = new ArrayList<>();
+        MessageFramer framer = new MessageFramer(new OutboundBuffer(transport::add, flowController, null));
+        framer.setMessageCompression(false);
+        InputStream failing = new ByteArrayInputStream(new byte[10]) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                throw new IllegalStateException("Serialization failed");
+            }
+
+            @Override
+            public synchronized int read() {
+                throw new IllegalStateException("Serialization failed");
+            }
+        };
+        try {
+            framer.writePayloads(Arrays.asList(message("first"), failing, message("third")));
+            fail("Batch is written although a message cannot be serialized");
+        } catch (StatusRuntimeException e) {
+            assertEquals(e.getStatus().getCode(), Status.Code.INTERNAL);
+        }
+
+        assertEquals(transport.size(), 1);
+        assertEquals(flowController.getQueuedFrames(), 1);
+        ByteBuf content = transport.get(0).content();
+        assertFrame(content, "first");
+        assertEquals(content.readableBytes(), 0);
+    }
+
+    private static InputStream message(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertFrame(ByteBuf content, String payload) {
+        assertEquals(content.readByte(), 0);
+        assertEquals(content.readInt(), payload.length());
+        assertEquals(content.readCharSequence(payload.length(), StandardCharsets.UTF_8).toString(), payload);
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test MessageQueue class functions.
+ */
+public class MessageQueueTest {
+
+    @Test(description = "Test whether a queued message is received right away")
+    public void testReceiveQueued() {
+        MessageQueue queue = new MessageQueue();
+        Message first = new Message(new RuntimeException());
+        queue.add(first);
+        queue.add(new Message(new RuntimeException()));
+        List<Message> received = new ArrayList<>();
+        queue.receive(received::add);
+        assertEquals(received.size(), 1);
+        assertSame(received.get(0), first);
+        assertEquals(queue.size(), 1);
+    }
+
+    @Test(description = "Test whether the next message is handed over to a waiting receiver")
+    public void testReceiveNext() {
+        MessageQueue queue = new MessageQueue();
+        List<Message> received = new ArrayList<>();
+        queue.receive(received::add);
+        assertTrue(received.isEmpty());
+
+        Message message = new Message(new RuntimeException());
+        queue.add(message);
+        assertEquals(received.size(), 1);
+        assertSame(received.get(0), message);
+        assertTrue(queue.isEmpty());
+
+        queue.add(new Message(new RuntimeException()));
+        assertEquals(received.size(), 1);
+        assertEquals(queue.size(), 1);
+    }
+
+    @Test(description = "Test whether a message handed over to a receiver is not accounted in the inbound buffer")
+    public void testReceiveInboundMessage() {
+        InboundMessageQueue queue = new InboundMessageQueue(new InboundBufferConfig(10, 100));
+        List<Message> received = new ArrayList<>();
+        queue.receive(received::add);
+        Message message = new Message(new RuntimeException());
+        message.setInboundSize(20);
+        queue.add(message);
+        assertEquals(received.size(), 1);
+        assertEquals(queue.bytes(), 0);
+    }
+
+    @Test(description = "Test whether receiving fails when a receiver is already waiting",
+            expectedExceptions = IllegalStateException.class)
+    public void testConcurrentReceivers() {
+        MessageQueue queue = new MessageQueue();
+        queue.receive(message -> { });
+        queue.receive(message -> { });
+    }
+}
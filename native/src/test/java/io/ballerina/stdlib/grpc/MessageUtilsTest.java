@@ -37,6 +37,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 
 import static io.ballerina.stdlib.grpc.GrpcConstants.GRPC_MESSAGE_KEY;
 import static io.ballerina.stdlib.grpc.GrpcConstants.GRPC_STATUS_KEY;
@@ -50,6 +54,7 @@ import static io.ballerina.stdlib.grpc.MessageUtils.headersRequired;
 import static io.ballerina.stdlib.grpc.MessageUtils.httpStatusToGrpcStatus;
 import static io.ballerina.stdlib.grpc.MessageUtils.isEmptyResponse;
 import static io.ballerina.stdlib.grpc.MessageUtils.isGrpcContentType;
+import static io.ballerina.stdlib.grpc.MessageUtils.notifyWhenReady;
 import static io.ballerina.stdlib.grpc.MessageUtils.readAsString;
 import static io.ballerina.stdlib.grpc.MessageUtils.statusCodeToHttpCode;
 import static io.ballerina.stdlib.grpc.MessageUtils.statusFromTrailers;
@@ -74,6 +79,7 @@ import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -345,4 +351,74 @@ public class MessageUtilsTest {
         Status status = statusFromTrailers(headers);
         assertEquals(status.getDescription(), "missing GRPC status in response");
     }
+
+    @Test(description = "Test whether a producer waiting for a stream is resumed only once it is ready or closed")
+    public void testNotifyWhenReady() {
+        List<Object> results = new ArrayList<>();
+        TestObserver observer = new TestObserver();
+        notifyWhenReady(observer, results::add);
+        // The observer is notified while another producer has filled the transport again.
+        observer.notifyListeners();
+        assertTrue(results.isEmpty());
+        observer.ready = true;
+        observer.notifyListeners();
+        assertEquals(results.size(), 1);
+        assertNull(results.get(0));
+
+        TestObserver closedObserver = new TestObserver();
+        notifyWhenReady(closedObserver, results::add);
+        closedObserver.closed = true;
+        closedObserver.notifyListeners();
+        assertEquals(results.size(), 2);
+        assertTrue(results.get(1) instanceof BError);
+    }
+
+    /**
+     * Stream observer whose readiness is set by the test.
+     */
+    private static final class TestObserver implements CallStreamObserver {
+
+        private final Deque<Runnable> onReadyListeners = new ArrayDeque<>();
+        private boolean ready;
+        private boolean closed;
+
+        void notifyListeners() {
+            Runnable listener;
+            int pending = onReadyListeners.size();
+            while (pending-- > 0 && (listener = onReadyListeners.poll()) != null) {
+                listener.run();
+            }
+        }
+
+        @Override
+        public void onNext(Message value) {
+        }
+
+        @Override
+        public void onError(Message t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void notifyWhenReady(Runnable onReadyListener) {
+            onReadyListeners.add(onReadyListener);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.stdlib.grpc.MessageUtils.createHttpCarbonMessage;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test OutboundBuffer class functions.
+ */
+public class OutboundBufferTest {
+
+    @Test(description = "Test whether a producer waiting for capacity is resumed once the transport releases the " +
+            "queued frames")
+    public void testBlock() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        List<HttpContent> transport = new ArrayList<>();
+        List<Runnable> drainTasks = new ArrayList<>();
+        OutboundBuffer buffer = new OutboundBuffer(transport::add, flowController, new OutboundBufferConfig(1024, 2,
+                OutboundBufferConfig.OverflowPolicy.BLOCK));
+        buffer.setDrainExecutor(drainTasks::add);
+        assertTrue(buffer.blocksProducer());
+        for (int i = 0; i < 3; i++) {
+            buffer.addMessage(content(buffer, 10));
+        }
+        assertFalse(buffer.hasCapacity());
+        AtomicInteger resumed = new AtomicInteger();
+        buffer.notifyWhenCapacity(resumed::incrementAndGet);
+        assertEquals(resumed.get(), 0);
+
+        // The producer is resumed in the executor of the call, not in the transport thread.
+        transport.get(0).release();
+        assertEquals(resumed.get(), 0);
+        assertEquals(drainTasks.size(), 1);
+        drainTasks.get(0).run();
+        assertEquals(resumed.get(), 1);
+        assertTrue(buffer.hasCapacity());
+        assertEquals(flowController.getQueuedFrames(), 2);
+    }
+
+    @Test(description = "Test whether resetting a call resumes a producer waiting for capacity")
+    public void testAbortBlockedProducer() {
+        OutboundMessage outboundMessage = new OutboundMessage(createHttpCarbonMessage(false),
+                new OutboundBufferConfig(1024, 1, OutboundBufferConfig.OverflowPolicy.BLOCK));
+        outboundMessage.setMessageCompression(false);
+        // The transport does not write the frames, so the second message fills the buffer.
+        outboundMessage.sendMessage(new ByteArrayInputStream(new byte[10]));
+        assertTrue(outboundMessage.hasCapacity());
+        outboundMessage.sendMessage(new ByteArrayInputStream(new byte[10]));
+        assertFalse(outboundMessage.hasCapacity());
+        AtomicInteger resumed = new AtomicInteger();
+        outboundMessage.notifyWhenCapacity(resumed::incrementAndGet);
+        assertEquals(resumed.get(), 0);
+
+        outboundMessage.sendError(Status.Code.DEADLINE_EXCEEDED.toStatus());
+        assertEquals(resumed.get(), 1);
+    }
+
+    @Test(description = "Test whether a message which does not fit into the outbound buffer fails the call")
+    public void testFail() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        List<HttpContent> transport = new ArrayList<>();
+        OutboundBuffer buffer = new OutboundBuffer(transport::add, flowController, new OutboundBufferConfig(1024, 1,
+                OutboundBufferConfig.OverflowPolicy.FAIL));
+        buffer.addMessage(content(buffer, 10));
+        HttpContent overflow = content(buffer, 10);
+        try {
+            buffer.addMessage(overflow);
+            fail("Message is written while the buffer is full");
+        } catch (StatusRuntimeException e) {
+            assertEquals(e.getStatus().getCode(), Status.Code.RESOURCE_EXHAUSTED);
+        }
+        assertEquals(transport.size(), 1);
+        assertEquals(overflow.refCnt(), 0);
+        assertEquals(flowController.getQueuedFrames(), 1);
+    }
+
+    @Test(description = "Test whether the oldest held messages are dropped once the outbound buffer is full")
+    public void testDropOldest() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        List<HttpContent> transport = new ArrayList<>();
+        List<Runnable> drainTasks = new ArrayList<>();
+        OutboundBuffer buffer = new OutboundBuffer(transport::add, flowController, new OutboundBufferConfig(1024, 2,
+                OutboundBufferConfig.OverflowPolicy.DROP_OLDEST));
+        buffer.setDrainExecutor(drainTasks::add);
+        assertTrue(buffer.dropsMessages());
+        // A large message keeps the transport busy, so that the following messages are held in the buffer.
+        HttpContent large = content(buffer, OutboundFlowController.DEFAULT_ONREADY_THRESHOLD + 1);
+        buffer.addMessage(large);
+        assertEquals(transport.size(), 1);
+        HttpContent dropped = content(buffer, 10);
+        buffer.addMessage(dropped);
+        HttpContent second = content(buffer, 10);
+        buffer.addMessage(second);
+        HttpContent third = content(buffer, 10);
+        buffer.addMessage(third);
+        assertEquals(transport.size(), 1);
+        assertEquals(dropped.refCnt(), 0);
+
+        // The held messages are handed over in the executor of the call, not in the transport thread.
+        large.release();
+        assertEquals(transport.size(), 1);
+        assertEquals(drainTasks.size(), 1);
+        drainTasks.get(0).run();
+        assertEquals(transport.size(), 3);
+        assertSame(transport.get(1), second);
+        assertSame(transport.get(2), third);
+        assertFalse(flowController.getQueuedFrames() > 2);
+    }
+
+    @Test(description = "Test whether resetting a call writes the reset content before any held message")
+    public void testResetDropOldest() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        List<HttpContent> transport = new ArrayList<>();
+        OutboundBuffer buffer = new OutboundBuffer(transport::add, flowController, new OutboundBufferConfig(1024, 2,
+                OutboundBufferConfig.OverflowPolicy.DROP_OLDEST));
+        // Without an executor, releasing a frame drains the buffer in the calling thread.
+        HttpContent large = content(buffer, OutboundFlowController.DEFAULT_ONREADY_THRESHOLD + 1);
+        buffer.addMessage(large);
+        HttpContent first = content(buffer, 10);
+        buffer.addMessage(first);
+        HttpContent second = content(buffer, 10);
+        buffer.addMessage(second);
+        assertEquals(transport.size(), 1);
+
+        HttpContent reset = new DefaultHttpContent(buffer.wrap(ByteBuffer.allocate(0)));
+        buffer.reset(reset);
+        assertEquals(transport.size(), 2);
+        assertSame(transport.get(1), reset);
+        assertEquals(first.refCnt(), 0);
+        assertEquals(second.refCnt(), 0);
+    }
+
+    private static HttpContent content(OutboundBuffer buffer, int length) {
+        return new DefaultHttpContent(buffer.wrap(ByteBuffer.allocate(length)));
+    }
+}
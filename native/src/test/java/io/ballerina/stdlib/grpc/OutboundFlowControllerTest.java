@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import io.netty.buffer.ByteBuf;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test OutboundFlowController class functions.
+ */
+public class OutboundFlowControllerTest {
+
+    @Test(description = "Test whether the controller becomes ready once the transport releases the queued frames")
+    public void testReadyAfterRelease() {
+        OutboundFlowController flowController = new OutboundFlowController(100);
+        AtomicInteger notified = new AtomicInteger();
+        ByteBuf first = flowController.wrap(ByteBuffer.allocate(60));
+        assertTrue(flowController.isReady());
+        ByteBuf second = flowController.wrap(ByteBuffer.allocate(60));
+        assertFalse(flowController.isReady());
+        assertEquals(flowController.getQueuedBytes(), 120);
+
+        flowController.notifyWhenReady(notified::incrementAndGet);
+        assertEquals(notified.get(), 0);
+        first.release();
+        assertTrue(flowController.isReady());
+        assertEquals(notified.get(), 1);
+        second.release();
+        assertEquals(flowController.getQueuedBytes(), 0);
+        assertEquals(notified.get(), 1);
+    }
+
+    @Test(description = "Test whether pending listeners are notified when the controller is closed")
+    public void testNotifyOnClose() {
+        OutboundFlowController flowController = new OutboundFlowController(10);
+        AtomicInteger notified = new AtomicInteger();
+        flowController.wrap(ByteBuffer.allocate(20));
+        flowController.notifyWhenReady(notified::incrementAndGet);
+        flowController.close();
+        assertEquals(notified.get(), 1);
+        assertFalse(flowController.isReady());
+    }
+
+    @Test(description = "Test whether a capacity listener is notified once the queued frames are within the limits")
+    public void testNotifyWithinLimits() {
+        OutboundFlowController flowController = new OutboundFlowController();
+        AtomicInteger notified = new AtomicInteger();
+        ByteBuf first = flowController.wrap(ByteBuffer.allocate(10));
+        assertFalse(flowController.notifyWhenWithinLimits(1024, 1, notified::incrementAndGet));
+        ByteBuf second = flowController.wrap(ByteBuffer.allocate(10));
+        assertTrue(flowController.notifyWhenWithinLimits(1024, 1, notified::incrementAndGet));
+        assertEquals(notified.get(), 0);
+        first.release();
+        assertEquals(notified.get(), 1);
+        second.release();
+        assertEquals(notified.get(), 1);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * A test class to test ResponseCache class functions.
+ */
+public class ResponseCacheTest {
+
+    private static final long TTL = 60_000_000_000L;
+
+    @Test(description = "Test whether a response is served for the same request and key headers only")
+    public void testKeys() {
+        ResponseCache cache = new ResponseCache("test", TTL, 10, 1024, List.of("tenant"));
+        HttpHeaders headers = new DefaultHttpHeaders().add("tenant", "a").add("x-other", "1");
+        cache.put(cache.newKey(headers, new byte[]{1, 2}), new byte[]{3});
+
+        assertEquals(cache.get(cache.newKey(new DefaultHttpHeaders().add("tenant", "a"), new byte[]{1, 2})),
+                new byte[]{3});
+        assertNull(cache.get(cache.newKey(new DefaultHttpHeaders().add("tenant", "b"), new byte[]{1, 2})));
+        assertNull(cache.get(cache.newKey(headers, new byte[]{1, 3})));
+        assertNull(cache.get(cache.newKey(new DefaultHttpHeaders().add("tenant", "a")
+                .add(CallKey.AUTHORIZATION_HEADER, "Bearer token"), new byte[]{1, 2})));
+    }
+
+    @Test(description = "Test whether the least recently used responses are evicted")
+    public void testEviction() {
+        ResponseCache cache = new ResponseCache("test", TTL, 2, 1024, List.of());
+        CallKey first = cache.newKey(null, new byte[]{1});
+        CallKey second = cache.newKey(null, new byte[]{2});
+        CallKey third = cache.newKey(null, new byte[]{3});
+        cache.put(first, new byte[]{1});
+        cache.put(second, new byte[]{2});
+        cache.get(first);
+        cache.put(third, new byte[]{3});
+
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.get(first), new byte[]{1});
+        assertNull(cache.get(second));
+        assertEquals(cache.get(third), new byte[]{3});
+    }
+
+    @Test(description = "Test whether the responses are evicted once the maximum bytes is reached")
+    public void testMaxBytes() {
+        ResponseCache cache = new ResponseCache("test", TTL, 10, 10, List.of());
+        CallKey first = cache.newKey(null, new byte[]{1});
+        CallKey second = cache.newKey(null, new byte[]{2});
+        cache.put(first, new byte[5]);
+        cache.put(second, new byte[5]);
+        assertNull(cache.get(first));
+        assertEquals(cache.get(second), new byte[5]);
+
+        // A response larger than the cache is not cached.
+        cache.put(cache.newKey(null, new byte[]{3}), new byte[10]);
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test(description = "Test whether a response is not served once its time to live is elapsed")
+    public void testExpiry() throws InterruptedException {
+        ResponseCache cache = new ResponseCache("test", 1_000_000L, 10, 1024, List.of());
+        CallKey key = cache.newKey(null, new byte[]{1});
+        cache.put(key, new byte[]{1});
+        Thread.sleep(5);
+        assertNull(cache.get(key));
+        assertEquals(cache.size(), 0);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test SerializingExecutor class functions.
+ */
+public class SerializingExecutorTest {
+
+    @Test(description = "Test whether the tasks are run one after the other in submission order")
+    public void testTaskOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        SerializingExecutor serializingExecutor = new SerializingExecutor(executor);
+        List<Integer> results = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = i;
+            serializingExecutor.execute(() -> results.add(value));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(results.size(), 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(results.get(i).intValue(), i);
+        }
+    }
+
+    @Test(description = "Test whether a task rejected by the shared executor is not run")
+    public void testRejectedTask() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        SerializingExecutor serializingExecutor = new SerializingExecutor(executor);
+        List<Integer> results = new ArrayList<>();
+        try {
+            serializingExecutor.execute(() -> results.add(1));
+            fail("Expected the task to be rejected");
+        } catch (RejectedExecutionException e) {
+            assertTrue(results.isEmpty());
+        }
+    }
+
+    @Test(description = "Test whether the tasks queued while the shared executor rejects a task are not stranded")
+    public void testTasksQueuedWhileRejecting() {
+        List<String> results = new ArrayList<>();
+        SerializingExecutor[] serializingExecutor = new SerializingExecutor[1];
+        // Queues tasks behind the task being scheduled, as another thread would, and then rejects it.
+        serializingExecutor[0] = new SerializingExecutor(command -> {
+            serializingExecutor[0].execute(() -> results.add("run 2"), () -> results.add("rejected 2"));
+            serializingExecutor[0].execute(() -> results.add("run 3"));
+            throw new RejectedExecutionException("Rejected");
+        });
+        try {
+            serializingExecutor[0].execute(() -> results.add("run 1"));
+            fail("Expected the task to be rejected");
+        } catch (RejectedExecutionException e) {
+            assertEquals(results, List.of("rejected 2", "run 3"));
+        }
+    }
+
+    @Test(description = "Test whether the rejection handler is run instead of a rejected task")
+    public void testRejectionHandler() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        SerializingExecutor serializingExecutor = new SerializingExecutor(executor);
+        List<String> results = new ArrayList<>();
+        serializingExecutor.execute(() -> results.add("run"), () -> results.add("rejected"));
+        assertEquals(results, List.of("rejected"));
+        serializingExecutor.execute(() -> results.add("run"), () -> results.add("rejected"));
+        assertEquals(results, List.of("rejected", "rejected"));
+    }
+}
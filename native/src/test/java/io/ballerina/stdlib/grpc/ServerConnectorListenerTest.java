@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc;
+
+import io.ballerina.stdlib.grpc.exception.GrpcServerException;
+import io.ballerina.stdlib.grpc.listener.TestServerCallHandler;
+import io.ballerina.stdlib.grpc.util.TestUtils;
+import io.ballerina.stdlib.http.transport.contract.HttpConnectorListener;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.grpc.util.TestUtils.newRequest;
+import static io.ballerina.stdlib.grpc.util.TestUtils.newServerConnectorListener;
+import static io.ballerina.stdlib.grpc.util.TestUtils.newTestMethod;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test ServerConnectorListener class functions.
+ */
+public class ServerConnectorListenerTest {
+
+    @Test(description = "Test whether a graceful stop waits for the in-flight calls and refuses the new calls")
+    public void testGracefulStop() throws Exception {
+        BlockingQueue<ServerCall> calls = new LinkedBlockingQueue<>();
+        ServerConnectorListener listener = newServerConnectorListener(calls);
+        try {
+            listener.onMessage(newRequest());
+            ServerCall call = calls.poll(10, TimeUnit.SECONDS);
+            assertNotNull(call);
+            listener.shutdown();
+
+            HttpCarbonMessage refused = newRequest();
+            List<HttpCarbonMessage> responses = new ArrayList<>();
+            refused.getHttpResponseFuture().setHttpConnectorListener(new HttpConnectorListener() {
+                @Override
+                public void onMessage(HttpCarbonMessage httpMessage) {
+                    responses.add(httpMessage);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail("Refused call is not responded", throwable);
+                }
+            });
+            listener.onMessage(refused);
+            assertEquals(responses.size(), 1);
+            assertEquals(responses.get(0).getHeader(GrpcConstants.GRPC_STATUS_KEY),
+                    Status.Code.UNAVAILABLE.toString());
+            assertTrue(calls.isEmpty());
+
+            // The in-flight call is drained once it is completed.
+            assertFalse(listener.awaitCalls(TimeUnit.MILLISECONDS.toNanos(100)));
+            call.close(Status.Code.OK.toStatus(), new DefaultHttpHeaders());
+            assertTrue(listener.awaitCalls(TimeUnit.SECONDS.toNanos(10)));
+        } finally {
+            listener.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test whether a call aborted while waiting for a concurrency limit gives up its place")
+    public void testAbortQueuedCall() throws Exception {
+        BlockingQueue<ServerCall> calls = new LinkedBlockingQueue<>();
+        Bulkhead bulkhead = new Bulkhead("TestService", 1, 1, 0);
+        ServerConnectorListener listener = newListener(calls, bulkhead);
+        // The only permit is held by the test, so that the call waits in the queue of the bulkhead.
+        assertTrue(bulkhead.tryAcquire(() -> { }));
+        HttpCarbonMessage queued = newRequest();
+        List<HttpCarbonMessage> responses = new ArrayList<>();
+        queued.getHttpResponseFuture().setHttpConnectorListener(new HttpConnectorListener() {
+            @Override
+            public void onMessage(HttpCarbonMessage httpMessage) {
+                responses.add(httpMessage);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail("Aborted call is not responded", throwable);
+            }
+        });
+        listener.onMessage(queued);
+        assertEquals(bulkhead.getQueuedCalls(), 1);
+
+        listener.shutdownNow();
+        assertEquals(bulkhead.getQueuedCalls(), 0);
+        assertEquals(responses.size(), 1);
+        assertEquals(responses.get(0).getHeader(GrpcConstants.GRPC_STATUS_KEY),
+                Status.Code.UNAVAILABLE.toString());
+        assertTrue(listener.awaitCalls(TimeUnit.SECONDS.toNanos(10)));
+
+        // The permit is not handed over to the aborted call once it is released.
+        bulkhead.release();
+        assertEquals(bulkhead.getActiveCalls(), 0);
+        assertTrue(calls.isEmpty());
+    }
+
+    private static ServerConnectorListener newListener(BlockingQueue<ServerCall> calls, Bulkhead bulkhead)
+            throws GrpcServerException {
+        ServerServiceDefinition.Builder service = ServerServiceDefinition.builder(TestUtils.TEST_SERVICE);
+        service.addMethod(ServerMethodDefinition.create(newTestMethod(), new TestServerCallHandler(calls), bulkhead));
+        return newServerConnectorListener(service.build());
+    }
+}
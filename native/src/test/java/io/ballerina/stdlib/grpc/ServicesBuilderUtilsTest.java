@@ -35,6 +35,8 @@ import java.util.Map;
 import static io.ballerina.stdlib.grpc.ServicesBuilderUtils.getServiceDefinition;
 import static io.ballerina.stdlib.grpc.util.TestUtils.getBObject;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.fail;
 
 /**
@@ -144,4 +146,18 @@ public class ServicesBuilderUtilsTest {
             assertEquals(e.getMessage(), "Couldn't find the service descriptor for the service: testRPC");
         }
     }
+
+    @Test(description = "Test whether the adaptive concurrency limit applies only to the simple remote functions")
+    public void testGetLimiter() {
+        AdaptiveLimitConfig config = new AdaptiveLimitConfig(20, 1, 1000);
+        assertNotNull(ServicesBuilderUtils.getLimiter("TestService/Unary", MethodDescriptor.MethodType.UNARY,
+                config));
+        assertNull(ServicesBuilderUtils.getLimiter("TestService/ServerStreaming",
+                MethodDescriptor.MethodType.SERVER_STREAMING, config));
+        assertNull(ServicesBuilderUtils.getLimiter("TestService/ClientStreaming",
+                MethodDescriptor.MethodType.CLIENT_STREAMING, config));
+        assertNull(ServicesBuilderUtils.getLimiter("TestService/BidiStreaming",
+                MethodDescriptor.MethodType.BIDI_STREAMING, config));
+        assertNull(ServicesBuilderUtils.getLimiter("TestService/Unary", MethodDescriptor.MethodType.UNARY, null));
+    }
 }
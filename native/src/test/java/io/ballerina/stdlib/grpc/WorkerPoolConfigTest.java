@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * A test class to test WorkerPoolConfig class functions.
+ */
+public class WorkerPoolConfigTest {
+
+    @Test(description = "Test whether calls are rejected once the workers and the bounded queue are full")
+    public void testBoundedQueueRejection() throws InterruptedException {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) new WorkerPoolConfig(1, WorkerPoolConfig.QueueType.BOUNDED,
+                1).newExecutor(Thread.currentThread().getThreadGroup(), "worker-pool-test");
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+            try {
+                executor.execute(() -> awaitQuietly(release));
+                fail("Expected the call to be rejected");
+            } catch (RejectedExecutionException e) {
+                assertEquals(executor.getQueue().size(), 1);
+            }
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "Test whether the default worker pool keeps the fixed pool size")
+    public void testDefaultPool() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) WorkerPoolConfig.DEFAULT.newExecutor(
+                Thread.currentThread().getThreadGroup(), "worker-pool-test");
+        assertEquals(executor.getCorePoolSize(), 10);
+        assertEquals(executor.getMaximumPoolSize(), 10);
+        executor.shutdown();
+    }
+
+    @Test(description = "Test whether the idle workers of a pool with an idle timeout exit")
+    public void testIdleTimeout() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) WorkerPoolConfig.DEFAULT.newExecutor(
+                Thread.currentThread().getThreadGroup(), "worker-pool-test", 60);
+        assertTrue(executor.allowsCoreThreadTimeOut());
+        assertEquals(executor.getKeepAliveTime(TimeUnit.SECONDS), 60L);
+        executor.shutdown();
+    }
+
+    @Test(description = "Test whether the virtual thread mode runs the tasks, falling back to platform threads when " +
+            "the JDK does not support virtual threads")
+    public void testVirtualThreadMode() throws InterruptedException {
+        ExecutorService executor = new WorkerPoolConfig(1, WorkerPoolConfig.QueueType.DIRECT, 0, true)
+                .newExecutor(Thread.currentThread().getThreadGroup(), "worker-pool-test");
+        assertEquals(executor instanceof ThreadPoolExecutor, !GrpcThreadFactory.isVirtualThreadSupported());
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
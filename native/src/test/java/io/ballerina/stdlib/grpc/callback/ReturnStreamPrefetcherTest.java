@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc.callback;
+
+import com.google.protobuf.StringValue;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.stdlib.grpc.CallStreamObserver;
+import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.Status;
+import io.ballerina.stdlib.grpc.exception.StatusRuntimeException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * A test class to test ReturnStreamPrefetcher class functions.
+ */
+public class ReturnStreamPrefetcherTest {
+
+    @Test(description = "Test whether the messages of the stream are sent in order, including the ones received " +
+            "while a batch is written")
+    public void testOrdering() {
+        TestObserver observer = new TestObserver();
+        Deque<Callback> pulls = new ArrayDeque<>();
+        ReturnStreamPrefetcher prefetcher = newPrefetcher(observer, pulls);
+        // The stream produces the next messages while the first one is written.
+        observer.onWrite = () -> {
+            observer.onWrite = null;
+            pulls.poll().notifySuccess("second");
+            pulls.poll().notifySuccess("third");
+        };
+        prefetcher.start();
+        pulls.poll().notifySuccess("first");
+        pulls.poll().notifySuccess("fourth");
+        pulls.poll().notifySuccess(null);
+
+        assertEquals(observer.messages, Arrays.asList("first", "second", "third", "fourth"));
+        assertTrue(observer.completed);
+        assertNull(observer.error);
+        assertTrue(pulls.isEmpty());
+    }
+
+    @Test(description = "Test whether the messages received before an error of the stream are sent before the " +
+            "call is failed")
+    public void testFailureWithinBatch() {
+        TestObserver observer = new TestObserver();
+        Deque<Callback> pulls = new ArrayDeque<>();
+        ReturnStreamPrefetcher prefetcher = newPrefetcher(observer, pulls);
+        // The stream fails while the first message is written, after producing the second one.
+        observer.onWrite = () -> {
+            observer.onWrite = null;
+            pulls.poll().notifySuccess("second");
+            pulls.poll().notifySuccess(ErrorCreator.createError(StringUtils.fromString("Stream failed")));
+        };
+        prefetcher.start();
+        pulls.poll().notifySuccess("first");
+
+        assertEquals(observer.messages, Arrays.asList("first", "second"));
+        assertFalse(observer.completed);
+        assertEquals(observer.error.getStatus().getCode(), Status.Code.INTERNAL);
+        assertTrue(pulls.isEmpty());
+    }
+
+    @Test(description = "Test whether the stream is not pulled ahead while the call is not ready")
+    public void testNotReady() {
+        TestObserver observer = new TestObserver();
+        Deque<Callback> pulls = new ArrayDeque<>();
+        ReturnStreamPrefetcher prefetcher = newPrefetcher(observer, pulls);
+        observer.ready = false;
+        prefetcher.start();
+        assertTrue(pulls.isEmpty());
+        assertEquals(observer.onReadyListeners.size(), 1);
+
+        observer.ready = true;
+        observer.onReadyListeners.poll().run();
+        assertEquals(pulls.size(), 1);
+        observer.ready = false;
+        pulls.poll().notifySuccess("first");
+        // The received message is still written, but the next one is not pulled until the call is ready.
+        assertEquals(observer.messages, Arrays.asList("first"));
+        assertTrue(pulls.isEmpty());
+
+        observer.ready = true;
+        observer.onReadyListeners.poll().run();
+        pulls.poll().notifySuccess(null);
+        assertTrue(observer.completed);
+    }
+
+    private static ReturnStreamPrefetcher newPrefetcher(TestObserver observer, Deque<Callback> pulls) {
+        return new ReturnStreamPrefetcher(observer, StringValue.getDescriptor(), callback -> {
+            pulls.add(callback);
+            return null;
+        }, null);
+    }
+
+    /**
+     * Response observer which records the sent messages, and the completion of the call.
+     */
+    private static final class TestObserver implements CallStreamObserver {
+
+        private final List<Object> messages = new ArrayList<>();
+        private final Deque<Runnable> onReadyListeners = new ArrayDeque<>();
+        private Runnable onWrite;
+        private boolean ready = true;
+        private boolean completed;
+        private StatusRuntimeException error;
+
+        @Override
+        public void onNext(Message value) {
+            messages.add(value.getbMessage());
+            Runnable listener = onWrite;
+            if (listener != null) {
+                listener.run();
+            }
+        }
+
+        @Override
+        public void onError(Message t) {
+            error = (StatusRuntimeException) t.getError();
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void notifyWhenReady(Runnable onReadyListener) {
+            onReadyListeners.add(onReadyListener);
+        }
+
+        @Override
+        public boolean isClosed() {
+            return completed || error != null;
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+    }
+}
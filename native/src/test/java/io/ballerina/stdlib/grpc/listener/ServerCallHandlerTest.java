@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.grpc.listener;
+
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.stdlib.grpc.ServerCall;
+import io.ballerina.stdlib.grpc.ServerConnectorListener;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.stdlib.grpc.util.TestUtils.newRequest;
+import static io.ballerina.stdlib.grpc.util.TestUtils.newServerConnectorListener;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * A test class to test ServerCallHandler class functions.
+ */
+public class ServerCallHandlerTest {
+
+    @Test(description = "Test whether the resource strand of a call is cancelled once the call is cancelled")
+    public void testCancelResourceStrand() throws Exception {
+        testCancel(false);
+    }
+
+    @Test(description = "Test whether a resource strand which is tracked after the call is cancelled is cancelled " +
+            "right away")
+    public void testCancelBeforeResourceStrand() throws Exception {
+        testCancel(true);
+    }
+
+    private static void testCancel(boolean cancelFirst) throws Exception {
+        BlockingQueue<ServerCall> calls = new LinkedBlockingQueue<>();
+        ServerConnectorListener listener = newServerConnectorListener(calls);
+        try {
+            listener.onMessage(newRequest());
+            ServerCall call = calls.poll(10, TimeUnit.SECONDS);
+            assertNotNull(call);
+            ServerCallHandler.ServerCallStreamObserver observer = new ServerCallHandler.ServerCallStreamObserver(call);
+            AtomicInteger cancels = new AtomicInteger();
+            if (cancelFirst) {
+                observer.cancel();
+                observer.setResourceFuture(newFuture(cancels));
+            } else {
+                observer.setResourceFuture(newFuture(cancels));
+                assertEquals(cancels.get(), 0);
+                observer.cancel();
+            }
+            assertEquals(cancels.get(), 1);
+        } finally {
+            listener.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns a future of a strand, which counts the times it is cancelled.
+     */
+    private static BFuture newFuture(AtomicInteger cancels) {
+        return (BFuture) Proxy.newProxyInstance(BFuture.class.getClassLoader(), new Class<?>[]{BFuture.class},
+                (proxy, method, args) -> {
+                    if ("cancel".equals(method.getName())) {
+                        cancels.incrementAndGet();
+                    }
+                    return method.getReturnType() == boolean.class ? false : null;
+                });
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.grpc.listener;
+
+import io.ballerina.stdlib.grpc.Message;
+import io.ballerina.stdlib.grpc.ServerCall;
+
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A server call handler to be used for native tests, which hands over the started calls to the test.
+ */
+public class TestServerCallHandler extends ServerCallHandler {
+
+    private final BlockingQueue<ServerCall> calls;
+
+    public TestServerCallHandler(BlockingQueue<ServerCall> calls) {
+        super(null);
+        this.calls = calls;
+    }
+
+    @Override
+    public Listener startCall(ServerCall call) {
+        calls.add(call);
+        return new Listener() {
+            @Override
+            public void onMessage(Message message) {
+            }
+
+            @Override
+            public void onHalfClose() {
+            }
+
+            @Override
+            public void onCancel(Message message) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+    }
+}
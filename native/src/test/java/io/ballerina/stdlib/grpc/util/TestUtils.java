@@ -35,16 +35,31 @@ import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.ValueCreator;
+import io.ballerina.stdlib.grpc.GrpcConstants;
+import io.ballerina.stdlib.grpc.MessageUtils;
+import io.ballerina.stdlib.grpc.MethodDescriptor;
+import io.ballerina.stdlib.grpc.ServerCall;
+import io.ballerina.stdlib.grpc.ServerConnectorListener;
+import io.ballerina.stdlib.grpc.ServerServiceDefinition;
+import io.ballerina.stdlib.grpc.ServicesRegistry;
+import io.ballerina.stdlib.grpc.exception.GrpcServerException;
+import io.ballerina.stdlib.grpc.listener.TestServerCallHandler;
 import io.ballerina.stdlib.grpc.nativeimpl.ModuleUtils;
+import io.ballerina.stdlib.http.transport.contract.Constants;
+import io.ballerina.stdlib.http.transport.message.HttpCarbonMessage;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * A util class to be used for native tests.
  */
 public class TestUtils {
 
+    public static final String TEST_SERVICE = "TestService";
+    public static final String TEST_METHOD = TEST_SERVICE + "/TestMethod";
+
     public static ValueCreator getValueCreatorWithErrorValue() {
         return new ValueCreator() {
             @Override
@@ -192,4 +207,39 @@ public class TestUtils {
             }
         };
     }
+
+    /**
+     * Creates a listener which serves the bidirectional streaming method {@link #TEST_METHOD}, and hands over the
+     * started calls to the given queue.
+     */
+    public static ServerConnectorListener newServerConnectorListener(BlockingQueue<ServerCall> calls)
+            throws GrpcServerException {
+        ServerServiceDefinition.Builder service = ServerServiceDefinition.builder(TEST_SERVICE);
+        service.addMethod(newTestMethod(), new TestServerCallHandler(calls));
+        return newServerConnectorListener(service.build());
+    }
+
+    public static ServerConnectorListener newServerConnectorListener(ServerServiceDefinition service) {
+        ServicesRegistry.Builder registry = new ServicesRegistry.Builder();
+        registry.addService(service);
+        Map<String, Long> messageSizeMap = new HashMap<>();
+        messageSizeMap.put(GrpcConstants.MAX_INBOUND_MESSAGE_SIZE, 4194304L);
+        return new ServerConnectorListener(registry.build(), messageSizeMap);
+    }
+
+    public static MethodDescriptor newTestMethod() {
+        return MethodDescriptor.newBuilder().setFullMethodName(TEST_METHOD)
+                .setType(MethodDescriptor.MethodType.BIDI_STREAMING).build();
+    }
+
+    /**
+     * Creates a request to {@link #TEST_METHOD}.
+     */
+    public static HttpCarbonMessage newRequest() {
+        HttpCarbonMessage request = MessageUtils.createHttpCarbonMessage(true);
+        request.setProperty(Constants.TO, "/" + TEST_METHOD);
+        request.setHttpMethod("POST");
+        request.setHeader("content-type", GrpcConstants.CONTENT_TYPE_GRPC);
+        return request;
+    }
 }
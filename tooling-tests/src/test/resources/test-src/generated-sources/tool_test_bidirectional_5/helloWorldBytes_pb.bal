@@ -61,6 +61,14 @@ public client class HelloStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class HelloWorldByteCaller {
@@ -93,5 +101,13 @@ public client class HelloWorldByteCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
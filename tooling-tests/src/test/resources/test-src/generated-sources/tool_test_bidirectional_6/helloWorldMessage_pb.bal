@@ -66,6 +66,14 @@ public client class HelloStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class ByeStreamingClient {
@@ -110,6 +118,14 @@ public client class ByeStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class HelloWorldByeResponseCaller {
@@ -142,6 +158,14 @@ public client class HelloWorldByeResponseCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public client class HelloWorldHelloResponseCaller {
@@ -174,6 +198,14 @@ public client class HelloWorldHelloResponseCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public type ContextByeResponseStream record {|
@@ -89,6 +89,14 @@ public client class GetTimeStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class SendTimeStreamingClient {
@@ -133,6 +141,14 @@ public client class SendTimeStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class ExchangeTimeStreamingClient {
@@ -177,6 +193,14 @@ public client class ExchangeTimeStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class GetGreetingStreamingClient {
@@ -221,6 +245,14 @@ public client class GetGreetingStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class SendGreetingStreamingClient {
@@ -265,6 +297,14 @@ public client class SendGreetingStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class ExchangeGreetingStreamingClient {
@@ -309,6 +349,14 @@ public client class ExchangeGreetingStreamingClient {
     isolated remote function complete() returns grpc:Error? {
         return self.sClient->complete();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.sClient.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.sClient.awaitReady();
+    }
 }
 
 public client class HelloWorldStringCaller {
@@ -341,6 +389,14 @@ public client class HelloWorldStringCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public client class HelloWorldGreetingCaller {
@@ -373,6 +429,14 @@ public client class HelloWorldGreetingCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public client class HelloWorldTimestampCaller {
@@ -405,6 +469,14 @@ public client class HelloWorldTimestampCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public type ContextGreetingStream record {|
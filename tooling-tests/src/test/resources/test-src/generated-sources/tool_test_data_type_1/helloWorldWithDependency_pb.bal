@@ -99,6 +99,14 @@ public client class HelloWorldWithDependencyHelloResponseCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public client class HelloWorldWithDependencyByeResponseCaller {
@@ -131,6 +139,14 @@ public client class HelloWorldWithDependencyByeResponseCaller {
     public isolated function isCancelled() returns boolean {
         return self.caller.isCancelled();
     }
+
+    public isolated function isReady() returns boolean {
+        return self.caller.isReady();
+    }
+
+    public isolated function awaitReady() returns grpc:Error? {
+        return self.caller.awaitReady();
+    }
 }
 
 public type ContextByeResponse record {|